@@ -1,9 +1,14 @@
 package com.example.eventura;
 
+import com.example.eventura.repository.KeysetJpaRepository;
 import org.springframework.boot.SpringApplication;
 import org.springframework.boot.autoconfigure.SpringBootApplication;
+import org.springframework.data.jpa.repository.config.EnableJpaRepositories;
+import org.springframework.scheduling.annotation.EnableScheduling;
 
 @SpringBootApplication
+@EnableScheduling
+@EnableJpaRepositories(repositoryBaseClass = KeysetJpaRepository.class)
 public class FullEventuraBackendApplication {
 
     public static void main(String[] args) {
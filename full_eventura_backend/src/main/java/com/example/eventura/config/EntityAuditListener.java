@@ -0,0 +1,195 @@
+package com.example.eventura.config;
+
+import com.example.eventura.entity.AccountPurgeJob;
+import com.example.eventura.entity.AnnouncementWatermark;
+import com.example.eventura.entity.EntityAuditLog;
+import com.example.eventura.entity.Notification;
+import com.example.eventura.entity.PortfolioAuditLog;
+import com.example.eventura.entity.ProjectionCheckpoint;
+import com.example.eventura.entity.RequestDailyStats;
+import com.example.eventura.entity.RequestEvent;
+import com.example.eventura.entity.RequestSummary;
+import com.example.eventura.service.AuditLogService;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitInsertEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostInsertEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.hibernate.proxy.HibernateProxy;
+import org.hibernate.type.Type;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.regex.Pattern;
+import java.util.stream.IntStream;
+
+/**
+ * Captures inserts, updates and deletes of every mapped entity once their transaction has
+ * committed, as a {"field": [old, new]} diff, and hands them to {@link AuditLogService}.
+ * Only the state Hibernate already holds is used, so auditing adds no queries to the write.
+ * <p>
+ * Bulk JPQL and JDBC statements raise no entity events and are not seen here. The request
+ * archive and the account purge record their own entries through
+ * {@link AuditLogService#recordAfterCommit}; the bulk notification writes (markAllRead,
+ * NotificationCompactor) fall under the Notification exclusion below.
+ */
+@Component
+@RequiredArgsConstructor
+public class EntityAuditListener
+        implements PostCommitInsertEventListener, PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(EntityAuditListener.class);
+
+    // Logs, projections, notifications and read markers, which are derived from tracked changes or user reads
+    private static final Set<Class<?>> EXCLUDED = Set.of(
+            EntityAuditLog.class, PortfolioAuditLog.class, RequestEvent.class, RequestSummary.class,
+            RequestDailyStats.class, ProjectionCheckpoint.class, AccountPurgeJob.class, Notification.class,
+            AnnouncementWatermark.class);
+
+    private static final Pattern SENSITIVE = Pattern.compile("(?i).*(password|otp|token|secret).*");
+    private static final String MASK = "***";
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final AuditLogService auditLogService;
+    private final ObjectMapper objectMapper;
+
+    @PostConstruct
+    void register() {
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_INSERT, this);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return !EXCLUDED.contains(persister.getMappedClass());
+    }
+
+    @Override
+    public void onPostInsert(PostInsertEvent event) {
+        EntityPersister persister = event.getPersister();
+        Map<String, Object[]> changes = new LinkedHashMap<>();
+        for (int i = 0; i < persister.getPropertyNames().length; i++) {
+            addChange(changes, persister, i, null, event.getState()[i], event.getSession());
+        }
+        record(persister, event.getId(), EntityAuditLog.Operation.INSERT, changes);
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        EntityPersister persister = event.getPersister();
+        Object[] oldState = event.getOldState();
+        Object[] state = event.getState();
+        // Dirty indexes are missing when the entity was updated without a snapshot, e.g. reattached
+        int[] dirty = event.getDirtyProperties() != null
+                ? event.getDirtyProperties()
+                : IntStream.range(0, state.length).toArray();
+        Map<String, Object[]> changes = new LinkedHashMap<>();
+        for (int i : dirty) {
+            addChange(changes, persister, i, oldState != null ? oldState[i] : null, state[i], event.getSession());
+        }
+        if (!changes.isEmpty()) {
+            record(persister, event.getId(), EntityAuditLog.Operation.UPDATE, changes);
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        EntityPersister persister = event.getPersister();
+        Object[] deletedState = event.getDeletedState();
+        Map<String, Object[]> changes = new LinkedHashMap<>();
+        if (deletedState != null) {
+            for (int i = 0; i < deletedState.length; i++) {
+                addChange(changes, persister, i, deletedState[i], null, event.getSession());
+            }
+        }
+        record(persister, event.getId(), EntityAuditLog.Operation.DELETE, changes);
+    }
+
+    @Override
+    public void onPostInsertCommitFailed(PostInsertEvent event) {
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    private void addChange(Map<String, Object[]> changes, EntityPersister persister, int index,
+                           Object oldValue, Object newValue, SharedSessionContractImplementor session) {
+        Type type = persister.getPropertyTypes()[index];
+        if (type.isCollectionType()) {
+            return;
+        }
+        Object from = simplify(type, oldValue, session);
+        Object to = simplify(type, newValue, session);
+        if (Objects.equals(from, to)) {
+            return;
+        }
+        String name = persister.getPropertyNames()[index];
+        if (SENSITIVE.matcher(name).matches()) {
+            changes.put(name, new Object[]{from == null ? null : MASK, to == null ? null : MASK});
+        } else {
+            changes.put(name, new Object[]{from, to});
+        }
+    }
+
+    // Associations are logged by id; proxies are never initialized for it
+    private Object simplify(Type type, Object value, SharedSessionContractImplementor session) {
+        if (value == null || !type.isEntityType()) {
+            return value;
+        }
+        if (value instanceof HibernateProxy proxy) {
+            return proxy.getHibernateLazyInitializer().getInternalIdentifier();
+        }
+        return session.getEntityPersister(null, value).getIdentifier(value, session);
+    }
+
+    private void record(EntityPersister persister, Object id, EntityAuditLog.Operation operation,
+                        Map<String, Object[]> changes) {
+        try {
+            auditLogService.enqueue(new AuditLogService.Entry(
+                    persister.getMappedClass().getSimpleName(), String.valueOf(id), operation,
+                    currentActor(), LocalDateTime.now(), objectMapper.writeValueAsString(changes)));
+        } catch (JsonProcessingException | RuntimeException e) {
+            // The change is already committed; a lost audit entry must not fail the request
+            logger.error("Failed to audit {} of {}#{}: {}", operation,
+                    persister.getMappedClass().getSimpleName(), id, e.getMessage());
+        }
+    }
+
+    // Email of the authenticated user, or null for scheduled jobs and anonymous flows
+    private static String currentActor() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()
+                || authentication instanceof AnonymousAuthenticationToken) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
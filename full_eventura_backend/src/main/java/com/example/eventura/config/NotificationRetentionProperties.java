@@ -0,0 +1,42 @@
+package com.example.eventura.config;
+
+import com.example.eventura.entity.Notification;
+import lombok.Data;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * How long notifications are kept, in days since they were created, separately for read and
+ * unread ones. {@code types.<TYPE>} overrides the defaults for one type; 0 keeps rows until
+ * their monthly partition is dropped.
+ */
+@Component
+@ConfigurationProperties("app.notifications.retention")
+@Data
+public class NotificationRetentionProperties {
+
+    private int readDays = 30;
+    private int unreadDays = 90;
+    private int batchSize = 500;
+    private Map<Notification.Type, Policy> types = new HashMap<>();
+
+    @Data
+    public static class Policy {
+        private Integer readDays;
+        private Integer unreadDays;
+    }
+
+    // type is null for rows written before notifications were typed
+    public int readDays(Notification.Type type) {
+        Policy policy = type == null ? null : types.get(type);
+        return policy != null && policy.getReadDays() != null ? policy.getReadDays() : readDays;
+    }
+
+    public int unreadDays(Notification.Type type) {
+        Policy policy = type == null ? null : types.get(type);
+        return policy != null && policy.getUnreadDays() != null ? policy.getUnreadDays() : unreadDays;
+    }
+}
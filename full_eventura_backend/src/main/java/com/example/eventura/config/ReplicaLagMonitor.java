@@ -0,0 +1,57 @@
+package com.example.eventura.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * Periodically checks replication delay on the replica. Reads are routed back to the
+ * primary while the replica is unreachable or further behind than the configured limit.
+ */
+public class ReplicaLagMonitor {
+
+    private static final Logger logger = LoggerFactory.getLogger(ReplicaLagMonitor.class);
+
+    private final JdbcTemplate replicaJdbcTemplate;
+    private final long maxLagSeconds;
+    private volatile boolean replicaUsable = true;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, long maxLagSeconds) {
+        this.replicaJdbcTemplate = new JdbcTemplate(replicaDataSource);
+        this.maxLagSeconds = maxLagSeconds;
+    }
+
+    public boolean isReplicaUsable() {
+        return replicaUsable;
+    }
+
+    @Scheduled(fixedDelayString = "${app.datasource.replica.lag-check-interval-ms:5000}")
+    public void checkLag() {
+        boolean usable;
+        try {
+            List<Long> lag = replicaJdbcTemplate.query("SHOW REPLICA STATUS",
+                    (rs, rowNum) -> {
+                        long seconds = rs.getLong("Seconds_Behind_Source");
+                        // NULL means the SQL thread is stopped, i.e. the replica is not applying changes
+                        return rs.wasNull() ? Long.MAX_VALUE : seconds;
+                    });
+            // An instance without replica status is a plain second database (e.g. local testing)
+            usable = lag.isEmpty() || lag.get(0) <= maxLagSeconds;
+            if (!usable) {
+                logger.warn("Replica is {}s behind (limit {}s), routing reads to primary",
+                        lag.get(0) == Long.MAX_VALUE ? "unknown" : lag.get(0), maxLagSeconds);
+            }
+        } catch (Exception e) {
+            logger.warn("Replica lag check failed, routing reads to primary: {}", e.getMessage());
+            usable = false;
+        }
+        if (usable && !replicaUsable) {
+            logger.info("Replica caught up, routing read-only transactions to replica again");
+        }
+        replicaUsable = usable;
+    }
+}
@@ -0,0 +1,102 @@
+package com.example.eventura.config;
+
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Sends read-only transactions to the replica and everything else to the primary.
+ * A user who just committed a write keeps reading from the primary for a short window
+ * (read-your-writes), and all reads fall back to the primary while the replica is lagging.
+ */
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    public enum Target {
+        PRIMARY, REPLICA
+    }
+
+    private static final int MAX_TRACKED_USERS = 10_000;
+
+    private static final ThreadLocal<Boolean> FORCE_PRIMARY = new ThreadLocal<>();
+
+    private final ReplicaLagMonitor lagMonitor;
+    private final long stickyWindowMillis;
+    private final Map<String, Long> lastWriteByUser = new ConcurrentHashMap<>();
+
+    public ReplicaRoutingDataSource(ReplicaLagMonitor lagMonitor, long stickyWindowMillis) {
+        this.lagMonitor = lagMonitor;
+        this.stickyWindowMillis = stickyWindowMillis;
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        String user = currentUser();
+
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            if (user != null && TransactionSynchronizationManager.isSynchronizationActive()) {
+                TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        long now = System.currentTimeMillis();
+                        lastWriteByUser.put(user, now);
+                        if (lastWriteByUser.size() > MAX_TRACKED_USERS) {
+                            lastWriteByUser.values().removeIf(lastWrite -> now - lastWrite > stickyWindowMillis);
+                        }
+                    }
+                });
+            }
+            return Target.PRIMARY;
+        }
+
+        if (FORCE_PRIMARY.get() != null || !lagMonitor.isReplicaUsable() || recentlyWrote(user)) {
+            return Target.PRIMARY;
+        }
+        return Target.REPLICA;
+    }
+
+    /**
+     * Run {@code read} against the primary even when it is read-only, for reads that seed state
+     * other users' writes keep current. Only connections first used inside the call are routed,
+     * so {@code read} should start its own transaction.
+     */
+    public static <T> T readFromPrimary(Supplier<T> read) {
+        if (FORCE_PRIMARY.get() != null) {
+            return read.get();
+        }
+        FORCE_PRIMARY.set(Boolean.TRUE);
+        try {
+            return read.get();
+        } finally {
+            FORCE_PRIMARY.remove();
+        }
+    }
+
+    private boolean recentlyWrote(String user) {
+        if (user == null) {
+            return false;
+        }
+        Long lastWrite = lastWriteByUser.get(user);
+        if (lastWrite == null) {
+            return false;
+        }
+        if (System.currentTimeMillis() - lastWrite > stickyWindowMillis) {
+            lastWriteByUser.remove(user, lastWrite);
+            return false;
+        }
+        return true;
+    }
+
+    private String currentUser() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !authentication.isAuthenticated()) {
+            return null;
+        }
+        return authentication.getName();
+    }
+}
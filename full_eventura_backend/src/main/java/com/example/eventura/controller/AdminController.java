@@ -1,5 +1,10 @@
 package com.example.eventura.controller;
 
+import com.example.eventura.dto.request.AnnouncementRequest;
+import com.example.eventura.dto.response.AccountPurgeJobResponse;
+import com.example.eventura.dto.response.AnnouncementResponse;
+import com.example.eventura.dto.response.CursorPage;
+import com.example.eventura.dto.response.EntityAuditLogResponse;
 import com.example.eventura.dto.response.NotificationResponse;
 import com.example.eventura.dto.response.PortfolioResponse;
 import com.example.eventura.dto.response.ProviderResponse;
@@ -8,6 +13,7 @@ import com.example.eventura.dto.response.UserResponse;
 import com.example.eventura.dto.response.VerificationDocumentResponse;
 import com.example.eventura.dto.response.ReviewResponse;
 import com.example.eventura.dto.response.PaymentResponse;
+import com.example.eventura.entity.Notification;
 import com.example.eventura.security.JwtTokenProvider;
 import com.example.eventura.service.*;
 import lombok.RequiredArgsConstructor;
@@ -30,6 +36,9 @@ public class AdminController {
     private final PortfolioService portfolioService;
     private final VerificationDocumentService verificationDocumentService;
     private final PaymentService paymentService;
+    private final AccountPurgeService accountPurgeService;
+    private final AuditLogService auditLogService;
+    private final AnnouncementService announcementService;
     private final JwtTokenProvider jwtTokenProvider;
 
     @PutMapping("/users/{userId}/status")
@@ -44,6 +53,15 @@ public class AdminController {
         return ResponseEntity.ok(userService.getAllUsers(pageable));
     }
 
+    @GetMapping("/users/scroll")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CursorPage<UserResponse>> scrollUsers(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(userService.scrollUsers(cursor, size, includeTotal));
+    }
+
     @GetMapping("/users/{userId}")
     @PreAuthorize("hasRole('ADMIN')")
     public ResponseEntity<UserResponse> getUserById(@PathVariable Long userId) {
@@ -60,9 +78,48 @@ public class AdminController {
 
     @DeleteMapping("/users/{userId}")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Void> deleteUserAccount(@PathVariable Long userId) {
-        userService.deleteUserAccountByAdmin(userId);
-        return ResponseEntity.noContent().build();
+    public ResponseEntity<AccountPurgeJobResponse> deleteUserAccount(@PathVariable Long userId) {
+        // The account is marked DELETED now; its data is purged in the background
+        return ResponseEntity.accepted().body(userService.deleteUserAccountByAdmin(userId));
+    }
+
+    @GetMapping("/users/{userId}/purge")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AccountPurgeJobResponse> getUserPurgeStatus(@PathVariable Long userId) {
+        return ResponseEntity.ok(accountPurgeService.getLatestJobForUser(userId));
+    }
+
+    @GetMapping("/purge-jobs/{jobId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AccountPurgeJobResponse> getPurgeJob(@PathVariable Long jobId) {
+        return ResponseEntity.ok(accountPurgeService.getJob(jobId));
+    }
+
+    @GetMapping("/audit/{entityType}/{entityId}")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Page<EntityAuditLogResponse>> getEntityHistory(
+            @PathVariable String entityType, @PathVariable String entityId, Pageable pageable) {
+        return ResponseEntity.ok(auditLogService.getHistory(entityType, entityId, pageable));
+    }
+
+    @PostMapping("/announcements")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<AnnouncementResponse> createAnnouncement(
+            @RequestBody AnnouncementRequest request, @RequestHeader("Authorization") String authHeader) {
+        return ResponseEntity.ok(announcementService.createAnnouncement(getUserIdFromToken(authHeader), request));
+    }
+
+    @GetMapping("/announcements")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Page<AnnouncementResponse>> getAnnouncements(Pageable pageable) {
+        return ResponseEntity.ok(announcementService.getAnnouncements(pageable));
+    }
+
+    @GetMapping("/requests/archive")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Page<ServiceRequestResponse>> getArchivedRequests(
+            @RequestParam(required = false) Long clientId, Pageable pageable) {
+        return ResponseEntity.ok(requestService.getArchivedRequests(clientId, pageable));
     }
 
     @GetMapping("/documents")
@@ -124,8 +181,13 @@ public class AdminController {
 
     @GetMapping("/notifications")
     @PreAuthorize("hasRole('ADMIN')")
-    public ResponseEntity<Page<NotificationResponse>> getAllNotifications(Pageable pageable) {
-        return ResponseEntity.ok(notificationService.getNotifications(0L, pageable));
+    public ResponseEntity<CursorPage<NotificationResponse>> getAllNotifications(
+            @RequestParam(required = false) Long userId,
+            @RequestParam(required = false) Notification.Type type,
+            @RequestParam(required = false) Boolean isRead,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(notificationService.getNotifications(userId, type, isRead, cursor, size));
     }
 
     @PutMapping("/providers/{providerId}/verification")
@@ -142,6 +204,16 @@ public class AdminController {
         return ResponseEntity.ok(paymentService.getAllPayments(status, pageable));
     }
 
+    @GetMapping("/payments/scroll")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<CursorPage<PaymentResponse>> scrollPayments(
+            @RequestParam(required = false) String status,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(paymentService.scrollPayments(status, cursor, size, includeTotal));
+    }
+
     private Long getUserIdFromToken(String authHeader) {
         String token = authHeader.replace("Bearer ", "");
         return jwtTokenProvider.getUserIdFromJWT(token);
@@ -1,22 +1,33 @@
 package com.example.eventura.controller;
 
 import com.example.eventura.entity.Payment;
+import com.example.eventura.entity.RequestDailyStats;
 import com.example.eventura.repository.PaymentRepository;
+import com.example.eventura.repository.RequestDailyStatsRepository;
+import com.example.eventura.service.RequestEventProjector;
 import lombok.Builder;
 import lombok.Data;
 import lombok.RequiredArgsConstructor;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/admin/stats")
 @RequiredArgsConstructor
 public class AdminStatsController {
 
     private final PaymentRepository paymentRepository;
+    private final RequestDailyStatsRepository requestDailyStatsRepository;
+    private final RequestEventProjector requestEventProjector;
 
     @GetMapping("/earnings")
     @PreAuthorize("hasRole('ADMIN')")
@@ -32,6 +43,23 @@ public class AdminStatsController {
                 .build());
     }
 
+    // Daily counters projected from the request event store
+    @GetMapping("/daily")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<List<RequestDailyStats>> getDailyStats(
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return ResponseEntity.ok(requestDailyStatsRepository.findByDayBetweenOrderByDayAsc(from, to));
+    }
+
+    // Replays the whole event store into the daily counters
+    @PostMapping("/daily/rebuild")
+    @PreAuthorize("hasRole('ADMIN')")
+    public ResponseEntity<Void> rebuildDailyStats() {
+        requestEventProjector.rebuild();
+        return ResponseEntity.noContent().build();
+    }
+
     @Data
     @Builder
     public static class EarningsStats {
@@ -1,7 +1,15 @@
 package com.example.eventura.controller;
 
+import com.example.eventura.dto.request.MarkNotificationsReadRequest;
+import com.example.eventura.dto.request.NotificationPreferenceRequest;
+import com.example.eventura.dto.response.CursorPage;
+import com.example.eventura.dto.response.MarkReadResponse;
+import com.example.eventura.dto.response.NotificationPreferenceResponse;
 import com.example.eventura.dto.response.NotificationResponse;
+import com.example.eventura.dto.response.UnreadCountResponse;
+import com.example.eventura.entity.Notification;
 import com.example.eventura.security.JwtTokenProvider;
+import com.example.eventura.service.NotificationPreferenceService;
 import com.example.eventura.service.NotificationService;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -10,6 +18,8 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/notifications")
 public class NotificationController {
@@ -17,6 +27,9 @@ public class NotificationController {
     @Autowired
     private NotificationService notificationService;
 
+    @Autowired
+    private NotificationPreferenceService notificationPreferenceService;
+
     @Autowired
     private JwtTokenProvider jwtTokenProvider;
 
@@ -26,12 +39,89 @@ public class NotificationController {
     public ResponseEntity<Page<NotificationResponse>> getNotifications(
             @RequestHeader("Authorization") String token,
             Pageable pageable,
-            @RequestParam(required = false) Boolean isRead) {
+            @RequestParam(required = false) Boolean isRead,
+            @RequestParam(required = false) Notification.Type type) {
         String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
-        Page<NotificationResponse> notifications = notificationService.getNotificationsByUser(email, pageable, isRead);
+        Page<NotificationResponse> notifications = notificationService.getNotificationsByUser(email, pageable, isRead, type);
         return ResponseEntity.ok(notifications);
     }
 
+    //Get Own Notifications, keyset-paginated (newest first)
+    @GetMapping("/scroll")
+    @PreAuthorize("hasAnyRole('CLIENT', 'PROVIDER', 'ADMIN')")
+    public ResponseEntity<CursorPage<NotificationResponse>> scrollNotifications(
+            @RequestHeader("Authorization") String token,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) Boolean isRead,
+            @RequestParam(required = false) Notification.Type type,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
+        return ResponseEntity.ok(notificationService.scrollNotificationsByUser(email, cursor, size, isRead, type, includeTotal));
+    }
+
+    //Get Own Unread Feed: personal notifications and announcements, newest first
+    @GetMapping("/unread")
+    @PreAuthorize("hasAnyRole('CLIENT', 'PROVIDER', 'ADMIN')")
+    public ResponseEntity<List<NotificationResponse>> getUnreadFeed(
+            @RequestHeader("Authorization") String token,
+            @RequestParam(defaultValue = "20") int size) {
+        String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
+        return ResponseEntity.ok(notificationService.getUnreadFeed(email, size));
+    }
+
+    //Set All Announcements as Read
+    @PutMapping("/announcements/read")
+    @PreAuthorize("hasAnyRole('CLIENT', 'PROVIDER', 'ADMIN')")
+    public ResponseEntity<Void> markAnnouncementsAsRead(@RequestHeader("Authorization") String token) {
+        String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
+        notificationService.markAnnouncementsAsRead(email);
+        return ResponseEntity.noContent().build();
+    }
+
+    //Get Own Delivery Preferences (every type, with defaults filled in)
+    @GetMapping("/preferences")
+    @PreAuthorize("hasAnyRole('CLIENT', 'PROVIDER', 'ADMIN')")
+    public ResponseEntity<List<NotificationPreferenceResponse>> getPreferences(@RequestHeader("Authorization") String token) {
+        String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
+        return ResponseEntity.ok(notificationPreferenceService.getPreferences(email));
+    }
+
+    //Update Own Delivery Preferences
+    @PutMapping("/preferences")
+    @PreAuthorize("hasAnyRole('CLIENT', 'PROVIDER', 'ADMIN')")
+    public ResponseEntity<List<NotificationPreferenceResponse>> updatePreferences(
+            @RequestHeader("Authorization") String token,
+            @RequestBody List<NotificationPreferenceRequest> preferences) {
+        String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
+        return ResponseEntity.ok(notificationPreferenceService.updatePreferences(email, preferences));
+    }
+
+    //Get Own Unread Count (badge), served from memory
+    @GetMapping("/unread-count")
+    @PreAuthorize("hasAnyRole('CLIENT', 'PROVIDER', 'ADMIN')")
+    public ResponseEntity<UnreadCountResponse> getUnreadCount(@RequestHeader("Authorization") String token) {
+        String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
+        return ResponseEntity.ok(notificationService.getUnreadCount(email));
+    }
+
+    //Set All Own Notifications as Read
+    @PutMapping("/read-all")
+    @PreAuthorize("hasAnyRole('CLIENT', 'PROVIDER', 'ADMIN')")
+    public ResponseEntity<MarkReadResponse> markAllAsRead(@RequestHeader("Authorization") String token) {
+        String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
+        return ResponseEntity.ok(notificationService.markAllAsRead(email));
+    }
+
+    //Set Notifications as Read By Notification IDs
+    @PutMapping("/read")
+    @PreAuthorize("hasAnyRole('CLIENT', 'PROVIDER', 'ADMIN')")
+    public ResponseEntity<MarkReadResponse> markAsRead(
+            @RequestBody MarkNotificationsReadRequest request,
+            @RequestHeader("Authorization") String token) {
+        String email = jwtTokenProvider.getEmailFromToken(token.replace("Bearer ", ""));
+        return ResponseEntity.ok(notificationService.markAsRead(request.getNotificationIds(), email));
+    }
 
     //Set Notification as Read By Notification ID
     @PutMapping("/{notificationId}/read")
@@ -0,0 +1,34 @@
+package com.example.eventura.controller;
+
+import com.example.eventura.dto.request.NotificationResumeRequest;
+import com.example.eventura.dto.response.NotificationReplayResponse;
+import com.example.eventura.exception.UnauthorizedException;
+import com.example.eventura.service.NotificationService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.messaging.handler.annotation.MessageMapping;
+import org.springframework.messaging.simp.annotation.SendToUser;
+import org.springframework.stereotype.Controller;
+
+import java.security.Principal;
+
+@Controller
+@RequiredArgsConstructor
+public class NotificationSocketController {
+
+    private final NotificationService notificationService;
+
+    /**
+     * Resume handshake: after reconnecting and subscribing to /user/queue/notifications, the client
+     * sends the last seq it applied to /app/notifications/resume and receives the gap on
+     * /user/queue/notifications-replay. Live pushes can overlap the replay, so clients skip any
+     * seq they have already applied.
+     */
+    @MessageMapping("/notifications/resume")
+    @SendToUser(destinations = "/queue/notifications-replay", broadcast = false)
+    public NotificationReplayResponse resume(NotificationResumeRequest request, Principal principal) {
+        if (principal == null) {
+            throw new UnauthorizedException("Not authenticated");
+        }
+        return notificationService.replaySince(principal.getName(), request.getLastSeq());
+    }
+}
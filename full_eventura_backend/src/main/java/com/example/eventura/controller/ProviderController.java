@@ -3,8 +3,10 @@ package com.example.eventura.controller;
 import com.example.eventura.dto.request.PortfolioRequest;
 import com.example.eventura.dto.request.ProviderProfileRequest;
 import com.example.eventura.dto.request.VerificationDocumentRequest;
+import com.example.eventura.dto.response.CursorPage;
 import com.example.eventura.dto.response.ProviderResponse;
 import com.example.eventura.dto.response.VerificationDocumentResponse;
+import com.example.eventura.dto.response.PortfolioAuditLogResponse;
 import com.example.eventura.dto.response.PortfolioResponse;
 import com.example.eventura.security.JwtTokenProvider;
 import com.example.eventura.service.ProviderService;
@@ -12,6 +14,7 @@ import com.example.eventura.service.VerificationDocumentService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
@@ -61,6 +64,16 @@ public class ProviderController {
         return ResponseEntity.ok(providerService.getAllProviders(pageable));
     }
 
+    //Get All Providers, keyset-paginated (newest first)
+    @GetMapping("/scroll")
+    @PreAuthorize("hasAnyRole('CLIENT', 'PROVIDER', 'ADMIN')")
+    public ResponseEntity<CursorPage<ProviderResponse>> scrollProviders(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(providerService.scrollProviders(cursor, size, includeTotal));
+    }
+
     // Get Provider by ID (Accessible to CLIENT, PROVIDER, and ADMIN roles)
     @GetMapping("/{providerId}")
     @PreAuthorize("hasAnyRole('CLIENT', 'PROVIDER', 'ADMIN')")
@@ -127,10 +140,10 @@ public class ProviderController {
     // Get Portfolio History (Audit Log)
     @GetMapping("/{providerId}/portfolios/{portfolioId}/history")
     @PreAuthorize("hasAnyRole('ADMIN', 'CLIENT', 'PROVIDER')") // Allow Provider and Client to see history too if desired, or restrict to ADMIN
-    public ResponseEntity<List<com.example.eventura.entity.PortfolioAuditLog>> getPortfolioHistory(@PathVariable Long providerId,
-                                                                                                   @PathVariable Long portfolioId) {
-        // In a real app, verify that the portfolio belongs to the provider
-        return ResponseEntity.ok(providerService.getPortfolioHistory(portfolioId));
+    public ResponseEntity<Slice<PortfolioAuditLogResponse>> getPortfolioHistory(@PathVariable Long providerId,
+                                                                                @PathVariable Long portfolioId,
+                                                                                Pageable pageable) {
+        return ResponseEntity.ok(providerService.getPortfolioHistory(providerId, portfolioId, pageable));
     }
 
     private Long getUserIdFromToken(String authHeader) {
@@ -1,10 +1,15 @@
 package com.example.eventura.controller;
 
 import com.example.eventura.dto.request.ServiceRequestRequest;
+import com.example.eventura.dto.response.CursorPage;
+import com.example.eventura.dto.response.RequestEventResponse;
+import com.example.eventura.dto.response.RequestSummaryResponse;
 import com.example.eventura.dto.response.ServiceRequestResponse;
 import com.example.eventura.exception.UnauthorizedException;
 import com.example.eventura.security.JwtTokenProvider;
+import com.example.eventura.service.RequestEventService;
 import com.example.eventura.service.RequestService;
+import com.example.eventura.service.RequestSummaryService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -13,12 +18,16 @@ import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 
+import java.util.List;
+
 @RestController
 @RequestMapping("/api/requests")
 @RequiredArgsConstructor
 public class RequestController {
 
     private final RequestService requestService;
+    private final RequestEventService requestEventService;
+    private final RequestSummaryService requestSummaryService;
     private final JwtTokenProvider jwtTokenProvider;
 
     //post a Request as A client
@@ -45,6 +54,16 @@ public class RequestController {
         return ResponseEntity.ok(requestService.getAllRequests(pageable, serviceType));
     }
 
+    //Keyset-paginated variant of the request listing (newest first)
+    @GetMapping("/scroll")
+    public ResponseEntity<CursorPage<ServiceRequestResponse>> scrollRequests(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String serviceType,
+            @RequestParam(defaultValue = "false") boolean includeTotal) {
+        return ResponseEntity.ok(requestService.scrollRequests(cursor, size, serviceType, includeTotal));
+    }
+
     //Get Own Request Posted By CLient
     @GetMapping("/my-requests")
     @PreAuthorize("hasRole('CLIENT')")
@@ -56,6 +75,69 @@ public class RequestController {
     }
 
 
+    //Dashboard rows for own requests: pitch count, bid range, provider, payment status, unread activity
+    @GetMapping("/summaries/mine")
+    @PreAuthorize("hasRole('CLIENT')")
+    public ResponseEntity<Page<RequestSummaryResponse>> getMyRequestSummaries(
+            Pageable pageable,
+            @RequestHeader("Authorization") String authHeader) {
+        Long clientId = getUserIdFromToken(authHeader);
+        return ResponseEntity.ok(requestSummaryService.getClientSummaries(clientId, pageable));
+    }
+
+    //Same rows for the requests a provider is assigned to
+    @GetMapping("/summaries/assigned")
+    @PreAuthorize("hasRole('PROVIDER')")
+    public ResponseEntity<Page<RequestSummaryResponse>> getAssignedRequestSummaries(
+            Pageable pageable,
+            @RequestHeader("Authorization") String authHeader) {
+        Long providerId = getUserIdFromToken(authHeader);
+        return ResponseEntity.ok(requestSummaryService.getProviderSummaries(providerId, pageable));
+    }
+
+    @GetMapping("/summaries/{requestId}")
+    public ResponseEntity<RequestSummaryResponse> getRequestSummary(
+            @PathVariable Long requestId,
+            @RequestHeader("Authorization") String authHeader) {
+        Long userId = getUserIdFromToken(authHeader);
+        return ResponseEntity.ok(requestSummaryService.getSummary(requestId, userId));
+    }
+
+    @PutMapping("/summaries/{requestId}/seen")
+    public ResponseEntity<RequestSummaryResponse> markRequestSeen(
+            @PathVariable Long requestId,
+            @RequestHeader("Authorization") String authHeader) {
+        Long userId = getUserIdFromToken(authHeader);
+        return ResponseEntity.ok(requestSummaryService.markSeen(requestId, userId));
+    }
+
+    //Lifecycle history of a request (client, assigned provider or admin)
+    @GetMapping("/{requestId}/timeline")
+    public ResponseEntity<List<RequestEventResponse>> getTimeline(
+            @PathVariable Long requestId,
+            @RequestHeader("Authorization") String authHeader) {
+        Long userId = getUserIdFromToken(authHeader);
+        return ResponseEntity.ok(requestEventService.getTimeline(requestId, userId));
+    }
+
+    //Own requests that were moved to the archive (finished and past the retention window)
+    @GetMapping("/archive")
+    @PreAuthorize("hasRole('CLIENT')")
+    public ResponseEntity<Page<ServiceRequestResponse>> getMyArchivedRequests(
+            Pageable pageable,
+            @RequestHeader("Authorization") String authHeader) {
+        Long clientId = getUserIdFromToken(authHeader);
+        return ResponseEntity.ok(requestService.getArchivedRequests(clientId, pageable));
+    }
+
+    @GetMapping("/archive/{requestId}")
+    public ResponseEntity<ServiceRequestResponse> getArchivedRequest(
+            @PathVariable Long requestId,
+            @RequestHeader("Authorization") String authHeader) {
+        Long userId = getUserIdFromToken(authHeader);
+        return ResponseEntity.ok(requestService.getArchivedRequest(requestId, userId));
+    }
+
     //Assign Provider to own request
     @PutMapping("/{requestId}/assign/{providerId}")
     @PreAuthorize("hasRole('CLIENT')")
@@ -0,0 +1,15 @@
+package com.example.eventura.dto.request;
+
+import com.example.eventura.entity.User;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class AnnouncementRequest {
+    private String message;
+    private User.Role targetRole;
+    private User.AccountStatus targetStatus;
+    private String targetServiceType;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,10 @@
+package com.example.eventura.dto.request;
+
+import lombok.Data;
+
+import java.util.List;
+
+@Data
+public class MarkNotificationsReadRequest {
+    private List<Long> notificationIds;
+}
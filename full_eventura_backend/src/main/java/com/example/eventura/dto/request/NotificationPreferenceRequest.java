@@ -0,0 +1,14 @@
+package com.example.eventura.dto.request;
+
+import com.example.eventura.entity.Notification;
+import lombok.Data;
+
+@Data
+public class NotificationPreferenceRequest {
+    private Notification.Type type;
+    private Boolean inApp;
+    private Boolean push;
+    private Boolean email;
+    private Boolean digest;
+    private Integer maxPerHour;
+}
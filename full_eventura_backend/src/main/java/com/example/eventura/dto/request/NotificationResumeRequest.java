@@ -0,0 +1,9 @@
+package com.example.eventura.dto.request;
+
+import lombok.Data;
+
+@Data
+public class NotificationResumeRequest {
+    // Highest seq the client has applied; null if it has none
+    private Long lastSeq;
+}
@@ -0,0 +1,19 @@
+package com.example.eventura.dto.response;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class AccountPurgeJobResponse {
+    private Long id;
+    private Long userId;
+    private String status;
+    private String currentStep;
+    private long rowsDeleted;
+    private int attempts;
+    private String lastError;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    private LocalDateTime completedAt;
+}
@@ -0,0 +1,17 @@
+package com.example.eventura.dto.response;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class AnnouncementResponse {
+    private Long id;
+    private String message;
+    private String targetRole;
+    private String targetStatus;
+    private String targetServiceType;
+    private Long createdBy;
+    private LocalDateTime createdAt;
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,27 @@
+package com.example.eventura.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+import java.util.function.Function;
+
+/**
+ * One slice of a keyset-paginated listing. Pass {@code nextCursor} back as {@code cursor}
+ * to fetch the following slice; {@code totalElements} is only filled when explicitly requested.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> items;
+    private String nextCursor;
+    private boolean hasNext;
+    private Long totalElements;
+
+    public <R> CursorPage<R> map(Function<? super T, ? extends R> converter) {
+        List<R> converted = items.stream().<R>map(converter).toList();
+        return new CursorPage<>(converted, nextCursor, hasNext, totalElements);
+    }
+}
@@ -0,0 +1,16 @@
+package com.example.eventura.dto.response;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class EntityAuditLogResponse {
+    private Long id;
+    private String entityType;
+    private String entityId;
+    private String operation;
+    private String actor;
+    private LocalDateTime changedAt;
+    private String changes;
+}
@@ -0,0 +1,12 @@
+package com.example.eventura.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class MarkReadResponse {
+    private int updated;
+}
@@ -0,0 +1,14 @@
+package com.example.eventura.dto.response;
+
+import com.example.eventura.entity.Notification;
+import lombok.Data;
+
+@Data
+public class NotificationPreferenceResponse {
+    private Notification.Type type;
+    private boolean inApp;
+    private boolean push;
+    private boolean email;
+    private boolean digest;
+    private Integer maxPerHour;
+}
@@ -0,0 +1,19 @@
+package com.example.eventura.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Notifications missed while disconnected, oldest first. When {@code truncated} is set the gap was
+ * too large to replay and the client should reload its notification list instead.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class NotificationReplayResponse {
+    private List<NotificationResponse> notifications;
+    private boolean truncated;
+}
@@ -1,5 +1,6 @@
 package com.example.eventura.dto.response;
 
+import com.example.eventura.entity.Notification;
 import lombok.Data;
 
 import java.time.LocalDateTime;
@@ -8,7 +9,12 @@ import java.time.LocalDateTime;
 public class NotificationResponse {
     private Long id;
     private Long userId;
+    private Notification.Type type;
+    private Long subjectId;
+    private Integer eventCount;
+    private Long seq;
     private String message;
     private Boolean isRead;
     private LocalDateTime createdAt;
+    private LocalDateTime lastEventAt;
 }
\ No newline at end of file
@@ -0,0 +1,14 @@
+package com.example.eventura.dto.response;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class PortfolioAuditLogResponse {
+    private Long id;
+    private String fieldName;
+    private String oldValue;
+    private String newValue;
+    private LocalDateTime changedAt;
+}
@@ -0,0 +1,18 @@
+package com.example.eventura.dto.response;
+
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Data
+public class RequestEventResponse {
+    private Long id;
+    private Long requestId;
+    private String type;
+    private Long subjectId;
+    private Long actorId;
+    private String fromValue;
+    private String toValue;
+    private Double amount;
+    private LocalDateTime occurredAt;
+}
@@ -0,0 +1,28 @@
+package com.example.eventura.dto.response;
+
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+@Data
+public class RequestSummaryResponse {
+    private Long requestId;
+    private Long clientId;
+    private Long assignedProviderId;
+    private String acceptedProviderName;
+    private String title;
+    private String eventName;
+    private LocalDate eventDate;
+    private String serviceType;
+    private String status;
+    private Double budget;
+    private Double assignedPrice;
+    private int pitchCount;
+    private Double lowestBid;
+    private Double highestBid;
+    private String latestPaymentStatus;
+    private int unreadActivity;
+    private LocalDateTime createdAt;
+    private LocalDateTime lastActivityAt;
+}
@@ -0,0 +1,103 @@
+package com.example.eventura.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Background hard-delete of a user and everything that references them. The account is
+ * marked DELETED when the job is queued; the rows are removed later, one step at a time.
+ */
+@Entity
+@Table(name = "Account_Purge_Jobs")
+@Data
+public class AccountPurgeJob {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "account_purge_jobs_seq")
+    @SequenceGenerator(name = "account_purge_jobs_seq", sequenceName = "account_purge_jobs_seq", allocationSize = 50)
+    private Long id;
+
+    // Plain column, not a relation: the user row is gone once the job completes
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Status status = Status.PENDING;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "current_step", nullable = false)
+    private Step currentStep = Step.NOTIFICATIONS;
+
+    @Column(name = "rows_deleted", nullable = false)
+    private long rowsDeleted;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "last_error", length = 1000)
+    private String lastError;
+
+    // Instance running the job (AccountPurgeService.processJobs); cleared when it stops
+    @Column(name = "claimed_by", length = 36)
+    private String claimedBy;
+
+    @Column(name = "claimed_at")
+    private LocalDateTime claimedAt;
+
+    @Version
+    private long version;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt = LocalDateTime.now();
+
+    @Column(name = "completed_at")
+    private LocalDateTime completedAt;
+
+    @PreUpdate
+    public void setUpdatedAt() {
+        this.updatedAt = LocalDateTime.now();
+    }
+
+    public enum Status {
+        PENDING, RUNNING, COMPLETED, FAILED
+    }
+
+    /**
+     * Purge order: children before the rows they reference, the user row last.
+     */
+    public enum Step {
+        NOTIFICATIONS,
+        NOTIFICATION_THREADS,
+        NOTIFICATION_SEQUENCES,
+        NOTIFICATION_PREFERENCES,
+        EMAIL_DIGEST_ENTRIES,
+        ANNOUNCEMENT_WATERMARKS,
+        DIRECT_CONNECTIONS,
+        REVIEWS,
+        REPORTS,
+        PAYMENTS,
+        PROVIDER_PAYMENTS,
+        PITCHES,
+        REQUEST_EVENTS,
+        REQUEST_SUMMARIES,
+        PROVIDER_SUMMARIES,
+        ASSIGNED_REQUESTS,
+        SERVICE_REQUESTS,
+        ARCHIVED_PAYMENTS,
+        ARCHIVED_PROVIDER_PAYMENTS,
+        ARCHIVED_PITCHES,
+        ARCHIVED_REQUESTS,
+        AUDIT_LOGS,
+        PORTFOLIO_AUDIT_LOGS,
+        PORTFOLIOS,
+        VERIFICATION_DOCUMENTS,
+        SERVICE_PROVIDER,
+        USER
+    }
+}
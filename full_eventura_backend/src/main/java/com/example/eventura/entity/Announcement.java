@@ -0,0 +1,44 @@
+package com.example.eventura.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * A message for every user matching the (optional) role, account status and provider service
+ * type. Stored once; each user's {@link AnnouncementWatermark} decides whether it is unread.
+ */
+@Entity
+@Table(name = "Announcements")
+@Data
+public class Announcement {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "announcements_seq")
+    @SequenceGenerator(name = "announcements_seq", sequenceName = "announcements_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(nullable = false, length = 1000)
+    private String message;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_role", length = 20)
+    private User.Role targetRole;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_status", length = 20)
+    private User.AccountStatus targetStatus;
+
+    @Column(name = "target_service_type")
+    private String targetServiceType;
+
+    @Column(name = "created_by", nullable = false)
+    private Long createdBy;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt = LocalDateTime.now();
+
+    @Column(name = "expires_at")
+    private LocalDateTime expiresAt;
+}
@@ -0,0 +1,20 @@
+package com.example.eventura.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Table(name = "Announcement_Watermarks")
+@Data
+public class AnnouncementWatermark {
+
+    @Id
+    @Column(name = "user_id")
+    private Long userId;
+
+    // Announcements created up to this instant are read
+    @Column(name = "read_until", nullable = false)
+    private LocalDateTime readUntil;
+}
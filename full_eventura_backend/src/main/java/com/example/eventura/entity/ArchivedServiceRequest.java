@@ -0,0 +1,61 @@
+package com.example.eventura.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Read-only view of a finished request moved out of Service_Requests by RequestArchiveService.
+ * Keeps the original id; users are referenced by id only.
+ */
+@Entity
+@Table(name = "Service_Requests_Archive")
+@Immutable
+@Data
+public class ArchivedServiceRequest {
+
+    @Id
+    private Long id;
+
+    @Column(name = "client_id", nullable = false)
+    private Long clientId;
+
+    @Column(name = "assigned_provider_id")
+    private Long assignedProviderId;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(name = "event_name")
+    private String eventName;
+
+    @Column(name = "event_date")
+    private LocalDate eventDate;
+
+    private String location;
+
+    @Column(name = "service_type")
+    private String serviceType;
+
+    private String description;
+
+    private Double budget;
+
+    @Column(name = "assigned_price")
+    private Double assignedPrice;
+
+    @Enumerated(EnumType.STRING)
+    private ServiceRequest.Status status;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "updated_at")
+    private LocalDateTime updatedAt;
+
+    @Column(name = "archived_at", nullable = false)
+    private LocalDateTime archivedAt;
+}
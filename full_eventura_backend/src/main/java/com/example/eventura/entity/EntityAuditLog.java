@@ -0,0 +1,44 @@
+package com.example.eventura.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDateTime;
+
+/**
+ * One captured insert, update or delete of an audited entity. Written in JDBC batches by
+ * AuditLogService; mapped here for reads only.
+ */
+@Entity
+@Table(name = "Entity_Audit_Logs")
+@Immutable
+@Data
+public class EntityAuditLog {
+
+    @Id
+    private Long id;
+
+    @Column(name = "entity_type", nullable = false)
+    private String entityType;
+
+    @Column(name = "entity_id", nullable = false)
+    private String entityId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private Operation operation;
+
+    private String actor;
+
+    @Column(name = "changed_at", nullable = false)
+    private LocalDateTime changedAt;
+
+    // {"field": [old, new], ...}
+    @Column(nullable = false, columnDefinition = "json")
+    private String changes;
+
+    public enum Operation {
+        INSERT, UPDATE, DELETE
+    }
+}
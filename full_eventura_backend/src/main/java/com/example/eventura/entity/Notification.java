@@ -2,10 +2,11 @@ package com.example.eventura.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
-import org.hibernate.annotations.OnDelete;
-import org.hibernate.annotations.OnDeleteAction;
+import org.hibernate.annotations.JdbcTypeCode;
+import org.hibernate.type.SqlTypes;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @Entity
 @Table(name = "Notifications")
@@ -13,23 +14,51 @@ import java.time.LocalDateTime;
 public class Notification {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notifications_seq")
+    @SequenceGenerator(name = "notifications_seq", sequenceName = "notifications_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
-    @OnDelete(action = OnDeleteAction.CASCADE)
-    @JoinColumn(name = "user_id", nullable = false)
+    // Partitioned table (created_at), so no foreign key; account purges delete these explicitly
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "user_id", nullable = false, foreignKey = @ForeignKey(ConstraintMode.NO_CONSTRAINT))
     private User user;
 
-    @Column(nullable = false)
+    // Rendered on read from the template for this type; null only on rows written before V12
+    @Enumerated(EnumType.STRING)
+    @Column(length = 40)
+    private Type type;
+
+    // The request, payment, pitch, portfolio, connection or provider the type refers to
+    @Column(name = "subject_id")
+    private Long subjectId;
+
+    @JdbcTypeCode(SqlTypes.JSON)
+    @Column(columnDefinition = "json")
+    private Map<String, String> params;
+
+    // type:subjectId for collapsible types; repeated events update the open unread row with this key
+    @Column(name = "collapse_key", length = 64)
+    private String collapseKey;
+
+    @Column(name = "event_count", nullable = false)
+    private Integer eventCount = 1;
+
+    // Per-user sequence (NotificationSequences), renewed when a collapsed thread is updated; null before V18
+    private Long seq;
+
+    // Pre-rendered text of rows written before V12
     private String message;
 
     @Column(name = "is_read")
     private Boolean isRead = false;
 
-    @Column(name = "created_at")
+    @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
 
+    // Time of the latest event in a collapsed thread; created_at never changes once written
+    @Column(name = "last_event_at", nullable = false)
+    private LocalDateTime lastEventAt = createdAt;
+
     @Column(name = "updated_at")
     private LocalDateTime updatedAt = LocalDateTime.now();
 
@@ -37,4 +66,48 @@ public class Notification {
     public void setUpdatedAt() {
         this.updatedAt = LocalDateTime.now();
     }
+
+    public enum Type {
+        PROFILE_UPDATED,
+        VERIFICATION_CHANGED,
+        PORTFOLIO_DELETED,
+        PORTFOLIO_REMOVED_BY_ADMIN,
+        REQUEST_ASSIGNED,
+        BUDGET_UPDATED(true),
+        WORK_STARTED,
+        WORK_COMPLETED,
+        PITCH_RECEIVED(true),
+        PITCH_STATUS_CHANGED,
+        PITCH_WITHDRAWN,
+        PITCH_NOT_SELECTED,
+        PITCH_ACCEPTED,
+        PAYMENT_REQUESTED,
+        PAYMENT_SECURED,
+        PAYMENT_RECEIVED,
+        PAYMENT_SUCCEEDED,
+        PAYMENT_RELEASED_PROVIDER,
+        PAYMENT_RELEASED_CLIENT,
+        PAYMENT_DISPUTED,
+        PAYMENT_REFUNDED,
+        PAYMENT_REFUNDED_PROVIDER,
+        DISPUTE_REFUNDED,
+        CONNECTION_REQUESTED,
+        CONNECTION_RESPONDED,
+        // Feed entries for announcements; never stored as notification rows
+        ANNOUNCEMENT;
+
+        private final boolean collapsible;
+
+        Type() {
+            this(false);
+        }
+
+        Type(boolean collapsible) {
+            this.collapsible = collapsible;
+        }
+
+        public boolean isCollapsible() {
+            return collapsible;
+        }
+    }
 }
\ No newline at end of file
@@ -0,0 +1,44 @@
+package com.example.eventura.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+
+@Entity
+@Table(name = "Notification_Preferences",
+        uniqueConstraints = @UniqueConstraint(name = "uk_notification_preferences_user_type", columnNames = {"user_id", "type"}))
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "notification-preferences")
+@Data
+public class NotificationPreference {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "notification_preferences_seq")
+    @SequenceGenerator(name = "notification_preferences_seq", sequenceName = "notification_preferences_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 40)
+    private Notification.Type type;
+
+    @Column(name = "in_app", nullable = false)
+    private boolean inApp = true;
+
+    @Column(nullable = false)
+    private boolean push = true;
+
+    @Column(nullable = false)
+    private boolean email = true;
+
+    // Emails of this type are batched into a periodic summary instead of sent one by one
+    @Column(nullable = false)
+    private boolean digest = false;
+
+    // In-app/push deliveries of this type per hour; null = unlimited
+    @Column(name = "max_per_hour")
+    private Integer maxPerHour;
+}
@@ -0,0 +1,24 @@
+package com.example.eventura.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Position of a projection in the request event stream, as the last (occurred_at, id) applied.
+ */
+@Entity
+@Table(name = "Projection_Checkpoints")
+@Data
+public class ProjectionCheckpoint {
+
+    @Id
+    private String name;
+
+    @Column(name = "last_occurred_at", nullable = false)
+    private LocalDateTime lastOccurredAt;
+
+    @Column(name = "last_event_id", nullable = false)
+    private Long lastEventId;
+}
@@ -6,22 +6,35 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "Reports")
+@NamedEntityGraph(
+        name = "Report.detail",
+        attributeNodes = {
+                @NamedAttributeNode("reportedBy"),
+                @NamedAttributeNode("reportedUser"),
+                @NamedAttributeNode(value = "request", subgraph = "request-parties")
+        },
+        subgraphs = @NamedSubgraph(
+                name = "request-parties",
+                attributeNodes = {@NamedAttributeNode("client"), @NamedAttributeNode("assignedProvider")}
+        )
+)
 @Data
 public class Report {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "reports_seq")
+    @SequenceGenerator(name = "reports_seq", sequenceName = "reports_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "reported_by", nullable = false)
     private User reportedBy;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "reported_user", nullable = false)
     private User reportedUser;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "request_id")
     private ServiceRequest request; // Optional, link to a request if applicable
 
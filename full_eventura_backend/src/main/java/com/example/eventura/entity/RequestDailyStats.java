@@ -0,0 +1,49 @@
+package com.example.eventura.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDate;
+
+/**
+ * Per-day counters projected from {@link RequestEvent}s by RequestEventProjector. Disposable:
+ * a rebuild clears the table and replays the event store.
+ */
+@Entity
+@Table(name = "Request_Daily_Stats")
+@Data
+public class RequestDailyStats {
+
+    @Id
+    private LocalDate day;
+
+    @Column(name = "requests_created", nullable = false)
+    private long requestsCreated;
+
+    @Column(name = "requests_completed", nullable = false)
+    private long requestsCompleted;
+
+    @Column(name = "requests_cancelled", nullable = false)
+    private long requestsCancelled;
+
+    @Column(name = "pitches_submitted", nullable = false)
+    private long pitchesSubmitted;
+
+    @Column(name = "pitches_accepted", nullable = false)
+    private long pitchesAccepted;
+
+    @Column(name = "payments_escrowed", nullable = false)
+    private long paymentsEscrowed;
+
+    @Column(name = "amount_escrowed", nullable = false)
+    private double amountEscrowed;
+
+    @Column(name = "payments_released", nullable = false)
+    private long paymentsReleased;
+
+    @Column(name = "amount_released", nullable = false)
+    private double amountReleased;
+
+    @Column(name = "payments_refunded", nullable = false)
+    private long paymentsRefunded;
+}
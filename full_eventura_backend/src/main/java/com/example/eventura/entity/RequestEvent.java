@@ -0,0 +1,61 @@
+package com.example.eventura.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDateTime;
+
+/**
+ * Append-only record of one transition in a request's lifecycle (the request itself, its
+ * pitches or its payments). Rows are never updated; projections are derived by replaying them.
+ * request_id is a plain column so the history outlives archival of the request.
+ */
+@Entity
+@Table(name = "Request_Events")
+@Data
+public class RequestEvent {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "request_events_seq")
+    @SequenceGenerator(name = "request_events_seq", sequenceName = "request_events_seq", allocationSize = 50)
+    private Long id;
+
+    @Column(name = "request_id", nullable = false, updatable = false)
+    private Long requestId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "event_type", nullable = false, updatable = false)
+    private Type type;
+
+    // Id of the request, pitch or payment the event is about
+    @Column(name = "subject_id", updatable = false)
+    private Long subjectId;
+
+    @Column(name = "actor_id", updatable = false)
+    private Long actorId;
+
+    @Column(name = "from_value", updatable = false)
+    private String fromValue;
+
+    @Column(name = "to_value", updatable = false)
+    private String toValue;
+
+    @Column(updatable = false)
+    private Double amount;
+
+    @Column(name = "occurred_at", nullable = false, updatable = false)
+    private LocalDateTime occurredAt = LocalDateTime.now();
+
+    public enum Type {
+        REQUEST_CREATED,
+        REQUEST_STATUS_CHANGED,
+        REQUEST_BUDGET_CHANGED,
+        PROVIDER_ASSIGNED,
+        REQUEST_REMOVED,
+        PITCH_SUBMITTED,
+        PITCH_STATUS_CHANGED,
+        PITCH_DELETED,
+        PAYMENT_CREATED,
+        PAYMENT_STATUS_CHANGED
+    }
+}
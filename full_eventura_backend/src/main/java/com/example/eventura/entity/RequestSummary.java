@@ -0,0 +1,73 @@
+package com.example.eventura.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Denormalized read model behind the "my requests" and request detail screens: one row per
+ * hot request, kept current by RequestSummaryService from the request events.
+ */
+@Entity
+@Table(name = "Request_Summaries")
+@Data
+public class RequestSummary {
+
+    @Id
+    @Column(name = "request_id")
+    private Long requestId;
+
+    @Column(name = "client_id", nullable = false)
+    private Long clientId;
+
+    @Column(name = "assigned_provider_id")
+    private Long assignedProviderId;
+
+    @Column(nullable = false)
+    private String title;
+
+    @Column(name = "event_name")
+    private String eventName;
+
+    @Column(name = "event_date")
+    private LocalDate eventDate;
+
+    @Column(name = "service_type")
+    private String serviceType;
+
+    @Enumerated(EnumType.STRING)
+    private ServiceRequest.Status status;
+
+    private Double budget;
+
+    @Column(name = "assigned_price")
+    private Double assignedPrice;
+
+    @Column(name = "pitch_count", nullable = false)
+    private int pitchCount;
+
+    @Column(name = "lowest_bid")
+    private Double lowestBid;
+
+    @Column(name = "highest_bid")
+    private Double highestBid;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "latest_payment_status")
+    private Payment.PaymentStatus latestPaymentStatus;
+
+    // Events since the party last opened the request, excluding their own actions
+    @Column(name = "client_unread", nullable = false)
+    private int clientUnread;
+
+    @Column(name = "provider_unread", nullable = false)
+    private int providerUnread;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "last_activity_at")
+    private LocalDateTime lastActivityAt;
+}
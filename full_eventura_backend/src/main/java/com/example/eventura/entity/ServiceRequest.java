@@ -12,14 +12,15 @@ import java.time.LocalDateTime;
 public class ServiceRequest {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "service_requests_seq")
+    @SequenceGenerator(name = "service_requests_seq", sequenceName = "service_requests_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "client_id", nullable = false)
     private User client;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "assigned_provider_id")
     private User assignedProvider;
 
@@ -47,7 +48,7 @@ public class ServiceRequest {
     @Enumerated(EnumType.STRING)
     private Status status;
 
-    @Column(name = "created_at")
+    @Column(name = "created_at", nullable = false)
     private LocalDateTime createdAt = LocalDateTime.now();
 
     @Column(name = "updated_at")
@@ -11,10 +11,11 @@ import java.time.LocalDateTime;
 public class VerificationDocument {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "verification_documents_seq")
+    @SequenceGenerator(name = "verification_documents_seq", sequenceName = "verification_documents_seq", allocationSize = 50)
     private Long id;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "provider_id", nullable = false)
     private ServiceProvider provider;
 
@@ -0,0 +1,18 @@
+package com.example.eventura.repository;
+
+import com.example.eventura.entity.AccountPurgeJob;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+@Repository
+public interface AccountPurgeJobRepository extends JpaRepository<AccountPurgeJob, Long> {
+    List<AccountPurgeJob> findTop20ByStatusInOrderByIdAsc(Collection<AccountPurgeJob.Status> statuses);
+
+    Optional<AccountPurgeJob> findFirstByUserIdOrderByIdDesc(Long userId);
+
+    boolean existsByUserIdAndStatusIn(Long userId, Collection<AccountPurgeJob.Status> statuses);
+}
@@ -0,0 +1,20 @@
+package com.example.eventura.repository;
+
+import com.example.eventura.entity.Announcement;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface AnnouncementRepository extends JpaRepository<Announcement, Long> {
+    @Query("SELECT a FROM Announcement a WHERE a.expiresAt IS NULL OR a.expiresAt > :now ORDER BY a.createdAt DESC")
+    List<Announcement> findActive(@Param("now") LocalDateTime now);
+
+    Page<Announcement> findAllByOrderByCreatedAtDesc(Pageable pageable);
+}
@@ -0,0 +1,9 @@
+package com.example.eventura.repository;
+
+import com.example.eventura.entity.AnnouncementWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface AnnouncementWatermarkRepository extends JpaRepository<AnnouncementWatermark, Long> {
+}
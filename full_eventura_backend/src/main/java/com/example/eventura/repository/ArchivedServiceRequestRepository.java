@@ -0,0 +1,12 @@
+package com.example.eventura.repository;
+
+import com.example.eventura.entity.ArchivedServiceRequest;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface ArchivedServiceRequestRepository extends JpaRepository<ArchivedServiceRequest, Long> {
+    Page<ArchivedServiceRequest> findByClientId(Long clientId, Pageable pageable);
+}
@@ -4,11 +4,40 @@ import com.example.eventura.entity.DirectConnection;
 import com.example.eventura.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.Optional;
+
 @Repository
 public interface DirectConnectionRepository extends JpaRepository<DirectConnection, Long> {
-    Page<DirectConnection> findByClient(User client, Pageable pageable);
-    Page<DirectConnection> findByProvider(User provider, Pageable pageable);
+    // List pages select only what DirectConnectionResponse shows; the parties stay foreign-key ids
+    @Query(value = "SELECT c.id AS id, c.client.id AS clientId, c.provider.id AS providerId, c.eventDetails AS eventDetails,"
+            + " c.proposedDate AS proposedDate, c.status AS status, c.createdAt AS createdAt"
+            + " FROM DirectConnection c WHERE c.client = :client",
+            countQuery = "SELECT COUNT(c) FROM DirectConnection c WHERE c.client = :client")
+    Page<DirectConnectionListItem> findByClient(@Param("client") User client, Pageable pageable);
+
+    @Query(value = "SELECT c.id AS id, c.client.id AS clientId, c.provider.id AS providerId, c.eventDetails AS eventDetails,"
+            + " c.proposedDate AS proposedDate, c.status AS status, c.createdAt AS createdAt"
+            + " FROM DirectConnection c WHERE c.provider = :provider",
+            countQuery = "SELECT COUNT(c) FROM DirectConnection c WHERE c.provider = :provider")
+    Page<DirectConnectionListItem> findByProvider(@Param("provider") User provider, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"client", "provider"})
+    Optional<DirectConnection> findDetailedById(Long id);
+
+    interface DirectConnectionListItem {
+        Long getId();
+        Long getClientId();
+        Long getProviderId();
+        String getEventDetails();
+        String getProposedDate();
+        DirectConnection.ConnectionStatus getStatus();
+        LocalDateTime getCreatedAt();
+    }
 }
\ No newline at end of file
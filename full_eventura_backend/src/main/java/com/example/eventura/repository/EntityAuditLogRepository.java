@@ -0,0 +1,12 @@
+package com.example.eventura.repository;
+
+import com.example.eventura.entity.EntityAuditLog;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface EntityAuditLogRepository extends JpaRepository<EntityAuditLog, Long> {
+    Page<EntityAuditLog> findByEntityTypeAndEntityIdOrderByIdDesc(String entityType, String entityId, Pageable pageable);
+}
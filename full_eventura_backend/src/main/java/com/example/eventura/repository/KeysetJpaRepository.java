@@ -0,0 +1,191 @@
+package com.example.eventura.repository;
+
+import com.example.eventura.dto.response.CursorPage;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.Tuple;
+import jakarta.persistence.TupleElement;
+import jakarta.persistence.TypedQuery;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Path;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Selection;
+import org.springframework.beans.BeanWrapperImpl;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.query.QueryUtils;
+import org.springframework.data.jpa.repository.support.JpaEntityInformation;
+import org.springframework.data.jpa.repository.support.SimpleJpaRepository;
+import org.springframework.data.projection.ProjectionFactory;
+import org.springframework.data.projection.SpelAwareProxyProjectionFactory;
+import org.springframework.data.support.PageableExecutionUtils;
+
+import java.beans.PropertyDescriptor;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Base class for every repository (see {@code @EnableJpaRepositories}). Adds keyset scrolling
+ * ordered by {@code createdAt DESC, id DESC}; repositories opt in by extending {@link KeysetRepository}.
+ */
+public class KeysetJpaRepository<T, ID> extends SimpleJpaRepository<T, ID> implements KeysetRepository<T, ID> {
+
+    private static final String CREATED_AT = "createdAt";
+    private static final String ID = "id";
+    private static final String FOREIGN_KEY_SUFFIX = "Id";
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private static final ProjectionFactory PROJECTIONS = new SpelAwareProxyProjectionFactory();
+
+    private final EntityManager entityManager;
+
+    public KeysetJpaRepository(JpaEntityInformation<T, ?> entityInformation, EntityManager entityManager) {
+        super(entityInformation, entityManager);
+        this.entityManager = entityManager;
+    }
+
+    @Override
+    public CursorPage<T> scroll(Specification<T> spec, String cursor, int size, boolean includeTotal) {
+        int limit = pageSize(size);
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<T> query = cb.createQuery(getDomainClass());
+        Root<T> root = query.from(getDomainClass());
+        seek(query, root, cb, spec, cursor);
+
+        // One extra row tells us whether another page exists without a count query
+        List<T> rows = entityManager.createQuery(query)
+                .setMaxResults(limit + 1)
+                .getResultList();
+        boolean hasNext = rows.size() > limit;
+        List<T> items = hasNext ? rows.subList(0, limit) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            BeanWrapperImpl last = new BeanWrapperImpl(items.get(items.size() - 1));
+            nextCursor = new KeysetCursor((LocalDateTime) last.getPropertyValue(CREATED_AT),
+                    (Long) last.getPropertyValue(ID)).encode();
+        }
+
+        Long total = includeTotal ? count(spec) : null;
+        return new CursorPage<>(new ArrayList<>(items), nextCursor, hasNext, total);
+    }
+
+    @Override
+    public <P> CursorPage<P> scroll(Specification<T> spec, Class<P> projection, String cursor, int size,
+                                    boolean includeTotal) {
+        int limit = pageSize(size);
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(getDomainClass());
+        query.multiselect(select(root, projection, CREATED_AT, ID));
+        seek(query, root, cb, spec, cursor);
+
+        List<Tuple> rows = entityManager.createQuery(query)
+                .setMaxResults(limit + 1)
+                .getResultList();
+        boolean hasNext = rows.size() > limit;
+        List<Tuple> items = hasNext ? rows.subList(0, limit) : rows;
+
+        String nextCursor = null;
+        if (hasNext) {
+            Tuple last = items.get(items.size() - 1);
+            nextCursor = new KeysetCursor(last.get(CREATED_AT, LocalDateTime.class), last.get(ID, Long.class)).encode();
+        }
+
+        Long total = includeTotal ? count(spec) : null;
+        return new CursorPage<>(project(items, projection), nextCursor, hasNext, total);
+    }
+
+    @Override
+    public <P> Page<P> findAll(Specification<T> spec, Class<P> projection, Pageable pageable) {
+        CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+        CriteriaQuery<Tuple> query = cb.createTupleQuery();
+        Root<T> root = query.from(getDomainClass());
+        query.multiselect(select(root, projection));
+        Predicate filter = spec != null ? spec.toPredicate(root, query, cb) : null;
+        if (filter != null) {
+            query.where(filter);
+        }
+        query.orderBy(QueryUtils.toOrders(pageable.getSort(), root, cb));
+
+        TypedQuery<Tuple> typedQuery = entityManager.createQuery(query);
+        if (pageable.isPaged()) {
+            typedQuery.setFirstResult((int) pageable.getOffset());
+            typedQuery.setMaxResults(pageable.getPageSize());
+        }
+        return PageableExecutionUtils.getPage(project(typedQuery.getResultList(), projection), pageable,
+                () -> count(spec));
+    }
+
+    private void seek(CriteriaQuery<?> query, Root<T> root, CriteriaBuilder cb, Specification<T> spec, String cursor) {
+        Path<LocalDateTime> createdAt = root.get(CREATED_AT);
+        Path<Long> id = root.get(ID);
+
+        List<Predicate> predicates = new ArrayList<>();
+        if (spec != null) {
+            Predicate filter = spec.toPredicate(root, query, cb);
+            if (filter != null) {
+                predicates.add(filter);
+            }
+        }
+        if (cursor != null && !cursor.isBlank()) {
+            KeysetCursor after = KeysetCursor.decode(cursor);
+            predicates.add(cb.or(
+                    cb.lessThan(createdAt, after.createdAt()),
+                    cb.and(cb.equal(createdAt, after.createdAt()), cb.lessThan(id, after.id()))
+            ));
+        }
+        query.where(predicates.toArray(new Predicate[0]));
+        query.orderBy(cb.desc(createdAt), cb.desc(id));
+    }
+
+    // The projection's properties, plus any the query itself needs, each aliased by its property name
+    private static List<Selection<?>> select(Root<?> root, Class<?> projection, String... required) {
+        Set<String> properties = new LinkedHashSet<>(List.of(required));
+        for (PropertyDescriptor property : PROJECTIONS.getProjectionInformation(projection).getInputProperties()) {
+            properties.add(property.getName());
+        }
+        List<Selection<?>> selections = new ArrayList<>();
+        for (String property : properties) {
+            selections.add(path(root, property).alias(property));
+        }
+        return selections;
+    }
+
+    // fooId with no attribute of that name is the foreign key of association foo; Hibernate reads it
+    // off the referencing row, so no join is added
+    private static Path<?> path(Root<?> root, String property) {
+        try {
+            root.getModel().getAttribute(property);
+            return root.get(property);
+        } catch (IllegalArgumentException e) {
+            if (!property.endsWith(FOREIGN_KEY_SUFFIX)) {
+                throw e;
+            }
+            return root.get(property.substring(0, property.length() - FOREIGN_KEY_SUFFIX.length())).get(ID);
+        }
+    }
+
+    private static <P> List<P> project(List<Tuple> rows, Class<P> projection) {
+        List<P> items = new ArrayList<>(rows.size());
+        for (Tuple row : rows) {
+            Map<String, Object> values = new HashMap<>();
+            for (TupleElement<?> element : row.getElements()) {
+                values.put(element.getAlias(), row.get(element));
+            }
+            items.add(PROJECTIONS.createProjection(projection, values));
+        }
+        return items;
+    }
+
+    private static int pageSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+}
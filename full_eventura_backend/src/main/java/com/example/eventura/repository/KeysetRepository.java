@@ -0,0 +1,39 @@
+package com.example.eventura.repository;
+
+import com.example.eventura.dto.response.CursorPage;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.repository.NoRepositoryBean;
+
+/**
+ * Repository base for entities listed newest-first. Instead of OFFSET paging, {@link #scroll}
+ * seeks past the last (createdAt, id) seen, so deep pages cost the same as the first one.
+ * Implemented once in {@link KeysetJpaRepository}, the repository base class.
+ */
+@NoRepositoryBean
+public interface KeysetRepository<T, ID> extends JpaRepository<T, ID>, JpaSpecificationExecutor<T> {
+
+    /**
+     * @param spec         optional filter, may be {@code null}
+     * @param cursor       {@code nextCursor} of the previous page, {@code null} for the first page
+     * @param size         maximum number of rows to return
+     * @param includeTotal whether to also run a count over {@code spec}
+     */
+    CursorPage<T> scroll(Specification<T> spec, String cursor, int size, boolean includeTotal);
+
+    /**
+     * {@link #scroll} selecting only the getters of the interface {@code projection} rather than
+     * whole entities. A getter {@code getFooId()} with no {@code fooId} attribute reads the foreign
+     * key of association {@code foo}.
+     */
+    <P> CursorPage<P> scroll(Specification<T> spec, Class<P> projection, String cursor, int size, boolean includeTotal);
+
+    /**
+     * Offset-paged {@link #findAll(Specification, Pageable)} selecting only the getters of
+     * {@code projection}, as in the projected {@link #scroll}. {@code spec} may be {@code null}.
+     */
+    <P> Page<P> findAll(Specification<T> spec, Class<P> projection, Pageable pageable);
+}
@@ -0,0 +1,26 @@
+package com.example.eventura.repository;
+
+import com.example.eventura.entity.Notification;
+import com.example.eventura.entity.NotificationPreference;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+
+@Repository
+public interface NotificationPreferenceRepository extends JpaRepository<NotificationPreference, Long> {
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = "notification-preferences-by-user")
+    })
+    List<NotificationPreference> findByUserId(Long userId);
+
+    // Bulk fan-out: one query per chunk of recipients instead of a lookup each
+    List<NotificationPreference> findByTypeAndUserIdIn(Notification.Type type, Collection<Long> userIds);
+}
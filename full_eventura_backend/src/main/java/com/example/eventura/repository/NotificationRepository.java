@@ -1,12 +1,76 @@
 package com.example.eventura.repository;
 
 import com.example.eventura.entity.Notification;
-import com.example.eventura.entity.User;
-import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface NotificationRepository extends JpaRepository<Notification, Long> {
-    Page<Notification> findByUser(User user, Pageable pageable);
-    Page<Notification> findByUserAndIsRead(User user, Boolean isRead, Pageable pageable);
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public interface NotificationRepository extends KeysetRepository<Notification, Long> {
+    String LIST_ITEM_COLUMNS = "n.id AS id, n.user.id AS userId, n.type AS type, n.subjectId AS subjectId,"
+            + " n.params AS params, n.eventCount AS eventCount, n.seq AS seq, n.message AS message,"
+            + " n.isRead AS isRead, n.createdAt AS createdAt, n.lastEventAt AS lastEventAt";
+
+    // created_at lower bound lets MySQL prune the monthly partitions that are out of retention
+    long countByUserIdAndIsReadAndCreatedAtGreaterThanEqual(Long userId, Boolean isRead, LocalDateTime since);
+
+    // Unread feed, latest event first, on idx_notifications_user_unread_last_event
+    @Query("SELECT " + LIST_ITEM_COLUMNS + " FROM Notification n"
+            + " WHERE n.user.id = :userId AND n.isRead = false AND n.createdAt >= :since"
+            + " ORDER BY n.lastEventAt DESC, n.id DESC")
+    List<NotificationListItem> findUnreadByLatestEvent(@Param("userId") Long userId, @Param("since") LocalDateTime since,
+                                               Pageable pageable);
+
+    // Locks (creating it if needed) the notification_threads row for this key until commit, so
+    // concurrent events for one thread are applied one at a time
+    @Modifying
+    @Query(value = "INSERT INTO notification_threads (user_id, collapse_key, last_event_at)"
+            + " VALUES (:userId, :collapseKey, :now) ON DUPLICATE KEY UPDATE last_event_at = :now", nativeQuery = true)
+    int lockThread(@Param("userId") Long userId, @Param("collapseKey") String collapseKey,
+                   @Param("now") LocalDateTime now);
+
+    // Unread rows collecting events for this key, latest first; only call while holding lockThread
+    @Query("SELECT n FROM Notification n WHERE n.user.id = :userId AND n.collapseKey = :collapseKey"
+            + " AND n.isRead = false AND n.createdAt >= :since ORDER BY n.lastEventAt DESC, n.id DESC")
+    List<Notification> findOpenThreads(@Param("userId") Long userId, @Param("collapseKey") String collapseKey,
+                                       @Param("since") LocalDateTime since, Pageable pageable);
+
+    // Replay range after a reconnect, served by the (user_id, seq) index
+    @Query("SELECT " + LIST_ITEM_COLUMNS + " FROM Notification n"
+            + " WHERE n.user.id = :userId AND n.seq > :seq AND n.createdAt >= :since ORDER BY n.seq ASC")
+    List<NotificationListItem> findReplayRange(@Param("userId") Long userId, @Param("seq") Long seq,
+                                               @Param("since") LocalDateTime since, Pageable pageable);
+
+    // Only rows that are actually unread are touched, so the update count is the unread delta
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true, n.updatedAt = :now"
+            + " WHERE n.user.id = :userId AND n.isRead = false AND n.createdAt >= :since")
+    int markAllRead(@Param("userId") Long userId, @Param("since") LocalDateTime since, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE Notification n SET n.isRead = true, n.updatedAt = :now"
+            + " WHERE n.user.id = :userId AND n.isRead = false AND n.createdAt >= :since AND n.id IN :ids")
+    int markRead(@Param("userId") Long userId, @Param("ids") Collection<Long> ids,
+                 @Param("since") LocalDateTime since, @Param("now") LocalDateTime now);
+
+    // Feed, replay and list pages select only what NotificationResponse needs, not the whole row
+    interface NotificationListItem {
+        Long getId();
+        Long getUserId();
+        Notification.Type getType();
+        Long getSubjectId();
+        Map<String, String> getParams();
+        Integer getEventCount();
+        Long getSeq();
+        String getMessage();
+        Boolean getIsRead();
+        LocalDateTime getCreatedAt();
+        LocalDateTime getLastEventAt();
+    }
 }
\ No newline at end of file
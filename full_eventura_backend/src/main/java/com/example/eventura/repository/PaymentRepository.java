@@ -5,19 +5,56 @@ import com.example.eventura.entity.ServiceRequest;
 import com.example.eventura.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.Optional;
 
-public interface PaymentRepository extends JpaRepository<Payment, Long> {
-    Page<Payment> findByClient(User client, Pageable pageable);
-    Page<Payment> findByProvider(User provider, Pageable pageable);
-    Optional<Payment> findTopByRequestOrderByCreatedAtDesc(ServiceRequest request);
-    Optional<Payment> findByRequest(ServiceRequest request);
+public interface PaymentRepository extends KeysetRepository<Payment, Long> {
+    // List pages select only what PaymentResponse shows; the parties stay foreign-key ids
+    @Query(value = "SELECT p.id AS id, p.request.id AS requestId, p.client.id AS clientId, p.provider.id AS providerId,"
+            + " p.amount AS amount, p.paymentStatus AS paymentStatus, p.transactionId AS transactionId,"
+            + " p.disputeReason AS disputeReason, p.createdAt AS createdAt FROM Payment p WHERE p.client = :client",
+            countQuery = "SELECT COUNT(p) FROM Payment p WHERE p.client = :client")
+    Page<PaymentListItem> findByClient(@Param("client") User client, Pageable pageable);
+
+    @Query(value = "SELECT p.id AS id, p.request.id AS requestId, p.client.id AS clientId, p.provider.id AS providerId,"
+            + " p.amount AS amount, p.paymentStatus AS paymentStatus, p.transactionId AS transactionId,"
+            + " p.disputeReason AS disputeReason, p.createdAt AS createdAt FROM Payment p WHERE p.provider = :provider",
+            countQuery = "SELECT COUNT(p) FROM Payment p WHERE p.provider = :provider")
+    Page<PaymentListItem> findByProvider(@Param("provider") User provider, Pageable pageable);
+
+    Optional<Payment> findTopByRequestAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(ServiceRequest request, LocalDateTime since);
+    Optional<Payment> findFirstByRequestAndCreatedAtGreaterThanEqual(ServiceRequest request, LocalDateTime since);
+
+    // A payment never predates its request, so the request's creation time is a safe
+    // partition-pruning bound for the created_at partitions
+    default Optional<Payment> findLatestForRequest(ServiceRequest request) {
+        return findTopByRequestAndCreatedAtGreaterThanEqualOrderByCreatedAtDesc(request, lowerBound(request));
+    }
+
+    default Optional<Payment> findAnyForRequest(ServiceRequest request) {
+        return findFirstByRequestAndCreatedAtGreaterThanEqual(request, lowerBound(request));
+    }
+
+    private static LocalDateTime lowerBound(ServiceRequest request) {
+        return request.getCreatedAt() != null ? request.getCreatedAt() : LocalDateTime.of(1970, 1, 1, 0, 0);
+    }
     Page<Payment> findByPaymentStatus(Payment.PaymentStatus status, Pageable pageable);
+
+    // Admin grid pages; totals come from TotalCountCache instead of a COUNT per page
+    Slice<Payment> findAllBy(Pageable pageable);
+    Slice<Payment> findSliceByPaymentStatus(Payment.PaymentStatus status, Pageable pageable);
+    long countByPaymentStatus(Payment.PaymentStatus status);
+
+    // Status transitions notify both parties and mention the request title
+    @EntityGraph(attributePaths = {"request", "client", "provider"})
+    Optional<Payment> findDetailedById(Long id);
+
     @Query("SELECT SUM(p.platformFee) FROM Payment p WHERE p.paymentStatus = :status")
     Double sumPlatformFeeByStatus(@Param("status") Payment.PaymentStatus status);
 
@@ -26,4 +63,16 @@ public interface PaymentRepository extends JpaRepository<Payment, Long> {
 
     @Query("SELECT SUM(p.providerAmount) FROM Payment p WHERE p.paymentStatus = :status")
     Double sumProviderAmountByStatus(@Param("status") Payment.PaymentStatus status);
+
+    interface PaymentListItem {
+        Long getId();
+        Long getRequestId();
+        Long getClientId();
+        Long getProviderId();
+        Double getAmount();
+        Payment.PaymentStatus getPaymentStatus();
+        String getTransactionId();
+        String getDisputeReason();
+        LocalDateTime getCreatedAt();
+    }
 }
\ No newline at end of file
@@ -5,9 +5,52 @@ import com.example.eventura.entity.ServiceRequest;
 import com.example.eventura.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
 
 public interface PitchRepository extends JpaRepository<Pitch, Long> {
-    Page<Pitch> findByRequest(ServiceRequest request, Pageable pageable);
-    Page<Pitch> findByProvider(User provider, Pageable pageable);
+    // List pages select only what PitchResponse shows; the parties stay foreign-key ids
+    @Query(value = "SELECT p.id AS id, p.request.id AS requestId, p.provider.id AS providerId, p.message AS message,"
+            + " p.proposedPrice AS proposedPrice, p.status AS status, p.createdAt AS createdAt"
+            + " FROM Pitch p WHERE p.request = :request",
+            countQuery = "SELECT COUNT(p) FROM Pitch p WHERE p.request = :request")
+    Page<PitchListItem> findByRequest(@Param("request") ServiceRequest request, Pageable pageable);
+
+    @Query(value = "SELECT p.id AS id, p.request.id AS requestId, p.provider.id AS providerId, p.message AS message,"
+            + " p.proposedPrice AS proposedPrice, p.status AS status, p.createdAt AS createdAt"
+            + " FROM Pitch p WHERE p.provider = :provider",
+            countQuery = "SELECT COUNT(p) FROM Pitch p WHERE p.provider = :provider")
+    Page<PitchListItem> findByProvider(@Param("provider") User provider, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"request", "request.client", "provider"})
+    Optional<Pitch> findDetailedById(Long id);
+
+    @EntityGraph(attributePaths = {"provider"})
+    List<Pitch> findByRequestAndStatus(ServiceRequest request, Pitch.Status status);
+
+    @Query("SELECT COUNT(p) AS pitchCount, MIN(p.proposedPrice) AS lowestBid, MAX(p.proposedPrice) AS highestBid"
+            + " FROM Pitch p WHERE p.request.id = :requestId")
+    PitchStats getPitchStats(@Param("requestId") Long requestId);
+
+    interface PitchListItem {
+        Long getId();
+        Long getRequestId();
+        Long getProviderId();
+        String getMessage();
+        Double getProposedPrice();
+        Pitch.Status getStatus();
+        LocalDateTime getCreatedAt();
+    }
+
+    interface PitchStats {
+        long getPitchCount();
+        Double getLowestBid();
+        Double getHighestBid();
+    }
 }
\ No newline at end of file
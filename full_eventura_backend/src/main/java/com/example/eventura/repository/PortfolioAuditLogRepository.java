@@ -1,12 +1,31 @@
 package com.example.eventura.repository;
 
 import com.example.eventura.entity.PortfolioAuditLog;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.List;
+import java.time.LocalDateTime;
 
 @Repository
 public interface PortfolioAuditLogRepository extends JpaRepository<PortfolioAuditLog, Long> {
-    List<PortfolioAuditLog> findByPortfolioIdOrderByChangedAtDesc(Long portfolioId);
+
+    // Reads only the log columns, walking idx_portfolio_audit_logs_portfolio_changed
+    @Query("SELECT l.id AS id, l.fieldName AS fieldName, l.oldValue AS oldValue, l.newValue AS newValue,"
+            + " l.changedAt AS changedAt FROM PortfolioAuditLog l"
+            + " WHERE l.portfolio.id = :portfolioId AND l.provider.id = :providerId"
+            + " ORDER BY l.changedAt DESC, l.id DESC")
+    Slice<HistoryEntry> findHistory(@Param("portfolioId") Long portfolioId, @Param("providerId") Long providerId,
+                                    Pageable pageable);
+
+    interface HistoryEntry {
+        Long getId();
+        String getFieldName();
+        String getOldValue();
+        String getNewValue();
+        LocalDateTime getChangedAt();
+    }
 }
@@ -4,9 +4,21 @@ import com.example.eventura.entity.Portfolio;
 import com.example.eventura.entity.ServiceProvider;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
+import java.util.Optional;
+
 public interface PortfolioRepository extends JpaRepository<Portfolio, Long>, JpaSpecificationExecutor<Portfolio> {
     Page<Portfolio> findByProvider(ServiceProvider provider, Pageable pageable);
+
+    // Admin grid pages; totals come from TotalCountCache instead of a COUNT per page
+    Slice<Portfolio> findAllBy(Pageable pageable);
+    Slice<Portfolio> findSliceByStatus(Portfolio.Status status, Pageable pageable);
+    long countByStatus(Portfolio.Status status);
+
+    @EntityGraph(attributePaths = {"provider", "provider.user"})
+    Optional<Portfolio> findDetailedById(Long id);
 }
\ No newline at end of file
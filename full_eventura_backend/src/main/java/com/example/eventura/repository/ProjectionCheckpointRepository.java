@@ -0,0 +1,16 @@
+package com.example.eventura.repository;
+
+import com.example.eventura.entity.ProjectionCheckpoint;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface ProjectionCheckpointRepository extends JpaRepository<ProjectionCheckpoint, String> {
+    // Row lock serializes projection runs across instances; the chunk commits with the checkpoint
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    Optional<ProjectionCheckpoint> findByName(String name);
+}
@@ -4,14 +4,30 @@ import com.example.eventura.entity.Report;
 import com.example.eventura.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.stereotype.Repository;
 
-
+import java.util.Optional;
 
 @Repository
 public interface ReportRepository extends JpaRepository<Report, Long> {
+    // Reports are serialized as entities, so every read loads the full graph up front
+
+    @Override
+    @EntityGraph("Report.detail")
+    Optional<Report> findById(Long id);
+
+    @Override
+    @EntityGraph("Report.detail")
+    Page<Report> findAll(Pageable pageable);
+
+    @EntityGraph("Report.detail")
     Page<Report> findByReportedUser(User reportedUser, Pageable pageable);
+
+    @EntityGraph("Report.detail")
     Page<Report> findByReportedBy(User reportedBy, Pageable pageable);
+
+    @EntityGraph("Report.detail")
     Page<Report> findByStatus(Report.Status status, Pageable pageable);
 }
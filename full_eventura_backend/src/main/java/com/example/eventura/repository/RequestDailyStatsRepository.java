@@ -0,0 +1,13 @@
+package com.example.eventura.repository;
+
+import com.example.eventura.entity.RequestDailyStats;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface RequestDailyStatsRepository extends JpaRepository<RequestDailyStats, LocalDate> {
+    List<RequestDailyStats> findByDayBetweenOrderByDayAsc(LocalDate from, LocalDate to);
+}
@@ -0,0 +1,23 @@
+package com.example.eventura.repository;
+
+import com.example.eventura.entity.RequestEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface RequestEventRepository extends JpaRepository<RequestEvent, Long> {
+    // Served by idx_request_events_request_occurred (request_id, occurred_at, id), no filesort
+    List<RequestEvent> findByRequestIdOrderByOccurredAtAscIdAsc(Long requestId);
+
+    // Replay in commit-time order, resuming after the last (occurredAt, id) a projection applied
+    @Query("SELECT e FROM RequestEvent e WHERE (e.occurredAt > :occurredAt OR (e.occurredAt = :occurredAt AND e.id > :id))"
+            + " AND e.occurredAt <= :until ORDER BY e.occurredAt, e.id")
+    List<RequestEvent> findBatchAfter(@Param("occurredAt") LocalDateTime occurredAt, @Param("id") Long id,
+                                      @Param("until") LocalDateTime until, Pageable pageable);
+}
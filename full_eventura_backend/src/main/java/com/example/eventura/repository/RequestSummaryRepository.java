@@ -0,0 +1,27 @@
+package com.example.eventura.repository;
+
+import com.example.eventura.entity.RequestSummary;
+import com.example.eventura.entity.ServiceRequest;
+import jakarta.persistence.LockModeType;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface RequestSummaryRepository extends JpaRepository<RequestSummary, Long> {
+    // Served by (client_id, created_at) / (assigned_provider_id, created_at)
+    Page<RequestSummary> findByClientIdAndStatusNotOrderByCreatedAtDesc(Long clientId, ServiceRequest.Status status, Pageable pageable);
+    Page<RequestSummary> findByAssignedProviderIdOrderByCreatedAtDesc(Long providerId, Pageable pageable);
+
+    // Concurrent transactions on the same request update its counters one after the other
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM RequestSummary s WHERE s.requestId IN :requestIds")
+    List<RequestSummary> findAllForUpdate(@Param("requestIds") Collection<Long> requestIds);
+}
@@ -6,8 +6,28 @@ import com.example.eventura.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
 
 public interface ReviewRepository extends JpaRepository<Review, Long> {
-    Page<Review> findByProvider(User provider, Pageable pageable);
+    // List pages select only what ReviewResponse shows; the parties stay foreign-key ids
+    @Query(value = "SELECT r.id AS id, r.request.id AS requestId, r.client.id AS clientId, r.provider.id AS providerId,"
+            + " r.rating AS rating, r.comment AS comment, r.createdAt AS createdAt"
+            + " FROM Review r WHERE r.provider = :provider",
+            countQuery = "SELECT COUNT(r) FROM Review r WHERE r.provider = :provider")
+    Page<ReviewListItem> findByProvider(@Param("provider") User provider, Pageable pageable);
+
     Page<Review> findByRequest(ServiceRequest request, Pageable pageable);
-}
\ No newline at end of file
+
+    interface ReviewListItem {
+        Long getId();
+        Long getRequestId();
+        Long getClientId();
+        Long getProviderId();
+        Integer getRating();
+        String getComment();
+        LocalDateTime getCreatedAt();
+    }
+}
@@ -2,8 +2,33 @@ package com.example.eventura.repository;
 
 import com.example.eventura.entity.ServiceProvider;
 import com.example.eventura.entity.User;
-import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.QueryHints;
 
-public interface ServiceProviderRepository extends JpaRepository<ServiceProvider, Long> {
+import java.util.Optional;
+
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+
+public interface ServiceProviderRepository extends KeysetRepository<ServiceProvider, Long> {
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = "service-providers-by-user")
+    })
     ServiceProvider findByUser(User user);
+
+    @EntityGraph(attributePaths = {"user"})
+    Optional<ServiceProvider> findDetailedById(Long id);
+
+    // List pages (ProviderService) select only what ProviderResponse shows; the user stays a foreign-key id
+    interface ProviderListItem {
+        Long getId();
+        Long getUserId();
+        String getCompanyName();
+        String getServiceType();
+        String getAddress();
+        String getMobileNumber();
+        Boolean getIsVerified();
+    }
 }
\ No newline at end of file
@@ -4,9 +4,33 @@ import com.example.eventura.entity.ServiceRequest;
 import com.example.eventura.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.EntityGraph;
 
-public interface ServiceRequestRepository extends JpaRepository<ServiceRequest, Long> {
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+public interface ServiceRequestRepository extends KeysetRepository<ServiceRequest, Long> {
     Page<ServiceRequest> findByClient(User client, Pageable pageable);
     Page<ServiceRequest> findByServiceType(String serviceType, Pageable pageable);
+
+    @EntityGraph(attributePaths = {"client", "assignedProvider"})
+    Optional<ServiceRequest> findDetailedById(Long id);
+
+    // List pages (RequestService) select only what ServiceRequestResponse shows; the parties stay foreign-key ids
+    interface RequestListItem {
+        Long getId();
+        Long getClientId();
+        Long getAssignedProviderId();
+        String getTitle();
+        String getEventName();
+        LocalDate getEventDate();
+        String getLocation();
+        String getServiceType();
+        String getDescription();
+        Double getBudget();
+        Double getAssignedPrice();
+        ServiceRequest.Status getStatus();
+        LocalDateTime getCreatedAt();
+    }
 }
\ No newline at end of file
@@ -1,9 +1,37 @@
 package com.example.eventura.repository;
 
 import com.example.eventura.entity.User;
-import org.springframework.data.jpa.repository.JpaRepository;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
-public interface UserRepository extends JpaRepository<User, Long> {
+import static org.hibernate.jpa.HibernateHints.HINT_CACHEABLE;
+import static org.hibernate.jpa.HibernateHints.HINT_CACHE_REGION;
+
+public interface UserRepository extends KeysetRepository<User, Long> {
+    @QueryHints({
+            @QueryHint(name = HINT_CACHEABLE, value = "true"),
+            @QueryHint(name = HINT_CACHE_REGION, value = "users-by-email")
+    })
     User findByEmail(String email);
+
     User findByMobileNumber(String mobileNumber);
+
+    // Admin grid pages; totals come from TotalCountCache instead of a COUNT per page. Only what
+    // UserResponse shows is selected, so password hashes and OTPs stay out of the listing
+    @Query("SELECT u.id AS id, u.firstName AS firstName, u.lastName AS lastName, u.email AS email,"
+            + " u.mobileNumber AS mobileNumber, u.role AS role, u.accountStatus AS accountStatus FROM User u")
+    Slice<UserListItem> findAllBy(Pageable pageable);
+
+    interface UserListItem {
+        Long getId();
+        String getFirstName();
+        String getLastName();
+        String getEmail();
+        String getMobileNumber();
+        User.Role getRole();
+        User.AccountStatus getAccountStatus();
+    }
 }
\ No newline at end of file
@@ -4,10 +4,16 @@ import com.example.eventura.entity.ServiceProvider;
 import com.example.eventura.entity.VerificationDocument;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 
 public interface VerificationDocumentRepository extends JpaRepository<VerificationDocument, Long>,
         JpaSpecificationExecutor<VerificationDocument> {
     Page<VerificationDocument> findByProvider(ServiceProvider provider, Pageable pageable);
+
+    // Admin grid pages; totals come from TotalCountCache instead of a COUNT per page
+    Slice<VerificationDocument> findAllBy(Pageable pageable);
+    Slice<VerificationDocument> findSliceByStatus(VerificationDocument.Status status, Pageable pageable);
+    long countByStatus(VerificationDocument.Status status);
 }
\ No newline at end of file
@@ -0,0 +1,314 @@
+package com.example.eventura.service;
+
+import com.example.eventura.dto.response.AccountPurgeJobResponse;
+import com.example.eventura.entity.AccountPurgeJob;
+import com.example.eventura.entity.EntityAuditLog;
+import com.example.eventura.entity.NotificationPreference;
+import com.example.eventura.entity.Payment;
+import com.example.eventura.entity.Portfolio;
+import com.example.eventura.entity.ServiceProvider;
+import com.example.eventura.entity.User;
+import com.example.eventura.entity.VerificationDocument;
+import com.example.eventura.exception.ResourceNotFoundException;
+import com.example.eventura.repository.AccountPurgeJobRepository;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.ConcurrencyFailureException;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+/**
+ * Hard-deletes accounts in the background. Each step removes the user's rows from one table
+ * in batches of {@code app.purge.batch-size}, committing after every batch together with the
+ * job's progress, so no transaction holds more than one batch of row locks and a restarted
+ * job resumes where it stopped.
+ * <p>
+ * The deletes are plain JDBC, invisible to EntityAuditListener, and the user's own audit history
+ * is one of the things purged; a completed purge leaves a single audit entry on the user with
+ * the number of rows removed.
+ * <p>
+ * Every instance polls the same queue, so a job is claimed before it runs and each batch checks
+ * the claim is still held; a claim not refreshed for {@code app.purge.claim-timeout-ms} is taken
+ * over by the next poll.
+ */
+@Service
+@RequiredArgsConstructor
+public class AccountPurgeService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AccountPurgeService.class);
+
+    private static final List<AccountPurgeJob.Status> OPEN_STATUSES =
+            List.of(AccountPurgeJob.Status.PENDING, AccountPurgeJob.Status.RUNNING);
+
+    // Bumps version too, so a batch the previous holder is still running fails on save
+    private static final String CLAIM_SQL = "UPDATE account_purge_jobs"
+            + " SET claimed_by = :instanceId, claimed_at = :now, version = version + 1"
+            + " WHERE id = :jobId AND status IN ('PENDING', 'RUNNING')"
+            + " AND (claimed_at IS NULL OR claimed_at < :staleClaims)";
+
+    private static final String CLIENT_REQUESTS = "SELECT id FROM service_requests WHERE client_id = :userId";
+    private static final String ARCHIVED_CLIENT_REQUESTS = "SELECT id FROM service_requests_archive WHERE client_id = :userId";
+    private static final String PROVIDER_PROFILE = "SELECT id FROM service_providers WHERE user_id = :userId";
+
+    // MySQL single-table DELETE/UPDATE accept LIMIT, which keeps every statement bounded
+    private static final Map<AccountPurgeJob.Step, String> STEP_SQL = new EnumMap<>(Map.ofEntries(
+            Map.entry(AccountPurgeJob.Step.NOTIFICATIONS,
+                    "DELETE FROM notifications WHERE user_id = :userId LIMIT :batchSize"),
+            Map.entry(AccountPurgeJob.Step.NOTIFICATION_THREADS,
+                    "DELETE FROM notification_threads WHERE user_id = :userId LIMIT :batchSize"),
+            Map.entry(AccountPurgeJob.Step.NOTIFICATION_SEQUENCES,
+                    "DELETE FROM notification_sequences WHERE user_id = :userId LIMIT :batchSize"),
+            Map.entry(AccountPurgeJob.Step.NOTIFICATION_PREFERENCES,
+                    "DELETE FROM notification_preferences WHERE user_id = :userId LIMIT :batchSize"),
+            Map.entry(AccountPurgeJob.Step.EMAIL_DIGEST_ENTRIES,
+                    "DELETE FROM email_digest_entries WHERE recipient_id = :userId LIMIT :batchSize"),
+            Map.entry(AccountPurgeJob.Step.ANNOUNCEMENT_WATERMARKS,
+                    "DELETE FROM announcement_watermarks WHERE user_id = :userId LIMIT :batchSize"),
+            Map.entry(AccountPurgeJob.Step.DIRECT_CONNECTIONS,
+                    "DELETE FROM direct_connections WHERE client_id = :userId OR provider_id = :userId LIMIT :batchSize"),
+            Map.entry(AccountPurgeJob.Step.REVIEWS,
+                    "DELETE FROM reviews WHERE client_id = :userId OR provider_id = :userId"
+                            + " OR request_id IN (" + CLIENT_REQUESTS + ") LIMIT :batchSize"),
+            Map.entry(AccountPurgeJob.Step.REPORTS,
+                    "DELETE FROM reports WHERE reported_by = :userId OR reported_user = :userId"
+                            + " OR request_id IN (" + CLIENT_REQUESTS + ") LIMIT :batchSize"),
+            Map.entry(AccountPurgeJob.Step.PAYMENTS,
+                    "DELETE FROM payments WHERE client_id = :userId"
+                            + " OR request_id IN (" + CLIENT_REQUESTS + ") LIMIT :batchSize"),
+            // Payments other clients made to this provider are their records, kept without the provider
+            Map.entry(AccountPurgeJob.Step.PROVIDER_PAYMENTS,
+                    "UPDATE payments SET provider_id = NULL WHERE provider_id = :userId LIMIT :batchSize"),
+            Map.entry(AccountPurgeJob.Step.PITCHES,
+                    "DELETE FROM pitches WHERE provider_id = :userId"
+                            + " OR request_id IN (" + CLIENT_REQUESTS + ") LIMIT :batchSize"),
+            Map.entry(AccountPurgeJob.Step.REQUEST_EVENTS,
+                    "DELETE FROM request_events WHERE request_id IN (" + CLIENT_REQUESTS + ")"
+                            + " OR request_id IN (" + ARCHIVED_CLIENT_REQUESTS + ") LIMIT :batchSize"),
+            Map.entry(AccountPurgeJob.Step.REQUEST_SUMMARIES,
+                    "DELETE FROM request_summaries WHERE client_id = :userId LIMIT :batchSize"),
+            Map.entry(AccountPurgeJob.Step.PROVIDER_SUMMARIES,
+                    "UPDATE request_summaries SET assigned_provider_id = NULL"
+                            + " WHERE assigned_provider_id = :userId LIMIT :batchSize"),
+            // Other clients' requests assigned to this provider survive, just unassigned
+            Map.entry(AccountPurgeJob.Step.ASSIGNED_REQUESTS,
+                    "UPDATE service_requests SET assigned_provider_id = NULL"
+                            + " WHERE assigned_provider_id = :userId LIMIT :batchSize"),
+            Map.entry(AccountPurgeJob.Step.SERVICE_REQUESTS,
+                    "DELETE FROM service_requests WHERE client_id = :userId LIMIT :batchSize"),
+            Map.entry(AccountPurgeJob.Step.ARCHIVED_PAYMENTS,
+                    "DELETE FROM payments_archive WHERE client_id = :userId LIMIT :batchSize"),
+            Map.entry(AccountPurgeJob.Step.ARCHIVED_PROVIDER_PAYMENTS,
+                    "UPDATE payments_archive SET provider_id = NULL WHERE provider_id = :userId LIMIT :batchSize"),
+            Map.entry(AccountPurgeJob.Step.ARCHIVED_PITCHES,
+                    "DELETE FROM pitches_archive WHERE provider_id = :userId"
+                            + " OR request_id IN (" + ARCHIVED_CLIENT_REQUESTS + ") LIMIT :batchSize"),
+            Map.entry(AccountPurgeJob.Step.ARCHIVED_REQUESTS,
+                    "DELETE FROM service_requests_archive WHERE client_id = :userId LIMIT :batchSize"),
+            // Change history of the account and provider profile themselves
+            Map.entry(AccountPurgeJob.Step.AUDIT_LOGS,
+                    "DELETE FROM entity_audit_logs WHERE (entity_type = 'User' AND entity_id = CAST(:userId AS CHAR))"
+                            + " OR (entity_type = 'ServiceProvider' AND entity_id IN"
+                            + " (SELECT CAST(id AS CHAR) FROM service_providers WHERE user_id = :userId)) LIMIT :batchSize"),
+            Map.entry(AccountPurgeJob.Step.PORTFOLIO_AUDIT_LOGS,
+                    "DELETE FROM portfolio_audit_logs WHERE provider_id IN (" + PROVIDER_PROFILE + ") LIMIT :batchSize"),
+            Map.entry(AccountPurgeJob.Step.PORTFOLIOS,
+                    "DELETE FROM portfolios WHERE provider_id IN (" + PROVIDER_PROFILE + ") LIMIT :batchSize"),
+            Map.entry(AccountPurgeJob.Step.VERIFICATION_DOCUMENTS,
+                    "DELETE FROM verification_documents WHERE provider_id IN (" + PROVIDER_PROFILE + ") LIMIT :batchSize"),
+            Map.entry(AccountPurgeJob.Step.SERVICE_PROVIDER,
+                    "DELETE FROM service_providers WHERE user_id = :userId LIMIT :batchSize"),
+            Map.entry(AccountPurgeJob.Step.USER,
+                    "DELETE FROM users WHERE id = :userId LIMIT :batchSize")
+    ));
+
+    private final AccountPurgeJobRepository accountPurgeJobRepository;
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final EntityManagerFactory entityManagerFactory;
+    private final TotalCountCache totalCountCache;
+    private final AuditLogService auditLogService;
+
+    @Value("${app.purge.batch-size:500}")
+    private int batchSize;
+
+    @Value("${app.purge.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.purge.claim-timeout-ms:600000}")
+    private long claimTimeoutMs;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    /**
+     * Queues a purge for {@code user}, or returns the one already queued. Must run inside the
+     * transaction that marks the account DELETED.
+     */
+    @Transactional
+    public AccountPurgeJobResponse enqueue(User user) {
+        AccountPurgeJob job = accountPurgeJobRepository.findFirstByUserIdOrderByIdDesc(user.getId())
+                .filter(existing -> OPEN_STATUSES.contains(existing.getStatus()))
+                .orElseGet(() -> {
+                    AccountPurgeJob created = new AccountPurgeJob();
+                    created.setUserId(user.getId());
+                    return accountPurgeJobRepository.save(created);
+                });
+        return convertToResponse(job);
+    }
+
+    @Transactional(readOnly = true)
+    public AccountPurgeJobResponse getJob(Long jobId) {
+        AccountPurgeJob job = accountPurgeJobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Purge job not found"));
+        return convertToResponse(job);
+    }
+
+    @Transactional(readOnly = true)
+    public AccountPurgeJobResponse getLatestJobForUser(Long userId) {
+        AccountPurgeJob job = accountPurgeJobRepository.findFirstByUserIdOrderByIdDesc(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("No purge job for this user"));
+        return convertToResponse(job);
+    }
+
+    @Scheduled(fixedDelayString = "${app.purge.poll-interval-ms:10000}")
+    public void processJobs() {
+        for (AccountPurgeJob job : accountPurgeJobRepository.findTop20ByStatusInOrderByIdAsc(OPEN_STATUSES)) {
+            if (!claim(job.getId())) {
+                continue;
+            }
+            try {
+                run(job);
+            } catch (ConcurrencyFailureException e) {
+                logger.info("Purge job {} was taken over by another instance: {}", job.getId(), e.getMessage());
+            } catch (RuntimeException e) {
+                logger.warn("Purge job {} for user {} failed at step {}: {}",
+                        job.getId(), job.getUserId(), job.getCurrentStep(), e.getMessage());
+                recordFailure(job.getId(), e);
+            }
+        }
+    }
+
+    private boolean claim(Long jobId) {
+        LocalDateTime now = LocalDateTime.now();
+        return jdbcTemplate.update(CLAIM_SQL, new MapSqlParameterSource()
+                .addValue("instanceId", instanceId)
+                .addValue("now", Timestamp.valueOf(now))
+                .addValue("jobId", jobId)
+                .addValue("staleClaims", Timestamp.valueOf(now.minus(claimTimeoutMs, ChronoUnit.MILLIS)))) == 1;
+    }
+
+    private void run(AccountPurgeJob job) {
+        Long jobId = job.getId();
+        AccountPurgeJob.Step step = job.getCurrentStep();
+        while (step != null) {
+            AccountPurgeJob.Step currentStep = step;
+            step = transactionTemplate.execute(status -> purgeBatch(jobId, currentStep));
+        }
+        evictCaches(job.getUserId());
+        logger.info("Purge job {} for user {} completed", jobId, job.getUserId());
+    }
+
+    /**
+     * Deletes one batch for {@code step} and records it on the job in the same transaction, which
+     * also refreshes the claim. Returns the step to run next, or {@code null} once the job is complete.
+     */
+    private AccountPurgeJob.Step purgeBatch(Long jobId, AccountPurgeJob.Step step) {
+        AccountPurgeJob job = accountPurgeJobRepository.findById(jobId)
+                .orElseThrow(() -> new ResourceNotFoundException("Purge job not found"));
+        if (!instanceId.equals(job.getClaimedBy())) {
+            throw new ConcurrencyFailureException("Purge job " + jobId + " is claimed by " + job.getClaimedBy());
+        }
+        int affected = jdbcTemplate.update(STEP_SQL.get(step), new MapSqlParameterSource()
+                .addValue("userId", job.getUserId())
+                .addValue("batchSize", batchSize));
+
+        job.setStatus(AccountPurgeJob.Status.RUNNING);
+        job.setRowsDeleted(job.getRowsDeleted() + affected);
+        job.setClaimedAt(LocalDateTime.now());
+        if (affected == batchSize) {
+            accountPurgeJobRepository.save(job);
+            return step;
+        }
+
+        AccountPurgeJob.Step[] steps = AccountPurgeJob.Step.values();
+        if (step.ordinal() + 1 < steps.length) {
+            job.setCurrentStep(steps[step.ordinal() + 1]);
+            accountPurgeJobRepository.save(job);
+            return job.getCurrentStep();
+        }
+
+        job.setStatus(AccountPurgeJob.Status.COMPLETED);
+        job.setCompletedAt(LocalDateTime.now());
+        job.setLastError(null);
+        job.setClaimedBy(null);
+        job.setClaimedAt(null);
+        accountPurgeJobRepository.save(job);
+        auditLogService.recordAfterCommit(User.class.getSimpleName(), List.of(job.getUserId()),
+                EntityAuditLog.Operation.DELETE, Map.of("rowsDeleted", new Object[]{null, job.getRowsDeleted()}));
+        return null;
+    }
+
+    private void recordFailure(Long jobId, RuntimeException e) {
+        transactionTemplate.executeWithoutResult(status -> accountPurgeJobRepository.findById(jobId)
+                .filter(job -> instanceId.equals(job.getClaimedBy()))
+                .ifPresent(job -> {
+                    job.setAttempts(job.getAttempts() + 1);
+                    // Released so the next poll, on any instance, retries it
+                    job.setClaimedBy(null);
+                    job.setClaimedAt(null);
+                    String message = String.valueOf(e.getMessage());
+                    job.setLastError(message.length() > 1000 ? message.substring(0, 1000) : message);
+                    if (job.getAttempts() >= maxAttempts) {
+                        job.setStatus(AccountPurgeJob.Status.FAILED);
+                    }
+                    accountPurgeJobRepository.save(job);
+                }));
+    }
+
+    // The purge bypasses Hibernate, so drop every cached copy that may point at removed rows
+    private void evictCaches(Long userId) {
+        SessionFactory sessionFactory = entityManagerFactory.unwrap(SessionFactory.class);
+        sessionFactory.getCache().evictEntityData(User.class, userId);
+        sessionFactory.getCache().evictEntityData(ServiceProvider.class);
+        sessionFactory.getCache().evictEntityData(Portfolio.class);
+        sessionFactory.getCache().evictQueryRegion("users-by-email");
+        sessionFactory.getCache().evictQueryRegion("service-providers-by-user");
+        sessionFactory.getCache().evictEntityData(NotificationPreference.class);
+        sessionFactory.getCache().evictQueryRegion("notification-preferences-by-user");
+
+        totalCountCache.invalidate(User.class);
+        totalCountCache.invalidate(Payment.class);
+        totalCountCache.invalidate(Portfolio.class);
+        totalCountCache.invalidate(VerificationDocument.class);
+    }
+
+    private AccountPurgeJobResponse convertToResponse(AccountPurgeJob job) {
+        AccountPurgeJobResponse response = new AccountPurgeJobResponse();
+        response.setId(job.getId());
+        response.setUserId(job.getUserId());
+        response.setStatus(job.getStatus().name());
+        response.setCurrentStep(job.getCurrentStep().name());
+        response.setRowsDeleted(job.getRowsDeleted());
+        response.setAttempts(job.getAttempts());
+        response.setLastError(job.getLastError());
+        response.setCreatedAt(job.getCreatedAt());
+        response.setUpdatedAt(job.getUpdatedAt());
+        response.setCompletedAt(job.getCompletedAt());
+        return response;
+    }
+}
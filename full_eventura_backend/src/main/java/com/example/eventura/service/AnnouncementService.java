@@ -0,0 +1,161 @@
+package com.example.eventura.service;
+
+import com.example.eventura.dto.request.AnnouncementRequest;
+import com.example.eventura.dto.response.AnnouncementResponse;
+import com.example.eventura.entity.Announcement;
+import com.example.eventura.entity.AnnouncementWatermark;
+import com.example.eventura.entity.ServiceProvider;
+import com.example.eventura.entity.User;
+import com.example.eventura.exception.InvalidInputException;
+import com.example.eventura.repository.AnnouncementRepository;
+import com.example.eventura.repository.AnnouncementWatermarkRepository;
+import com.example.eventura.repository.ServiceProviderRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Announcements are stored once and matched against a user's role, status and service type
+ * when the user reads, instead of fanning out a notification row per recipient. Whether one is
+ * unread is decided by the user's read watermark. The active set and the watermarks are kept
+ * in memory, so badge and feed reads don't query for them.
+ */
+@Service
+@RequiredArgsConstructor
+public class AnnouncementService {
+
+    private final AnnouncementRepository announcementRepository;
+    private final AnnouncementWatermarkRepository announcementWatermarkRepository;
+    private final ServiceProviderRepository serviceProviderRepository;
+    private final WebSocketEventService webSocketEventService;
+
+    private static final LocalDateTime NO_WATERMARK = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final Map<Long, LocalDateTime> watermarks = new ConcurrentHashMap<>();
+    private volatile List<Announcement> active;
+
+    @Transactional
+    public AnnouncementResponse createAnnouncement(Long adminId, AnnouncementRequest request) {
+        if (request.getMessage() == null || request.getMessage().isBlank()) {
+            throw new InvalidInputException("Announcement message is required");
+        }
+        Announcement announcement = new Announcement();
+        announcement.setMessage(request.getMessage());
+        announcement.setTargetRole(request.getTargetRole());
+        announcement.setTargetStatus(request.getTargetStatus());
+        announcement.setTargetServiceType(request.getTargetServiceType());
+        announcement.setExpiresAt(request.getExpiresAt());
+        announcement.setCreatedBy(adminId);
+
+        AnnouncementResponse response = convertToResponse(announcementRepository.save(announcement));
+        afterCommit(this::refresh);
+        // Content-free signal; clients fetch their unread feed, which applies the targeting
+        webSocketEventService.broadcastAnnouncementSignal();
+        return response;
+    }
+
+    @Transactional(readOnly = true)
+    public Page<AnnouncementResponse> getAnnouncements(Pageable pageable) {
+        return announcementRepository.findAllByOrderByCreatedAtDesc(pageable).map(this::convertToResponse);
+    }
+
+    /**
+     * Active announcements addressed to the user and created after their watermark, newest first.
+     */
+    @Transactional(readOnly = true)
+    public List<Announcement> getUnread(User user) {
+        List<Announcement> current = activeAnnouncements();
+        if (current.isEmpty()) {
+            return List.of();
+        }
+        LocalDateTime readUntil = watermark(user);
+        String serviceType = current.stream().anyMatch(a -> a.getTargetServiceType() != null)
+                ? serviceTypeOf(user)
+                : null;
+        return current.stream()
+                .filter(a -> a.getCreatedAt().isAfter(readUntil))
+                .filter(a -> a.getTargetRole() == null || a.getTargetRole() == user.getRole())
+                .filter(a -> a.getTargetStatus() == null || a.getTargetStatus() == user.getAccountStatus())
+                .filter(a -> a.getTargetServiceType() == null || a.getTargetServiceType().equalsIgnoreCase(serviceType))
+                .toList();
+    }
+
+    @Transactional
+    public void markAllRead(User user) {
+        LocalDateTime now = LocalDateTime.now();
+        AnnouncementWatermark watermark = new AnnouncementWatermark();
+        watermark.setUserId(user.getId());
+        watermark.setReadUntil(now);
+        announcementWatermarkRepository.save(watermark);
+        afterCommit(() -> watermarks.put(user.getId(), now));
+    }
+
+    // Also drops expired announcements and cached watermarks
+    @Scheduled(fixedDelayString = "${app.announcements.refresh-interval-ms:60000}")
+    public void refresh() {
+        active = announcementRepository.findActive(LocalDateTime.now());
+        watermarks.clear();
+    }
+
+    private List<Announcement> activeAnnouncements() {
+        List<Announcement> current = active;
+        if (current == null) {
+            current = announcementRepository.findActive(LocalDateTime.now());
+            active = current;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        return current.stream().filter(a -> a.getExpiresAt() == null || a.getExpiresAt().isAfter(now)).toList();
+    }
+
+    // Users without a watermark have read everything announced before they signed up; legacy
+    // accounts with no sign-up time see every active announcement
+    private LocalDateTime watermark(User user) {
+        return watermarks.computeIfAbsent(user.getId(), id -> announcementWatermarkRepository.findById(id)
+                .map(AnnouncementWatermark::getReadUntil)
+                .orElse(user.getCreatedAt() != null ? user.getCreatedAt() : NO_WATERMARK));
+    }
+
+    private String serviceTypeOf(User user) {
+        if (user.getRole() != User.Role.PROVIDER) {
+            return null;
+        }
+        ServiceProvider provider = serviceProviderRepository.findByUser(user);
+        return provider == null ? null : provider.getServiceType();
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private AnnouncementResponse convertToResponse(Announcement announcement) {
+        AnnouncementResponse response = new AnnouncementResponse();
+        response.setId(announcement.getId());
+        response.setMessage(announcement.getMessage());
+        response.setTargetRole(announcement.getTargetRole() == null ? null : announcement.getTargetRole().name());
+        response.setTargetStatus(announcement.getTargetStatus() == null ? null : announcement.getTargetStatus().name());
+        response.setTargetServiceType(announcement.getTargetServiceType());
+        response.setCreatedBy(announcement.getCreatedBy());
+        response.setCreatedAt(announcement.getCreatedAt());
+        response.setExpiresAt(announcement.getExpiresAt());
+        return response;
+    }
+}
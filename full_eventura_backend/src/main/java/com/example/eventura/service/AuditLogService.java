@@ -0,0 +1,162 @@
+package com.example.eventura.service;
+
+import com.example.eventura.dto.response.EntityAuditLogResponse;
+import com.example.eventura.entity.EntityAuditLog;
+import com.example.eventura.repository.EntityAuditLogRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+
+/**
+ * Append-only entity change log. Captured changes are queued in memory and written by a
+ * scheduled flusher in JDBC batches, so the audited transaction never waits on the log.
+ */
+@Service
+@RequiredArgsConstructor
+public class AuditLogService {
+
+    private static final Logger logger = LoggerFactory.getLogger(AuditLogService.class);
+
+    private static final String INSERT_SQL = "INSERT INTO entity_audit_logs"
+            + " (entity_type, entity_id, operation, actor, changed_at, changes) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityAuditLogRepository entityAuditLogRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.audit.queue-capacity:10000}")
+    private int queueCapacity;
+
+    @Value("${app.audit.batch-size:500}")
+    private int batchSize;
+
+    private BlockingQueue<Entry> queue;
+    // A batch that failed to write, retried before anything newer
+    private List<Entry> failed = List.of();
+
+    @PostConstruct
+    void init() {
+        queue = new LinkedBlockingQueue<>(queueCapacity);
+    }
+
+    public record Entry(String entityType, String entityId, EntityAuditLog.Operation operation,
+                        String actor, LocalDateTime changedAt, String changes) {
+    }
+
+    /**
+     * Queue one entry per id once the current transaction commits. For background jobs whose
+     * bulk JDBC statements bypass Hibernate and so never reach EntityAuditListener; no actor
+     * is recorded.
+     */
+    public void recordAfterCommit(String entityType, Collection<?> entityIds, EntityAuditLog.Operation operation,
+                                  Map<String, Object[]> changes) {
+        String json;
+        try {
+            json = objectMapper.writeValueAsString(changes);
+        } catch (JsonProcessingException e) {
+            logger.error("Failed to audit {} of {} {}: {}", operation, entityIds.size(), entityType, e.getMessage());
+            return;
+        }
+        LocalDateTime now = LocalDateTime.now();
+        List<Entry> entries = entityIds.stream()
+                .map(id -> new Entry(entityType, String.valueOf(id), operation, null, now, json))
+                .toList();
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            entries.forEach(this::enqueue);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                entries.forEach(AuditLogService.this::enqueue);
+            }
+        });
+    }
+
+    /**
+     * Queue a change for writing. Never blocks: if the writer has fallen so far behind that
+     * the queue is full, the entry is dropped and logged.
+     */
+    public void enqueue(Entry entry) {
+        if (!queue.offer(entry)) {
+            logger.warn("Audit queue full, dropped {} of {}#{}",
+                    entry.operation(), entry.entityType(), entry.entityId());
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.audit.flush-interval-ms:1000}")
+    public synchronized void flush() {
+        if (!failed.isEmpty()) {
+            if (!write(failed)) {
+                return;
+            }
+            failed = List.of();
+        }
+        List<Entry> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            if (!write(batch)) {
+                failed = batch;
+                return;
+            }
+            batch = new ArrayList<>(batchSize);
+        }
+    }
+
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    @Transactional(readOnly = true)
+    public Page<EntityAuditLogResponse> getHistory(String entityType, String entityId, Pageable pageable) {
+        return entityAuditLogRepository.findByEntityTypeAndEntityIdOrderByIdDesc(entityType, entityId, pageable)
+                .map(this::convertToResponse);
+    }
+
+    private boolean write(List<Entry> batch) {
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch.stream()
+                    .map(entry -> new Object[]{entry.entityType(), entry.entityId(), entry.operation().name(),
+                            entry.actor(), Timestamp.valueOf(entry.changedAt()), entry.changes()})
+                    .toList());
+            return true;
+        } catch (RuntimeException e) {
+            logger.error("Failed to write {} audit entries, will retry: {}", batch.size(), e.getMessage());
+            return false;
+        }
+    }
+
+    private EntityAuditLogResponse convertToResponse(EntityAuditLog log) {
+        EntityAuditLogResponse response = new EntityAuditLogResponse();
+        response.setId(log.getId());
+        response.setEntityType(log.getEntityType());
+        response.setEntityId(log.getEntityId());
+        response.setOperation(log.getOperation().name());
+        response.setActor(log.getActor());
+        response.setChangedAt(log.getChangedAt());
+        response.setChanges(log.getChanges());
+        return response;
+    }
+}
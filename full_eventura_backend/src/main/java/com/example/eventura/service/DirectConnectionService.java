@@ -3,6 +3,7 @@ package com.example.eventura.service;
 import com.example.eventura.dto.request.DirectConnectionRequest;
 import com.example.eventura.dto.response.DirectConnectionResponse;
 import com.example.eventura.entity.DirectConnection;
+import com.example.eventura.entity.Notification;
 import com.example.eventura.entity.User;
 import com.example.eventura.exception.ResourceNotFoundException;
 import com.example.eventura.exception.UnauthorizedException;
@@ -15,6 +16,10 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
 
 @Service
 public class DirectConnectionService {
@@ -33,30 +38,48 @@ public class DirectConnectionService {
     @Autowired
     private EmailService emailService;
 
-    public DirectConnectionResponse createDirectConnection(DirectConnectionRequest request, String email) {
-        User client = userRepository.findByEmail(email);
-        if (client == null || !client.getRole().equals(User.Role.CLIENT)) {
-            throw new UnauthorizedException("Only clients can create connections");
-        }
-
-        User provider = userRepository.findById(request.getProviderId())
-                .orElseThrow(() -> new ResourceNotFoundException("Provider not found"));
-
-        DirectConnection connection = new DirectConnection();
-        connection.setClient(client);
-        connection.setProvider(provider);
-        connection.setEventDetails(request.getEventDetails());
-        connection.setProposedDate(request.getProposedDate());
-        connection.setStatus(DirectConnection.ConnectionStatus.PENDING);
+    @Autowired
+    private NotificationPreferenceService notificationPreferenceService;
 
-        DirectConnection savedConnection = directConnectionRepository.save(connection);
+    @Autowired
+    private EmailDigestService emailDigestService;
 
-        // Notify the provider (both ways: notification and email)
-        String message = String.format("New connection request from %s %s for %s on %s",
-                client.getFirstName(), client.getLastName(), request.getEventDetails(), request.getProposedDate());
-        notificationService.createNotification(provider, message);
+    // Emails go out after the commit so SMTP latency never holds a pooled connection
+    @Autowired
+    private TransactionTemplate transactionTemplate;
 
-        // Send connection request email
+    public DirectConnectionResponse createDirectConnection(DirectConnectionRequest request, String email) {
+        DirectConnection savedConnection = transactionTemplate.execute(status -> {
+            User client = userRepository.findByEmail(email);
+            if (client == null || !client.getRole().equals(User.Role.CLIENT)) {
+                throw new UnauthorizedException("Only clients can create connections");
+            }
+
+            User provider = userRepository.findById(request.getProviderId())
+                    .orElseThrow(() -> new ResourceNotFoundException("Provider not found"));
+
+            DirectConnection connection = new DirectConnection();
+            connection.setClient(client);
+            connection.setProvider(provider);
+            connection.setEventDetails(request.getEventDetails());
+            connection.setProposedDate(request.getProposedDate());
+            connection.setStatus(DirectConnection.ConnectionStatus.PENDING);
+
+            DirectConnection saved = directConnectionRepository.save(connection);
+
+            // Notify the provider (both ways: notification and email)
+            notificationService.createNotification(provider, Notification.Type.CONNECTION_REQUESTED, saved.getId(),
+                    requestParams(saved));
+            return saved;
+        });
+        User client = savedConnection.getClient();
+        User provider = savedConnection.getProvider();
+
+        // Send connection request email, unless the provider turned email off or batches these in a digest
+        if (!sendImmediateEmail(provider, Notification.Type.CONNECTION_REQUESTED, savedConnection.getId(),
+                requestParams(savedConnection))) {
+            return convertToResponse(savedConnection);
+        }
         try {
             emailService.sendConnectionRequestEmail(
                     provider.getEmail(),
@@ -77,31 +100,15 @@ public class DirectConnectionService {
     }
 
     public DirectConnectionResponse acceptConnection(Long connectionId, String email) {
-        User provider = userRepository.findByEmail(email);
-        if (provider == null || !provider.getRole().equals(User.Role.PROVIDER)) {
-            throw new UnauthorizedException("Only providers can accept connections");
-        }
-
-        DirectConnection connection = directConnectionRepository.findById(connectionId)
-                .orElseThrow(() -> new ResourceNotFoundException("Connection not found"));
-
-        if (!connection.getProvider().getId().equals(provider.getId())) {
-            throw new UnauthorizedException("Provider not associated with this connection");
+        DirectConnection connection = transactionTemplate.execute(status ->
+                respondToConnection(connectionId, email, DirectConnection.ConnectionStatus.ACCEPTED));
+        User provider = connection.getProvider();
+
+        // Send acceptance email, unless the client turned email off or batches these in a digest
+        if (!sendImmediateEmail(connection.getClient(), Notification.Type.CONNECTION_RESPONDED, connection.getId(),
+                responseParams(connection))) {
+            return convertToResponse(connection);
         }
-
-        if (connection.getStatus() != DirectConnection.ConnectionStatus.PENDING) {
-            throw new IllegalStateException("Connection is not in PENDING status");
-        }
-
-        connection.setStatus(DirectConnection.ConnectionStatus.ACCEPTED);
-        DirectConnection updatedConnection = directConnectionRepository.save(connection);
-
-        // Notify the client (both ways: notification and email)
-        String message = String.format("Your connection request for %s has been accepted by %s %s",
-                connection.getEventDetails(), provider.getFirstName(), provider.getLastName());
-        notificationService.createNotification(connection.getClient(), message);
-
-        // Send acceptance email
         try {
             emailService.sendConnectionAcceptanceEmail(
                     connection.getClient().getEmail(),
@@ -117,16 +124,46 @@ public class DirectConnectionService {
             // Continue despite email failure
         }
 
-        return convertToResponse(updatedConnection);
+        return convertToResponse(connection);
     }
 
     public DirectConnectionResponse rejectConnection(Long connectionId, String email) {
+        DirectConnection connection = transactionTemplate.execute(status ->
+                respondToConnection(connectionId, email, DirectConnection.ConnectionStatus.REJECTED));
+        User provider = connection.getProvider();
+
+        // Send rejection email, unless the client turned email off or batches these in a digest
+        if (!sendImmediateEmail(connection.getClient(), Notification.Type.CONNECTION_RESPONDED, connection.getId(),
+                responseParams(connection))) {
+            return convertToResponse(connection);
+        }
+        try {
+            emailService.sendConnectionRejectionEmail(
+                    connection.getClient().getEmail(),
+                    "Connection Request Rejected",
+                    connection.getClient().getFirstName(),
+                    connection.getClient().getLastName(),
+                    connection.getEventDetails(),
+                    provider.getFirstName(),
+                    provider.getLastName()
+            );
+        } catch (MessagingException e) {
+            logger.error("Failed to send rejection email to {}: {}", connection.getClient().getEmail(), e.getMessage());
+            // Continue despite email failure
+        }
+
+        return convertToResponse(connection);
+    }
+
+    private DirectConnection respondToConnection(Long connectionId, String email,
+                                                 DirectConnection.ConnectionStatus newStatus) {
+        String action = newStatus == DirectConnection.ConnectionStatus.ACCEPTED ? "accept" : "reject";
         User provider = userRepository.findByEmail(email);
         if (provider == null || !provider.getRole().equals(User.Role.PROVIDER)) {
-            throw new UnauthorizedException("Only providers can reject connections");
+            throw new UnauthorizedException("Only providers can " + action + " connections");
         }
 
-        DirectConnection connection = directConnectionRepository.findById(connectionId)
+        DirectConnection connection = directConnectionRepository.findDetailedById(connectionId)
                 .orElseThrow(() -> new ResourceNotFoundException("Connection not found"));
 
         if (!connection.getProvider().getId().equals(provider.getId())) {
@@ -137,33 +174,51 @@ public class DirectConnectionService {
             throw new IllegalStateException("Connection is not in PENDING status");
         }
 
-        connection.setStatus(DirectConnection.ConnectionStatus.REJECTED);
+        connection.setStatus(newStatus);
         DirectConnection updatedConnection = directConnectionRepository.save(connection);
 
         // Notify the client (both ways: notification and email)
-        String message = String.format("Your connection request for %s has been rejected by %s %s",
-                connection.getEventDetails(), provider.getFirstName(), provider.getLastName());
-        notificationService.createNotification(connection.getClient(), message);
+        notificationService.createNotification(connection.getClient(), Notification.Type.CONNECTION_RESPONDED,
+                connection.getId(), responseParams(connection));
+        return updatedConnection;
+    }
 
-        // Send rejection email
+    /**
+     * Whether the recipient wants this event emailed right away. Users who chose the digest for
+     * the type get it queued for their next summary email instead.
+     */
+    private boolean sendImmediateEmail(User recipient, Notification.Type type, Long connectionId,
+                                       Map<String, String> params) {
+        NotificationPreferenceService.Delivery delivery = notificationPreferenceService.resolve(recipient, type);
+        if (!delivery.email()) {
+            return false;
+        }
+        if (!delivery.digest()) {
+            return true;
+        }
         try {
-            emailService.sendConnectionRejectionEmail(
-                    connection.getClient().getEmail(),
-                    "Connection Request Rejected",
-                    connection.getClient().getFirstName(),
-                    connection.getClient().getLastName(),
-                    connection.getEventDetails(),
-                    provider.getFirstName(),
-                    provider.getLastName()
-            );
-        } catch (MessagingException e) {
-            logger.error("Failed to send rejection email to {}: {}", connection.getClient().getEmail(), e.getMessage());
-            // Continue despite email failure
+            emailDigestService.enqueue(recipient, type, connectionId, params);
+        } catch (RuntimeException e) {
+            logger.error("Failed to queue digest entry for {}: {}", recipient.getEmail(), e.getMessage());
+            // Continue despite digest failure
         }
+        return false;
+    }
+
+    private static Map<String, String> requestParams(DirectConnection connection) {
+        User client = connection.getClient();
+        return NotificationService.params("clientName", client.getFirstName() + " " + client.getLastName(),
+                "eventDetails", connection.getEventDetails(), "proposedDate", connection.getProposedDate());
+    }
 
-        return convertToResponse(updatedConnection);
+    private static Map<String, String> responseParams(DirectConnection connection) {
+        User provider = connection.getProvider();
+        return NotificationService.params("eventDetails", connection.getEventDetails(),
+                "status", connection.getStatus().name().toLowerCase(),
+                "providerName", provider.getFirstName() + " " + provider.getLastName());
     }
 
+    @Transactional(readOnly = true)
     public Page<DirectConnectionResponse> getConnectionsByClient(String email, Pageable pageable) {
         User client = userRepository.findByEmail(email);
         if (client == null) {
@@ -174,6 +229,7 @@ public class DirectConnectionService {
                 .map(this::convertToResponse);
     }
 
+    @Transactional(readOnly = true)
     public Page<DirectConnectionResponse> getConnectionsByProvider(String email, Pageable pageable) {
         User provider = userRepository.findByEmail(email);
         if (provider == null) {
@@ -185,6 +241,7 @@ public class DirectConnectionService {
     }
 
 
+    @Transactional(readOnly = true)
     public DirectConnectionResponse getConnectionById(Long connectionId, String email) {
         User user = userRepository.findByEmail(email);
         if (user == null) {
@@ -203,6 +260,7 @@ public class DirectConnectionService {
     }
 
 
+    @Transactional
     public void deleteDirectConnection(Long connectionId, String email) {
         User user = userRepository.findByEmail(email);
         if (user == null || !user.getRole().equals(User.Role.CLIENT)) {
@@ -219,6 +277,18 @@ public class DirectConnectionService {
         directConnectionRepository.delete(connection);
     }
 
+    private DirectConnectionResponse convertToResponse(DirectConnectionRepository.DirectConnectionListItem connection) {
+        DirectConnectionResponse response = new DirectConnectionResponse();
+        response.setId(connection.getId());
+        response.setClientId(connection.getClientId());
+        response.setProviderId(connection.getProviderId());
+        response.setEventDetails(connection.getEventDetails());
+        response.setProposedDate(connection.getProposedDate());
+        response.setStatus(connection.getStatus().name());
+        response.setCreatedAt(connection.getCreatedAt());
+        return response;
+    }
+
     private DirectConnectionResponse convertToResponse(DirectConnection connection) {
         DirectConnectionResponse response = new DirectConnectionResponse();
         response.setId(connection.getId());
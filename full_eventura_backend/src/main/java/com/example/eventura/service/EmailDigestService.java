@@ -0,0 +1,191 @@
+package com.example.eventura.service;
+
+import com.example.eventura.entity.Notification;
+import com.example.eventura.entity.User;
+import com.example.eventura.repository.UserRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.mail.MessagingException;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.i18n.LocaleContextHolder;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * Low-priority emails for users who chose the digest for a type. Events are queued in
+ * email_digest_entries, one row per recipient and entity, so repeated events about the same
+ * entity only bump its count; once a recipient's oldest entry is a window old, everything
+ * queued for them goes out as a single summary email. An instance claims a recipient's rows
+ * before sending, so each row is sent by one instance; a recipient whose sends keep failing is
+ * dropped after {@code app.notifications.digest.max-attempts}.
+ */
+@Service
+@RequiredArgsConstructor
+public class EmailDigestService {
+
+    private static final Logger logger = LoggerFactory.getLogger(EmailDigestService.class);
+
+    private static final String ENQUEUE_SQL = "INSERT INTO email_digest_entries"
+            + " (recipient_id, type, subject_id, params, event_count, first_at, last_at) VALUES (?, ?, ?, ?, 1, ?, ?)"
+            + " ON DUPLICATE KEY UPDATE params = VALUES(params), event_count = event_count + 1, last_at = VALUES(last_at)";
+
+    private static final int MAX_CONSECUTIVE_FAILURES = 3;
+
+    // Walked in recipient order so each recipient is tried at most once per run
+    private static final String DUE_RECIPIENTS_SQL = "SELECT recipient_id FROM email_digest_entries"
+            + " WHERE recipient_id > ? AND attempts < ? AND (claimed_at IS NULL OR claimed_at < ?)"
+            + " GROUP BY recipient_id HAVING MIN(first_at) <= ? ORDER BY recipient_id LIMIT ?";
+
+    // Claims left by an instance that died mid-send expire after the claim timeout
+    private static final String CLAIM_SQL = "UPDATE email_digest_entries SET claimed_by = ?, claimed_at = ?"
+            + " WHERE recipient_id = ? AND attempts < ? AND (claimed_at IS NULL OR claimed_at < ?)";
+
+    private static final String ENTRIES_SQL = "SELECT id, type, params, event_count, last_at FROM email_digest_entries"
+            + " WHERE recipient_id = ? AND claimed_by = ? ORDER BY last_at";
+
+    private static final String DELETE_SENT_SQL = "DELETE FROM email_digest_entries WHERE id = ? AND last_at = ?";
+
+    // Entries bumped while the digest was being sent keep only the events it didn't include
+    private static final String CARRY_OVER_SQL = "UPDATE email_digest_entries SET event_count = event_count - ?,"
+            + " first_at = last_at, attempts = 0, claimed_by = NULL, claimed_at = NULL WHERE id = ? AND claimed_by = ?";
+
+    private static final String RELEASE_FAILED_SQL = "UPDATE email_digest_entries SET attempts = attempts + 1,"
+            + " claimed_by = NULL, claimed_at = NULL WHERE recipient_id = ? AND claimed_by = ?";
+
+    private static final String DELETE_EXHAUSTED_SQL = "DELETE FROM email_digest_entries"
+            + " WHERE recipient_id = ? AND attempts >= ?";
+
+    private static final String DELETE_RECIPIENT_SQL = "DELETE FROM email_digest_entries WHERE recipient_id = ?";
+
+    private static final TypeReference<Map<String, String>> PARAMS_TYPE = new TypeReference<>() {
+    };
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserRepository userRepository;
+    private final EmailService emailService;
+    private final NotificationTemplates notificationTemplates;
+    private final ObjectMapper objectMapper;
+
+    @Value("${app.notifications.digest.window-ms:3600000}")
+    private long windowMs;
+
+    @Value("${app.notifications.digest.batch-size:200}")
+    private int batchSize;
+
+    @Value("${app.notifications.digest.max-attempts:5}")
+    private int maxAttempts;
+
+    @Value("${app.notifications.digest.claim-timeout-ms:600000}")
+    private long claimTimeoutMs;
+
+    private final String instanceId = UUID.randomUUID().toString();
+
+    private record Entry(long id, Notification.Type type, Map<String, String> params, int count, Timestamp lastAt) {
+    }
+
+    /**
+     * Queue an event about {@code subjectId} for the recipient's next digest; an entry already
+     * queued for the same type and subject takes the latest params and counts one more event.
+     */
+    public void enqueue(User recipient, Notification.Type type, Long subjectId, Map<String, String> params) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.update(ENQUEUE_SQL, recipient.getId(), type.name(), subjectId, writeParams(params), now, now);
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.digest.flush-interval-ms:300000}")
+    public void flush() {
+        LocalDateTime now = LocalDateTime.now();
+        Timestamp due = Timestamp.valueOf(now.minus(windowMs, ChronoUnit.MILLIS));
+        Timestamp staleClaims = Timestamp.valueOf(now.minus(claimTimeoutMs, ChronoUnit.MILLIS));
+        long after = 0;
+        int consecutiveFailures = 0;
+        List<Long> recipients;
+        do {
+            recipients = jdbcTemplate.queryForList(DUE_RECIPIENTS_SQL, Long.class,
+                    after, maxAttempts, staleClaims, due, batchSize);
+            for (Long recipientId : recipients) {
+                if (send(recipientId, staleClaims)) {
+                    consecutiveFailures = 0;
+                } else if (++consecutiveFailures == MAX_CONSECUTIVE_FAILURES) {
+                    // The mail server is probably down; stop before every recipient uses up an attempt
+                    return;
+                }
+                after = recipientId;
+            }
+        } while (recipients.size() == batchSize);
+    }
+
+    private boolean send(Long recipientId, Timestamp staleClaims) {
+        Optional<User> recipient = userRepository.findById(recipientId);
+        if (recipient.isEmpty()) {
+            jdbcTemplate.update(DELETE_RECIPIENT_SQL, recipientId);
+            return true;
+        }
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        if (jdbcTemplate.update(CLAIM_SQL, instanceId, now, recipientId, maxAttempts, staleClaims) == 0) {
+            // Another instance got there first
+            return true;
+        }
+        List<Entry> entries = jdbcTemplate.query(ENTRIES_SQL, (rs, row) -> new Entry(rs.getLong("id"),
+                Notification.Type.valueOf(rs.getString("type")), readParams(rs.getString("params")),
+                rs.getInt("event_count"), rs.getTimestamp("last_at")), recipientId, instanceId);
+        if (entries.isEmpty()) {
+            return true;
+        }
+
+        User user = recipient.get();
+        Locale locale = LocaleContextHolder.getLocale();
+        List<String> items = entries.stream()
+                .map(entry -> notificationTemplates.render(entry.type(), entry.params(), entry.count(), locale))
+                .toList();
+        try {
+            emailService.sendDigestEmail(user.getEmail(), "Your Eventura updates", user.getFirstName(), items);
+        } catch (MessagingException | RuntimeException e) {
+            logger.error("Failed to send digest of {} items to {}: {}", items.size(), user.getEmail(), e.getMessage());
+            jdbcTemplate.update(RELEASE_FAILED_SQL, recipientId, instanceId);
+            int dropped = jdbcTemplate.update(DELETE_EXHAUSTED_SQL, recipientId, maxAttempts);
+            if (dropped > 0) {
+                logger.warn("Dropped {} digest entries for {} after {} failed attempts", dropped, user.getEmail(), maxAttempts);
+            }
+            return false;
+        }
+        jdbcTemplate.batchUpdate(DELETE_SENT_SQL, entries.stream()
+                .map(entry -> new Object[]{entry.id(), entry.lastAt()})
+                .toList());
+        jdbcTemplate.batchUpdate(CARRY_OVER_SQL, entries.stream()
+                .map(entry -> new Object[]{entry.count(), entry.id(), instanceId})
+                .toList());
+        return true;
+    }
+
+    private String writeParams(Map<String, String> params) {
+        try {
+            return params == null ? null : objectMapper.writeValueAsString(params);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Failed to serialize digest params", e);
+        }
+    }
+
+    private Map<String, String> readParams(String json) {
+        try {
+            return json == null ? Map.of() : objectMapper.readValue(json, PARAMS_TYPE);
+        } catch (JsonProcessingException e) {
+            logger.warn("Unreadable digest params, rendering without them: {}", e.getMessage());
+            return Map.of();
+        }
+    }
+}
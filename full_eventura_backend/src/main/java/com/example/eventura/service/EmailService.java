@@ -13,6 +13,8 @@ import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class EmailService {
@@ -231,4 +233,29 @@ public class EmailService {
         logger.debug("Sent OTP email to {}", to);
     }
 
+    /**
+     * One summary email for everything queued in the recipient's digest, rendered in a single
+     * template pass over the pre-rendered {@code items}.
+     */
+    public void sendDigestEmail(String to, String subject, String firstName, List<String> items) throws MessagingException {
+        Context context = new Context();
+        context.setVariable("firstName", firstName);
+        context.setVariable("items", items);
+        context.setVariable("appUrl", appUrl);
+        context.setVariable("supportEmail", supportEmail);
+
+        String body = templateEngine.process("digest-email", context);
+
+        MimeMessage message = mailSender.createMimeMessage();
+        MimeMessageHelper helper = new MimeMessageHelper(message, true, "UTF-8");
+
+        helper.setFrom(mailSenderUsername);
+        helper.setTo(to);
+        helper.setSubject(subject);
+        helper.setText(body, true);
+
+        mailSender.send(message);
+        logger.debug("Sent digest email with {} items to {}", items.size(), to);
+    }
+
 }
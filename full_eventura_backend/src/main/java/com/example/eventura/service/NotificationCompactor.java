@@ -0,0 +1,108 @@
+package com.example.eventura.service;
+
+import com.example.eventura.config.NotificationRetentionProperties;
+import com.example.eventura.entity.Notification;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Deletes notifications past their type's retention. Each (type, read state) is walked oldest
+ * first on idx_notifications_type_read_created in keyset batches; every batch is its own
+ * statement, deleted by primary key so only the rows' partitions are touched.
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationCompactor {
+
+    private static final Logger logger = LoggerFactory.getLogger(NotificationCompactor.class);
+
+    // <=> so that untyped (pre-V12) rows are matched by a NULL type
+    private static final String SELECT_EXPIRED = "SELECT id, created_at FROM notifications"
+            + " WHERE type <=> :type AND is_read = :isRead AND created_at < :cutoff"
+            + " AND (created_at > :lastCreatedAt OR (created_at = :lastCreatedAt AND id > :lastId))"
+            + " ORDER BY created_at, id LIMIT :batchSize";
+    private static final String DELETE_BY_KEY = "DELETE FROM notifications WHERE (id, created_at) IN (:keys)";
+    // Thread lock rows are recreated on the next event, so idle ones can go once no writer can hold them
+    private static final String DELETE_IDLE_THREADS = "DELETE FROM notification_threads"
+            + " WHERE last_event_at < :cutoff LIMIT :batchSize";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final NotificationRetentionProperties retention;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+
+    @Scheduled(cron = "${app.notifications.retention.compact-cron:0 30 3 * * *}")
+    public void compact() {
+        List<Notification.Type> types = new ArrayList<>(Arrays.asList(Notification.Type.values()));
+        types.add(null);
+
+        long deletedRead = 0;
+        long deletedUnread = 0;
+        for (Notification.Type type : types) {
+            deletedRead += compact(type, true, retention.readDays(type));
+            deletedUnread += compact(type, false, retention.unreadDays(type));
+        }
+        if (deletedUnread > 0) {
+            // Expired unread rows no longer count towards badges
+            unreadNotificationCounter.reset();
+        }
+        logger.info("Notification compaction deleted {} read and {} unread notifications, {} idle threads",
+                deletedRead, deletedUnread, deleteIdleThreads());
+    }
+
+    private long deleteIdleThreads() {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("cutoff", Timestamp.valueOf(LocalDateTime.now().minusDays(1)))
+                .addValue("batchSize", retention.getBatchSize());
+        long deleted = 0;
+        int batch;
+        do {
+            batch = jdbcTemplate.update(DELETE_IDLE_THREADS, params);
+            deleted += batch;
+        } while (batch == retention.getBatchSize());
+        return deleted;
+    }
+
+    private long compact(Notification.Type type, boolean isRead, int retentionDays) {
+        if (retentionDays <= 0) {
+            return 0;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("type", type == null ? null : type.name())
+                .addValue("isRead", isRead)
+                .addValue("cutoff", Timestamp.valueOf(LocalDateTime.now().minusDays(retentionDays)))
+                .addValue("lastCreatedAt", Timestamp.valueOf(LocalDateTime.of(1970, 1, 1, 0, 0)))
+                .addValue("lastId", 0L)
+                .addValue("batchSize", retention.getBatchSize());
+
+        long deleted = 0;
+        while (true) {
+            List<Object[]> keys = jdbcTemplate.query(SELECT_EXPIRED, params,
+                    (rs, rowNum) -> new Object[]{rs.getLong("id"), rs.getTimestamp("created_at")});
+            if (keys.isEmpty()) {
+                return deleted;
+            }
+            try {
+                deleted += jdbcTemplate.update(DELETE_BY_KEY, new MapSqlParameterSource("keys", keys));
+            } catch (RuntimeException e) {
+                logger.warn("Notification compaction stopped for {} (read={}): {}", type, isRead, e.getMessage());
+                return deleted;
+            }
+            Object[] last = keys.get(keys.size() - 1);
+            params.addValue("lastId", last[0]).addValue("lastCreatedAt", last[1]);
+            if (keys.size() < retention.getBatchSize()) {
+                return deleted;
+            }
+        }
+    }
+}
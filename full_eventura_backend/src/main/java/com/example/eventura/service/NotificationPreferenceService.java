@@ -0,0 +1,186 @@
+package com.example.eventura.service;
+
+import com.example.eventura.dto.request.NotificationPreferenceRequest;
+import com.example.eventura.dto.response.NotificationPreferenceResponse;
+import com.example.eventura.entity.Notification;
+import com.example.eventura.entity.NotificationPreference;
+import com.example.eventura.entity.User;
+import com.example.eventura.exception.InvalidInputException;
+import com.example.eventura.exception.ResourceNotFoundException;
+import com.example.eventura.repository.NotificationPreferenceRepository;
+import com.example.eventura.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Which channels a user wants each notification type on, and how many per hour. Lookups are
+ * served from the second-level and query caches, so the notification write paths can consult
+ * them before doing any work the user opted out of.
+ */
+@Service
+@RequiredArgsConstructor
+public class NotificationPreferenceService {
+
+    private static final int LOOKUP_CHUNK = 1000;
+    private static final long HOUR_MILLIS = 3_600_000L;
+
+    private final NotificationPreferenceRepository notificationPreferenceRepository;
+    private final UserRepository userRepository;
+
+    // userId:type -> deliveries counted in the current clock hour
+    private final Map<String, RateWindow> rateWindows = new ConcurrentHashMap<>();
+
+    /**
+     * Effective channels for one type; types without a stored preference get {@link #DEFAULT}.
+     */
+    public record Delivery(boolean inApp, boolean push, boolean email, boolean digest, Integer maxPerHour) {
+        static Delivery of(NotificationPreference preference) {
+            return new Delivery(preference.isInApp(), preference.isPush(), preference.isEmail(),
+                    preference.isDigest(), preference.getMaxPerHour());
+        }
+    }
+
+    public static final Delivery DEFAULT = new Delivery(true, true, true, false, null);
+
+    private record RateWindow(long hour, int count) {
+    }
+
+    @Transactional(readOnly = true)
+    public Delivery resolve(User user, Notification.Type type) {
+        return notificationPreferenceRepository.findByUserId(user.getId()).stream()
+                .filter(preference -> preference.getType() == type)
+                .findFirst()
+                .map(Delivery::of)
+                .orElse(DEFAULT);
+    }
+
+    /**
+     * Channels for many recipients of one type, loaded with one query per {@link #LOOKUP_CHUNK} users.
+     */
+    @Transactional(readOnly = true)
+    public Map<Long, Delivery> resolveAll(Collection<User> users, Notification.Type type) {
+        List<Long> userIds = users.stream().map(User::getId).distinct().toList();
+        Map<Long, Delivery> deliveries = new HashMap<>();
+        for (int from = 0; from < userIds.size(); from += LOOKUP_CHUNK) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + LOOKUP_CHUNK, userIds.size()));
+            notificationPreferenceRepository.findByTypeAndUserIdIn(type, chunk)
+                    .forEach(preference -> deliveries.put(preference.getUserId(), Delivery.of(preference)));
+        }
+        userIds.forEach(id -> deliveries.putIfAbsent(id, DEFAULT));
+        return deliveries;
+    }
+
+    /**
+     * Count one in-app/push delivery against the user's hourly cap for the type; false once the
+     * cap is reached.
+     */
+    public boolean withinRate(User user, Notification.Type type, Integer maxPerHour) {
+        if (maxPerHour == null) {
+            return true;
+        }
+        long hour = System.currentTimeMillis() / HOUR_MILLIS;
+        RateWindow window = rateWindows.compute(user.getId() + ":" + type, (key, current) ->
+                current == null || current.hour() != hour ? new RateWindow(hour, 1) : new RateWindow(hour, current.count() + 1));
+        return window.count() <= maxPerHour;
+    }
+
+    @Scheduled(fixedDelay = HOUR_MILLIS)
+    public void dropExpiredRateWindows() {
+        long hour = System.currentTimeMillis() / HOUR_MILLIS;
+        rateWindows.values().removeIf(window -> window.hour() < hour);
+    }
+
+    @Transactional(readOnly = true)
+    public List<NotificationPreferenceResponse> getPreferences(String email) {
+        User user = findUser(email);
+        Map<Notification.Type, NotificationPreference> stored = storedPreferences(user);
+        return configurableTypes().stream()
+                .map(type -> convertToResponse(type, stored.containsKey(type) ? Delivery.of(stored.get(type)) : DEFAULT))
+                .toList();
+    }
+
+    /**
+     * Apply the given changes; omitted fields keep their current value and a {@code maxPerHour}
+     * of 0 or less removes the cap.
+     */
+    @Transactional
+    public List<NotificationPreferenceResponse> updatePreferences(String email, List<NotificationPreferenceRequest> requests) {
+        User user = findUser(email);
+        Map<Notification.Type, NotificationPreference> stored = storedPreferences(user);
+        List<NotificationPreference> changed = new ArrayList<>();
+        for (NotificationPreferenceRequest request : requests) {
+            if (request.getType() == null || !configurableTypes().contains(request.getType())) {
+                throw new InvalidInputException("Invalid notification type: " + request.getType());
+            }
+            NotificationPreference preference = stored.computeIfAbsent(request.getType(), type -> {
+                NotificationPreference created = new NotificationPreference();
+                created.setUserId(user.getId());
+                created.setType(type);
+                return created;
+            });
+            if (request.getInApp() != null) {
+                preference.setInApp(request.getInApp());
+            }
+            if (request.getPush() != null) {
+                preference.setPush(request.getPush());
+            }
+            if (request.getEmail() != null) {
+                preference.setEmail(request.getEmail());
+            }
+            if (request.getDigest() != null) {
+                preference.setDigest(request.getDigest());
+            }
+            if (request.getMaxPerHour() != null) {
+                preference.setMaxPerHour(request.getMaxPerHour() > 0 ? request.getMaxPerHour() : null);
+            }
+            changed.add(preference);
+        }
+        notificationPreferenceRepository.saveAll(changed);
+        return configurableTypes().stream()
+                .map(type -> convertToResponse(type, stored.containsKey(type) ? Delivery.of(stored.get(type)) : DEFAULT))
+                .toList();
+    }
+
+    private Map<Notification.Type, NotificationPreference> storedPreferences(User user) {
+        return notificationPreferenceRepository.findByUserId(user.getId()).stream()
+                .collect(Collectors.toMap(NotificationPreference::getType, Function.identity()));
+    }
+
+    // Announcements are not per-user notifications and can't be opted out of
+    private static List<Notification.Type> configurableTypes() {
+        return Arrays.stream(Notification.Type.values())
+                .filter(type -> type != Notification.Type.ANNOUNCEMENT)
+                .toList();
+    }
+
+    private User findUser(String email) {
+        User user = userRepository.findByEmail(email);
+        if (user == null) {
+            throw new ResourceNotFoundException("User not found");
+        }
+        return user;
+    }
+
+    private static NotificationPreferenceResponse convertToResponse(Notification.Type type, Delivery delivery) {
+        NotificationPreferenceResponse response = new NotificationPreferenceResponse();
+        response.setType(type);
+        response.setInApp(delivery.inApp());
+        response.setPush(delivery.push());
+        response.setEmail(delivery.email());
+        response.setDigest(delivery.digest());
+        response.setMaxPerHour(delivery.maxPerHour());
+        return response;
+    }
+}
@@ -0,0 +1,123 @@
+package com.example.eventura.service;
+
+import com.example.eventura.dto.response.NotificationResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * The most recent notifications per user, by seq, so a client that reconnects within a few
+ * minutes can be sent just what it missed without touching the notifications table. Every
+ * sequenced notification this instance commits is recorded, pushed or not. Each user keeps at
+ * most {@code app.notifications.replay.buffer-size} entries, none older than
+ * {@code app.notifications.replay.retention-ms}.
+ */
+@Component
+public class NotificationReplayBuffer {
+
+    @Value("${app.notifications.replay.buffer-size:100}")
+    private int capacity;
+
+    @Value("${app.notifications.replay.retention-ms:600000}")
+    private long retentionMs;
+
+    private final Map<Long, NavigableMap<Long, Entry>> rings = new ConcurrentHashMap<>();
+
+    private record Entry(NotificationResponse notification, long recordedAt) {
+    }
+
+    /**
+     * Record the notifications once the current transaction commits, by which time their seqs
+     * are assigned.
+     */
+    public void recordAfterCommit(Collection<NotificationResponse> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            notifications.forEach(this::record);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                notifications.forEach(NotificationReplayBuffer.this::record);
+            }
+        });
+    }
+
+    void record(NotificationResponse notification) {
+        Long seq = notification.getSeq();
+        if (seq == null) {
+            return;
+        }
+        rings.compute(notification.getUserId(), (userId, ring) -> {
+            NavigableMap<Long, Entry> target = ring != null ? ring : new TreeMap<>();
+            synchronized (target) {
+                target.put(seq, new Entry(notification, System.currentTimeMillis()));
+                while (target.size() > capacity) {
+                    target.pollFirstEntry();
+                }
+            }
+            return target;
+        });
+    }
+
+    /**
+     * Notifications after {@code lastSeq} up to at least {@code latestSeq}, oldest first and with
+     * only the latest state of each collapsed thread. {@code null} unless every seq in between is
+     * buffered: holes come from eviction and from notifications committed by other instances.
+     */
+    public List<NotificationResponse> since(Long userId, long lastSeq, long latestSeq) {
+        NavigableMap<Long, Entry> ring = rings.get(userId);
+        if (ring == null) {
+            return latestSeq <= lastSeq ? List.of() : null;
+        }
+        synchronized (ring) {
+            NavigableMap<Long, Entry> missed = ring.tailMap(lastSeq, false);
+            long last = Math.max(latestSeq, missed.isEmpty() ? lastSeq : missed.lastKey());
+            // Seqs are unique keys, so the gap is complete exactly when it holds last - lastSeq of them
+            if (missed.size() != last - lastSeq) {
+                return null;
+            }
+            List<NotificationResponse> replay = new ArrayList<>();
+            Set<Long> seen = new HashSet<>();
+            for (Entry entry : missed.descendingMap().values()) {
+                Long id = entry.notification().getId();
+                if (id == null || seen.add(id)) {
+                    replay.add(entry.notification());
+                }
+            }
+            Collections.reverse(replay);
+            return replay;
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.replay.retention-ms:600000}")
+    public void dropExpired() {
+        long cutoff = System.currentTimeMillis() - retentionMs;
+        for (Long userId : rings.keySet()) {
+            rings.computeIfPresent(userId, (id, ring) -> {
+                synchronized (ring) {
+                    while (!ring.isEmpty() && ring.firstEntry().getValue().recordedAt() < cutoff) {
+                        ring.pollFirstEntry();
+                    }
+                    return ring.isEmpty() ? null : ring;
+                }
+            });
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.example.eventura.service;
+
+import com.example.eventura.dto.response.NotificationResponse;
+import com.example.eventura.entity.Notification;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Hands out per-user notification sequence numbers from notification_sequences. Numbers are
+ * assigned just before the writing transaction commits, all at once and with the counter rows
+ * locked in user id order, so transactions that notify the same users in different orders
+ * can't deadlock on them. The locks are held through the commit, so one user's notifications
+ * commit in sequence order and a client that has seen N has seen everything below it.
+ */
+@Component
+@RequiredArgsConstructor
+public class NotificationSequences {
+
+    private static final int LOOKUP_CHUNK = 1000;
+
+    private static final String RESERVE_SQL = "INSERT INTO notification_sequences (user_id, last_seq) VALUES (?, ?)"
+            + " ON DUPLICATE KEY UPDATE last_seq = last_seq + VALUES(last_seq)";
+
+    private static final String LAST_SQL = "SELECT user_id, last_seq FROM notification_sequences WHERE user_id IN (%s)";
+
+    private static final String CURRENT_SQL = "SELECT last_seq FROM notification_sequences WHERE user_id = ?";
+
+    // For fan-out rows that were flushed and detached before the commit
+    private static final String UPDATE_SEQ_SQL = "UPDATE notifications SET seq = ? WHERE id = ? AND created_at = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    private record Pending(Notification notification, NotificationResponse response) {
+    }
+
+    /**
+     * Give {@code notification} (saved, or push-only and unsaved) and its response the user's
+     * next sequence number when the current transaction commits.
+     */
+    public void assignOnCommit(Notification notification, NotificationResponse response) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            assign(List.of(new Pending(notification, response)));
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        List<Pending> pending = (List<Pending>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            List<Pending> created = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, created);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    assign(created);
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(NotificationSequences.this);
+                }
+            });
+            pending = created;
+        }
+        pending.add(new Pending(notification, response));
+    }
+
+    /**
+     * The last number handed out to the user, 0 if none; read from whichever database the
+     * current transaction uses.
+     */
+    public long current(Long userId) {
+        List<Long> last = jdbcTemplate.queryForList(CURRENT_SQL, Long.class, userId);
+        return last.isEmpty() ? 0 : last.get(0);
+    }
+
+    private void assign(List<Pending> pending) {
+        Map<Long, Integer> counts = new HashMap<>();
+        pending.forEach(p -> counts.merge(p.notification().getUser().getId(), 1, Integer::sum));
+        Map<Long, Long> nextSeqs = reserve(counts);
+
+        List<Object[]> detached = new ArrayList<>();
+        for (Pending p : pending) {
+            Notification notification = p.notification();
+            long seq = nextSeqs.merge(notification.getUser().getId(), 1L, Long::sum) - 1;
+            notification.setSeq(seq);
+            p.response().setSeq(seq);
+            if (notification.getId() != null && !entityManager.contains(notification)) {
+                detached.add(new Object[]{seq, notification.getId(), Timestamp.valueOf(notification.getCreatedAt())});
+            }
+        }
+        if (!detached.isEmpty()) {
+            jdbcTemplate.batchUpdate(UPDATE_SEQ_SQL, detached);
+        }
+    }
+
+    // Returns the first number of each user's block
+    private Map<Long, Long> reserve(Map<Long, Integer> counts) {
+        List<Long> userIds = counts.keySet().stream().sorted().toList();
+        jdbcTemplate.batchUpdate(RESERVE_SQL, userIds.stream()
+                .map(userId -> new Object[]{userId, counts.get(userId)})
+                .toList());
+
+        Map<Long, Long> first = new HashMap<>();
+        for (int from = 0; from < userIds.size(); from += LOOKUP_CHUNK) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + LOOKUP_CHUNK, userIds.size()));
+            String placeholders = String.join(",", Collections.nCopies(chunk.size(), "?"));
+            jdbcTemplate.query(LAST_SQL.formatted(placeholders), (RowCallbackHandler) rs -> {
+                long userId = rs.getLong("user_id");
+                first.put(userId, rs.getLong("last_seq") - counts.get(userId) + 1);
+            }, chunk.toArray());
+        }
+        return first;
+    }
+}
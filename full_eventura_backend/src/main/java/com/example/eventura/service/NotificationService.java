@@ -1,56 +1,360 @@
 package com.example.eventura.service;
 
+import com.example.eventura.dto.response.CursorPage;
+import com.example.eventura.dto.response.MarkReadResponse;
+import com.example.eventura.dto.response.NotificationReplayResponse;
 import com.example.eventura.dto.response.NotificationResponse;
+import com.example.eventura.dto.response.UnreadCountResponse;
+import com.example.eventura.entity.Announcement;
 import com.example.eventura.entity.Notification;
 import com.example.eventura.entity.User;
+import com.example.eventura.exception.InvalidInputException;
 import com.example.eventura.exception.ResourceNotFoundException;
 import com.example.eventura.exception.UnauthorizedException;
 import com.example.eventura.repository.NotificationRepository;
 import com.example.eventura.repository.UserRepository;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.Predicate;
 import lombok.RequiredArgsConstructor;
+import org.hibernate.Session;
+import org.springframework.context.i18n.LocaleContextHolder;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
 
 @Service
 @RequiredArgsConstructor
 public class NotificationService {
 
+    private static final int FAN_OUT_CHUNK = 500;
+    private static final int MAX_MARK_READ_IDS = 1000;
+    private static final int MAX_REPLAY = 200;
+    private static final int MAX_FEED_SIZE = 100;
+
     private final NotificationRepository notificationRepository;
     private final UserRepository userRepository;
     private final WebSocketEventService webSocketEventService;
+    private final PartitionMaintenanceService partitionMaintenanceService;
+    private final EntityManager entityManager;
+    private final UnreadNotificationCounter unreadNotificationCounter;
+    private final NotificationTemplates notificationTemplates;
+    private final AnnouncementService announcementService;
+    private final NotificationPreferenceService notificationPreferenceService;
+    private final NotificationSequences notificationSequences;
+    private final NotificationReplayBuffer notificationReplayBuffer;
 
-    public NotificationResponse createNotification(User user, String message) {
-        Notification notification = new Notification();
-        notification.setUser(user);
-        notification.setMessage(message);
-        notification.setIsRead(false);
+    /**
+     * Notify one user on the channels they keep enabled for the type. For collapsible types, an
+     * unread notification with the same type and subject is updated in place (count, preview,
+     * time) instead of adding another row.
+     *
+     * @return the delivered notification, or {@code null} if the user opted out of both in-app
+     * and push for this type or is over its hourly cap, or is {@code null} (a purged account)
+     */
+    @Transactional
+    public NotificationResponse createNotification(User user, Notification.Type type, Long subjectId,
+                                                   Map<String, String> params) {
+        if (user == null) {
+            return null;
+        }
+        NotificationPreferenceService.Delivery delivery = notificationPreferenceService.resolve(user, type);
+        if (!delivery.inApp() && !delivery.push()
+                || !notificationPreferenceService.withinRate(user, type, delivery.maxPerHour())) {
+            return null;
+        }
+
+        Notification notification = newNotification(user, type, subjectId, params);
+        if (!delivery.inApp()) {
+            // Push-only: nothing is stored
+            NotificationResponse response = sequenced(notification, convertToResponse(notification));
+            webSocketEventService.sendNotificationToUser(user.getEmail(), response);
+            return response;
+        }
+        if (type.isCollapsible() && subjectId != null) {
+            notification.setCollapseKey(type.name() + ":" + subjectId);
+            notificationRepository.lockThread(user.getId(), notification.getCollapseKey(), notification.getLastEventAt());
+            Optional<Notification> thread = notificationRepository.findOpenThreads(user.getId(),
+                    notification.getCollapseKey(), partitionMaintenanceService.notificationsRetainedSince(),
+                    PageRequest.of(0, 1)).stream().findFirst();
+            if (thread.isPresent()) {
+                return collapseInto(thread.get(), params, delivery.push());
+            }
+        }
 
         Notification savedNotification = notificationRepository.save(notification);
-        NotificationResponse response = convertToResponse(savedNotification);
+        NotificationResponse response = sequenced(savedNotification, convertToResponse(savedNotification));
         
         // Broadcast notification to user via WebSocket
-        webSocketEventService.sendNotificationToUser(user.getEmail(), response);
+        if (delivery.push()) {
+            webSocketEventService.sendNotificationToUser(user.getEmail(), response);
+        }
+        unreadNotificationCounter.added(List.of(user));
         
         return response;
     }
 
-    public Page<NotificationResponse> getNotificationsByUser(String email, Pageable pageable, Boolean isRead) {
+    private NotificationResponse collapseInto(Notification thread, Map<String, String> params, boolean push) {
+        thread.setParams(params);
+        thread.setEventCount(thread.getEventCount() + 1);
+        // Moves the thread to the top of the unread feed; created_at stays put (partition and keyset key)
+        thread.setLastEventAt(LocalDateTime.now());
+        // A fresh seq, so clients resuming after a reconnect get the updated thread
+        Notification updated = notificationRepository.save(thread);
+        NotificationResponse response = sequenced(updated, convertToResponse(updated));
+
+        // Still one unread notification, so the badge is unchanged; updates are coalesced per thread
+        if (push) {
+            webSocketEventService.sendThreadUpdateToUser(thread.getUser().getEmail(), response);
+        }
+        return response;
+    }
+
+    // Sequence numbers are assigned at commit; the replay buffer records the notification after it
+    private NotificationResponse sequenced(Notification notification, NotificationResponse response) {
+        notificationSequences.assignOnCommit(notification, response);
+        notificationReplayBuffer.recordAfterCommit(List.of(response));
+        return response;
+    }
+
+    /**
+     * Send the same notification to many users, honouring each one's channel preferences and
+     * caps (looked up in bulk). Rows are inserted in JDBC batches of {@link #FAN_OUT_CHUNK} and
+     * detached after each flush so large fan-outs don't grow the persistence context; all pushes
+     * go out together once the transaction commits. Collapse keys are not applied on this path.
+     */
+    @Transactional
+    public List<NotificationResponse> createNotifications(Collection<User> users, Notification.Type type,
+                                                          Long subjectId, Map<String, String> params) {
+        Map<Long, NotificationPreferenceService.Delivery> deliveries = notificationPreferenceService.resolveAll(users, type);
+        List<User> inApp = new ArrayList<>(users.size());
+        List<User> pushOnly = new ArrayList<>();
+        Set<Long> pushTo = new HashSet<>();
+        for (User user : users) {
+            NotificationPreferenceService.Delivery delivery = deliveries.get(user.getId());
+            if (!delivery.inApp() && !delivery.push()
+                    || !notificationPreferenceService.withinRate(user, type, delivery.maxPerHour())) {
+                continue;
+            }
+            if (delivery.inApp()) {
+                inApp.add(user);
+                if (delivery.push()) {
+                    pushTo.add(user.getId());
+                }
+            } else {
+                pushOnly.add(user);
+            }
+        }
+
+        List<NotificationResponse> responses = new ArrayList<>(users.size());
+        Map<String, NotificationResponse> pushes = new LinkedHashMap<>();
+        for (User user : pushOnly) {
+            Notification notification = newNotification(user, type, subjectId, params);
+            NotificationResponse response = convertToResponse(notification);
+            notificationSequences.assignOnCommit(notification, response);
+            responses.add(response);
+            pushes.put(user.getEmail(), response);
+        }
+
+        Session session = entityManager.unwrap(Session.class);
+        Integer previousBatchSize = session.getJdbcBatchSize();
+        session.setJdbcBatchSize(FAN_OUT_CHUNK);
+        try {
+            List<Notification> chunk = new ArrayList<>(FAN_OUT_CHUNK);
+            for (User user : inApp) {
+                chunk.add(newNotification(user, type, subjectId, params));
+                if (chunk.size() == FAN_OUT_CHUNK) {
+                    saveChunk(chunk, pushTo, responses, pushes);
+                }
+            }
+            saveChunk(chunk, pushTo, responses, pushes);
+        } finally {
+            session.setJdbcBatchSize(previousBatchSize);
+        }
+
+        notificationReplayBuffer.recordAfterCommit(responses);
+        webSocketEventService.sendNotificationsToUsers(pushes);
+        unreadNotificationCounter.added(inApp);
+        return responses;
+    }
+
+    /**
+     * Parameter map for a notification from alternating names and values; values are
+     * stringified once here so rendering never formats.
+     */
+    public static Map<String, String> params(Object... namesAndValues) {
+        Map<String, String> params = new LinkedHashMap<>();
+        for (int i = 0; i + 1 < namesAndValues.length; i += 2) {
+            params.put(namesAndValues[i].toString(),
+                    namesAndValues[i + 1] == null ? "" : namesAndValues[i + 1].toString());
+        }
+        return params;
+    }
+
+    private static Notification newNotification(User user, Notification.Type type, Long subjectId,
+                                                Map<String, String> params) {
+        Notification notification = new Notification();
+        notification.setUser(user);
+        notification.setType(type);
+        notification.setSubjectId(subjectId);
+        notification.setParams(params);
+        notification.setIsRead(false);
+        return notification;
+    }
+
+    private void saveChunk(List<Notification> chunk, Set<Long> pushTo, List<NotificationResponse> responses,
+                           Map<String, NotificationResponse> pushes) {
+        if (chunk.isEmpty()) {
+            return;
+        }
+        notificationRepository.saveAll(chunk);
+        entityManager.flush();
+        for (Notification notification : chunk) {
+            NotificationResponse response = convertToResponse(notification);
+            notificationSequences.assignOnCommit(notification, response);
+            responses.add(response);
+            if (pushTo.contains(notification.getUser().getId())) {
+                pushes.put(notification.getUser().getEmail(), response);
+            }
+            entityManager.detach(notification);
+        }
+        chunk.clear();
+    }
+
+    @Transactional(readOnly = true)
+    public Page<NotificationResponse> getNotificationsByUser(String email, Pageable pageable, Boolean isRead,
+                                                             Notification.Type type) {
         User user = userRepository.findByEmail(email);
         if (user == null) {
             throw new ResourceNotFoundException("User not found");
         }
 
-        Page<Notification> notifications;
-        if (isRead != null) {
-            notifications = notificationRepository.findByUserAndIsRead(user, isRead, pageable);
-        } else {
-            notifications = notificationRepository.findByUser(user, pageable);
+        return notificationRepository.findAll(userNotifications(user, isRead, type),
+                NotificationRepository.NotificationListItem.class, pageable).map(this::convertToResponse);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<NotificationResponse> scrollNotificationsByUser(String email, String cursor, int size,
+                                                                      Boolean isRead, Notification.Type type,
+                                                                      boolean includeTotal) {
+        User user = userRepository.findByEmail(email);
+        if (user == null) {
+            throw new ResourceNotFoundException("User not found");
         }
 
-        return notifications.map(this::convertToResponse);
+        return notificationRepository.scroll(userNotifications(user, isRead, type),
+                NotificationRepository.NotificationListItem.class, cursor, size, includeTotal).map(this::convertToResponse);
+    }
+
+    // created_at lower bound lets MySQL prune the monthly partitions that are out of retention
+    private Specification<Notification> userNotifications(User user, Boolean isRead, Notification.Type type) {
+        LocalDateTime since = partitionMaintenanceService.notificationsRetainedSince();
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("user"), user));
+            if (isRead != null) {
+                predicates.add(cb.equal(root.get("isRead"), isRead));
+            }
+            if (type != null) {
+                predicates.add(cb.equal(root.get("type"), type));
+            }
+            predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), since));
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
+
+    // No transaction: a count not cached yet is seeded in one of its own on the primary, and
+    // holding a replica connection meanwhile would only take a second one from the pool
+    public UnreadCountResponse getUnreadCount(String email) {
+        User user = userRepository.findByEmail(email);
+        if (user == null) {
+            throw new ResourceNotFoundException("User not found");
+        }
+        return unreadNotificationCounter.badge(user);
     }
 
+    /**
+     * Newest unread items for the user by latest event: personal notifications merged with unread
+     * announcements addressed to them.
+     */
+    @Transactional(readOnly = true)
+    public List<NotificationResponse> getUnreadFeed(String email, int size) {
+        User user = userRepository.findByEmail(email);
+        if (user == null) {
+            throw new ResourceNotFoundException("User not found");
+        }
+
+        size = Math.min(size, MAX_FEED_SIZE);
+        List<NotificationResponse> feed = new ArrayList<>(notificationRepository
+                .findUnreadByLatestEvent(user.getId(), partitionMaintenanceService.notificationsRetainedSince(),
+                        PageRequest.of(0, size)).stream()
+                .map(this::convertToResponse)
+                .toList());
+        announcementService.getUnread(user).stream()
+                .limit(size)
+                .forEach(announcement -> feed.add(convertToResponse(user, announcement)));
+        feed.sort(Comparator.comparing(NotificationResponse::getLastEventAt).reversed());
+        return feed.size() > size ? feed.subList(0, size) : feed;
+    }
+
+    /**
+     * Notifications for the user after {@code lastSeq}, oldest first, for a client resuming after
+     * a reconnect. Served from the replay buffer when it holds every seq up to the user's latest,
+     * otherwise from the (user_id, seq) index; gaps over {@link #MAX_REPLAY} come back truncated.
+     * Not read-only, so the latest seq and the range come from the primary rather than a
+     * lagging replica.
+     */
+    @Transactional
+    public NotificationReplayResponse replaySince(String email, Long lastSeq) {
+        User user = userRepository.findByEmail(email);
+        if (user == null) {
+            throw new ResourceNotFoundException("User not found");
+        }
+        if (lastSeq == null) {
+            return new NotificationReplayResponse(List.of(), true);
+        }
+
+        long latestSeq = notificationSequences.current(user.getId());
+        if (latestSeq <= lastSeq) {
+            return new NotificationReplayResponse(List.of(), false);
+        }
+        List<NotificationResponse> buffered = notificationReplayBuffer.since(user.getId(), lastSeq, latestSeq);
+        if (buffered != null && buffered.size() <= MAX_REPLAY) {
+            return new NotificationReplayResponse(buffered, false);
+        }
+        List<NotificationRepository.NotificationListItem> stored = notificationRepository.findReplayRange(
+                user.getId(), lastSeq, partitionMaintenanceService.notificationsRetainedSince(),
+                PageRequest.of(0, MAX_REPLAY + 1));
+        boolean truncated = stored.size() > MAX_REPLAY;
+        return new NotificationReplayResponse((truncated ? stored.subList(0, MAX_REPLAY) : stored).stream()
+                .map(this::convertToResponse)
+                .toList(), truncated);
+    }
+
+    @Transactional
+    public void markAnnouncementsAsRead(String email) {
+        User user = userRepository.findByEmail(email);
+        if (user == null) {
+            throw new ResourceNotFoundException("User not found");
+        }
+        announcementService.markAllRead(user);
+        unreadNotificationCounter.announcementsRead(user);
+    }
+
+    @Transactional
     public NotificationResponse markAsRead(Long notificationId, String email) {
         User user = userRepository.findByEmail(email);
         if (user == null) {
@@ -64,31 +368,124 @@ public class NotificationService {
             throw new UnauthorizedException("Not authorized to modify this notification");
         }
 
+        boolean wasUnread = !Boolean.TRUE.equals(notification.getIsRead());
         notification.setIsRead(true);
         Notification updatedNotification = notificationRepository.save(notification);
+        if (wasUnread) {
+            unreadNotificationCounter.read(user, 1);
+        }
 
         return convertToResponse(updatedNotification);
     }
 
-    public Page<NotificationResponse> getNotifications(Long userId, Pageable pageable) {
-        User user;
-        if (userId == 0L) {
-            user = null;
-        } else {
-            user = userRepository.findById(userId)
-                    .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+    @Transactional
+    public MarkReadResponse markAllAsRead(String email) {
+        User user = userRepository.findByEmail(email);
+        if (user == null) {
+            throw new ResourceNotFoundException("User not found");
+        }
+
+        int updated = notificationRepository.markAllRead(user.getId(),
+                partitionMaintenanceService.notificationsRetainedSince(), LocalDateTime.now());
+        unreadNotificationCounter.read(user, updated);
+        announcementService.markAllRead(user);
+        return new MarkReadResponse(updated);
+    }
+
+    /**
+     * Mark the given notifications read in one statement. IDs that don't belong to the user or
+     * are already read are skipped rather than rejected.
+     */
+    @Transactional
+    public MarkReadResponse markAsRead(Collection<Long> notificationIds, String email) {
+        if (notificationIds == null || notificationIds.isEmpty()) {
+            return new MarkReadResponse(0);
+        }
+        if (notificationIds.size() > MAX_MARK_READ_IDS) {
+            throw new InvalidInputException("At most " + MAX_MARK_READ_IDS + " notifications can be marked at once");
         }
-        Page<Notification> notifications = notificationRepository.findAll(pageable);
-        return notifications.map(this::convertToResponse);
+        User user = userRepository.findByEmail(email);
+        if (user == null) {
+            throw new ResourceNotFoundException("User not found");
+        }
+
+        int updated = notificationRepository.markRead(user.getId(), notificationIds,
+                partitionMaintenanceService.notificationsRetainedSince(), LocalDateTime.now());
+        unreadNotificationCounter.read(user, updated);
+        return new MarkReadResponse(updated);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<NotificationResponse> getNotifications(Long userId, Notification.Type type, Boolean isRead,
+                                                             String cursor, int size) {
+        LocalDateTime since = partitionMaintenanceService.notificationsRetainedSince();
+        Specification<Notification> spec = (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            if (userId != null) {
+                predicates.add(cb.equal(root.get("user").get("id"), userId));
+            }
+            if (type != null) {
+                predicates.add(cb.equal(root.get("type"), type));
+            }
+            if (isRead != null) {
+                predicates.add(cb.equal(root.get("isRead"), isRead));
+            }
+            predicates.add(cb.greaterThanOrEqualTo(root.get("createdAt"), since));
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+        return notificationRepository.scroll(spec, NotificationRepository.NotificationListItem.class, cursor, size, false)
+                .map(this::convertToResponse);
+    }
+
+    private static NotificationResponse convertToResponse(User user, Announcement announcement) {
+        NotificationResponse response = new NotificationResponse();
+        response.setUserId(user.getId());
+        response.setType(Notification.Type.ANNOUNCEMENT);
+        response.setSubjectId(announcement.getId());
+        response.setEventCount(1);
+        response.setMessage(announcement.getMessage());
+        response.setIsRead(false);
+        response.setCreatedAt(announcement.getCreatedAt());
+        response.setLastEventAt(announcement.getCreatedAt());
+        return response;
+    }
+
+    private NotificationResponse convertToResponse(NotificationRepository.NotificationListItem notification) {
+        NotificationResponse response = new NotificationResponse();
+        response.setId(notification.getId());
+        response.setUserId(notification.getUserId());
+        response.setType(notification.getType());
+        response.setSubjectId(notification.getSubjectId());
+        response.setEventCount(notification.getEventCount());
+        response.setSeq(notification.getSeq());
+        response.setMessage(message(notification.getType(), notification.getMessage(), notification.getParams(),
+                notification.getEventCount()));
+        response.setIsRead(notification.getIsRead());
+        response.setCreatedAt(notification.getCreatedAt());
+        response.setLastEventAt(notification.getLastEventAt());
+        return response;
     }
 
     private NotificationResponse convertToResponse(Notification notification) {
         NotificationResponse response = new NotificationResponse();
         response.setId(notification.getId());
         response.setUserId(notification.getUser().getId());
-        response.setMessage(notification.getMessage());
+        response.setType(notification.getType());
+        response.setSubjectId(notification.getSubjectId());
+        response.setEventCount(notification.getEventCount());
+        response.setSeq(notification.getSeq());
+        response.setMessage(message(notification.getType(), notification.getMessage(), notification.getParams(),
+                notification.getEventCount()));
         response.setIsRead(notification.getIsRead());
         response.setCreatedAt(notification.getCreatedAt());
+        response.setLastEventAt(notification.getLastEventAt());
         return response;
     }
+
+    // Untyped rows predate the templates and keep the text they were stored with
+    private String message(Notification.Type type, String stored, Map<String, String> params, int eventCount) {
+        return type == null
+                ? stored
+                : notificationTemplates.render(type, params, eventCount, LocaleContextHolder.getLocale());
+    }
 }
\ No newline at end of file
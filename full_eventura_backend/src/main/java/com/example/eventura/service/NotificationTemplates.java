@@ -0,0 +1,90 @@
+package com.example.eventura.service;
+
+import com.example.eventura.entity.Notification;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.MissingResourceException;
+import java.util.ResourceBundle;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Renders typed notifications from notification-templates[_locale].properties. Each template
+ * is parsed once per bundle into literal and parameter parts, so rendering is a single append pass.
+ * Compiled templates are keyed by the locale of the bundle a request resolves to, not the requested
+ * locale, so arbitrary Accept-Language values can't grow the cache past the shipped bundles.
+ * Collapsed notifications (count &gt; 1) use the {@code TYPE.many} template when there is one, with
+ * the count available as {@code {count}}.
+ */
+@Component
+public class NotificationTemplates {
+
+    private static final String BUNDLE = "notification-templates";
+
+    private static final String MANY_SUFFIX = ".many";
+
+    private final Map<Locale, Map<String, List<Part>>> compiled = new ConcurrentHashMap<>();
+
+    private record Part(String text, boolean param) {
+    }
+
+    public String render(Notification.Type type, Map<String, String> params, int count, Locale locale) {
+        String key = count > 1 ? type.name() + MANY_SUFFIX : type.name();
+        ResourceBundle bundle = bundle(locale);
+        List<Part> parts = compiled.computeIfAbsent(bundle != null ? bundle.getLocale() : Locale.ROOT,
+                        l -> new ConcurrentHashMap<>())
+                .computeIfAbsent(key, k -> compile(load(bundle, type, k)));
+        StringBuilder text = new StringBuilder();
+        for (Part part : parts) {
+            if (!part.param()) {
+                text.append(part.text());
+            } else if ("count".equals(part.text())) {
+                text.append(count);
+            } else if (params != null && params.get(part.text()) != null) {
+                text.append(params.get(part.text()));
+            }
+        }
+        return text.toString();
+    }
+
+    // ResourceBundle caches the lookup itself
+    private static ResourceBundle bundle(Locale locale) {
+        try {
+            return ResourceBundle.getBundle(BUNDLE, locale);
+        } catch (MissingResourceException e) {
+            return null;
+        }
+    }
+
+    private static String load(ResourceBundle bundle, Notification.Type type, String key) {
+        if (bundle == null) {
+            return type.name();
+        }
+        if (bundle.containsKey(key)) {
+            return bundle.getString(key);
+        }
+        return bundle.containsKey(type.name()) ? bundle.getString(type.name()) : type.name();
+    }
+
+    private static List<Part> compile(String template) {
+        List<Part> parts = new ArrayList<>();
+        int position = 0;
+        while (position < template.length()) {
+            int open = template.indexOf('{', position);
+            int close = open < 0 ? -1 : template.indexOf('}', open);
+            if (close < 0) {
+                parts.add(new Part(template.substring(position), false));
+                break;
+            }
+            if (open > position) {
+                parts.add(new Part(template.substring(position, open), false));
+            }
+            parts.add(new Part(template.substring(open + 1, close), true));
+            position = close + 1;
+        }
+        return List.copyOf(parts);
+    }
+}
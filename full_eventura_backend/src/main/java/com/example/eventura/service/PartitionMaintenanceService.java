@@ -0,0 +1,117 @@
+package com.example.eventura.service;
+
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Keeps the monthly created_at partitions of notifications and payments (see V7 migration)
+ * ahead of the clock, and drops whole partitions once they fall out of retention, which is a
+ * metadata operation instead of a DELETE over every expired row.
+ */
+@Service
+@RequiredArgsConstructor
+public class PartitionMaintenanceService {
+
+    private static final Logger logger = LoggerFactory.getLogger(PartitionMaintenanceService.class);
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+    private static final String FUTURE_PARTITION = "p_future";
+    // Lower bound used when retention is disabled; still a valid DATETIME for MySQL
+    private static final LocalDateTime NO_LOWER_BOUND = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${app.partitions.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${app.partitions.notifications.retention-months:12}")
+    private int notificationRetentionMonths;
+
+    // Payments are financial records: kept forever unless explicitly configured
+    @Value("${app.partitions.payments.retention-months:0}")
+    private int paymentRetentionMonths;
+
+    /**
+     * Oldest created_at that can still be present in notifications; adding it to queries lets
+     * MySQL prune the partitions before it.
+     */
+    public LocalDateTime notificationsRetainedSince() {
+        return retainedSince(notificationRetentionMonths);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Scheduled(cron = "${app.partitions.cron:0 15 2 * * *}")
+    public void maintainPartitions() {
+        for (Map.Entry<String, Integer> table : Map.of(
+                "notifications", notificationRetentionMonths,
+                "payments", paymentRetentionMonths).entrySet()) {
+            try {
+                maintain(table.getKey(), table.getValue());
+            } catch (RuntimeException e) {
+                logger.warn("Partition maintenance failed for {}: {}", table.getKey(), e.getMessage());
+            }
+        }
+    }
+
+    private void maintain(String table, int retentionMonths) {
+        List<Map<String, Object>> partitions = jdbcTemplate.queryForList(
+                "SELECT PARTITION_NAME AS name, PARTITION_DESCRIPTION AS bound FROM information_schema.PARTITIONS"
+                        + " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND PARTITION_NAME IS NOT NULL"
+                        + " ORDER BY PARTITION_ORDINAL_POSITION", table);
+        if (partitions.isEmpty()) {
+            return;
+        }
+
+        // Split upcoming months off p_future while it is still empty, so no rows are copied
+        LocalDate lastBound = partitions.stream()
+                .map(partition -> String.valueOf(partition.get("bound")))
+                .filter(bound -> !bound.equals("MAXVALUE"))
+                .map(PartitionMaintenanceService::parseBound)
+                .reduce((first, second) -> second)
+                .orElse(LocalDate.now().withDayOfMonth(1));
+        LocalDate horizon = LocalDate.now().withDayOfMonth(1).plusMonths(monthsAhead + 1L);
+        for (LocalDate month = lastBound; month.isBefore(horizon); month = month.plusMonths(1)) {
+            jdbcTemplate.execute("ALTER TABLE " + table + " REORGANIZE PARTITION " + FUTURE_PARTITION + " INTO ("
+                    + "PARTITION " + month.format(PARTITION_NAME) + " VALUES LESS THAN ('" + month.plusMonths(1) + "'), "
+                    + "PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+            logger.info("Added partition {} to {}", month.format(PARTITION_NAME), table);
+        }
+
+        if (retentionMonths <= 0) {
+            return;
+        }
+        LocalDate cutoff = retainedSince(retentionMonths).toLocalDate();
+        for (Map<String, Object> partition : partitions) {
+            String bound = String.valueOf(partition.get("bound"));
+            if (!bound.equals("MAXVALUE") && !parseBound(bound).isAfter(cutoff)) {
+                jdbcTemplate.execute("ALTER TABLE " + table + " DROP PARTITION " + partition.get("name"));
+                logger.info("Dropped expired partition {} from {}", partition.get("name"), table);
+            }
+        }
+    }
+
+    private static LocalDateTime retainedSince(int retentionMonths) {
+        if (retentionMonths <= 0) {
+            return NO_LOWER_BOUND;
+        }
+        return LocalDate.now().withDayOfMonth(1).minusMonths(retentionMonths).atStartOfDay();
+    }
+
+    // PARTITION_DESCRIPTION for RANGE COLUMNS is the quoted literal, e.g. '2026-11-01 00:00:00'
+    private static LocalDate parseBound(String bound) {
+        return LocalDate.parse(bound.replace("'", "").substring(0, 10));
+    }
+}
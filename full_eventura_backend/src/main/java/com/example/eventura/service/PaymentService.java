@@ -1,7 +1,9 @@
 package com.example.eventura.service;
 
 import com.example.eventura.dto.request.PaymentRequest;
+import com.example.eventura.dto.response.CursorPage;
 import com.example.eventura.dto.response.PaymentResponse;
+import com.example.eventura.entity.Notification;
 import com.example.eventura.entity.Payment;
 import com.example.eventura.entity.ServiceRequest;
 import com.example.eventura.entity.User;
@@ -12,8 +14,12 @@ import com.example.eventura.repository.ServiceRequestRepository;
 import com.example.eventura.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -24,9 +30,12 @@ public class PaymentService {
     private final ServiceRequestRepository serviceRequestRepository;
     private final NotificationService notificationService;
     private final WebSocketEventService webSocketEventService;
+    private final TotalCountCache totalCountCache;
+    private final RequestEventService requestEventService;
 
     private static final org.slf4j.Logger logger = org.slf4j.LoggerFactory.getLogger(PaymentService.class);
 
+    @Transactional
     public PaymentResponse createPayment(PaymentRequest request, String email) {
         User client = userRepository.findByEmail(email);
         if (client == null || !client.getRole().equals(User.Role.CLIENT)) {
@@ -52,10 +61,13 @@ public class PaymentService {
         payment.setPaymentStatus(Payment.PaymentStatus.AWAITING_PAYMENT);
 
         Payment savedPayment = paymentRepository.save(payment);
+        totalCountCache.created(Payment.class, savedPayment.getPaymentStatus());
+        requestEventService.paymentCreated(savedPayment, client.getId());
 
         return convertToResponse(savedPayment);
     }
 
+    @Transactional(readOnly = true)
     public Page<PaymentResponse> getPaymentsByClient(String email, Pageable pageable) {
         User client = userRepository.findByEmail(email);
         if (client == null) {
@@ -66,6 +78,7 @@ public class PaymentService {
                 .map(this::convertToResponse);
     }
 
+    @Transactional(readOnly = true)
     public Page<PaymentResponse> getPaymentsByProvider(String email, Pageable pageable) {
         User provider = userRepository.findByEmail(email);
         if (provider == null) {
@@ -76,6 +89,7 @@ public class PaymentService {
                 .map(this::convertToResponse);
     }
 
+    @Transactional(readOnly = true)
     public PaymentResponse getPaymentStatus(Long paymentId, String email) {
         User user = userRepository.findByEmail(email);
         if (user == null) {
@@ -85,13 +99,15 @@ public class PaymentService {
         Payment payment = paymentRepository.findById(paymentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Payment not found"));
 
-        if (!payment.getClient().getId().equals(user.getId()) && !payment.getProvider().getId().equals(user.getId())) {
+        if (!payment.getClient().getId().equals(user.getId())
+                && (payment.getProvider() == null || !payment.getProvider().getId().equals(user.getId()))) {
             throw new UnauthorizedException("Not authorized to view this payment status");
         }
 
         return convertToResponse(payment);
     }
 
+    @Transactional
     public PaymentResponse updatePaymentStatus(Long paymentId, String email, Payment.PaymentStatus status) {
         User user = userRepository.findByEmail(email);
         if (user == null) {
@@ -99,15 +115,18 @@ public class PaymentService {
         }
 
         logger.info("Payment updated status: {}", status);
-        Payment payment = paymentRepository.findById(paymentId)
+        Payment payment = paymentRepository.findDetailedById(paymentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Payment not found"));
 
         if (!payment.getClient().getId().equals(user.getId())) {
             throw new UnauthorizedException("Only the client can update payment status");
         }
 
+        Payment.PaymentStatus previousStatus = payment.getPaymentStatus();
         payment.setPaymentStatus(status);
         Payment updatedPayment = paymentRepository.save(payment);
+        totalCountCache.statusChanged(Payment.class, previousStatus, status);
+        requestEventService.paymentStatusChanged(updatedPayment, previousStatus, user.getId());
 
         if (status == Payment.PaymentStatus.RELEASED) {
             User provider = payment.getProvider();
@@ -116,14 +135,13 @@ public class PaymentService {
 
             logger.info("Processing completion messages for payment {}", paymentId);
             // Notify provider
-            String providerMessage = String.format("You received a payment of Rs %s for service request: %s from %s %s",
-                    payment.getAmount(), request.getTitle(), client.getFirstName(), client.getLastName());
-            notificationService.createNotification(provider, providerMessage);
+            notificationService.createNotification(provider, Notification.Type.PAYMENT_RECEIVED, payment.getId(),
+                    NotificationService.params("amount", payment.getAmount(), "requestTitle", request.getTitle(),
+                            "clientName", client.getFirstName() + " " + client.getLastName()));
 
             // Notify client
-            String clientMessage = String.format("Your payment of Rs %s for service request: %s was successful",
-                    payment.getAmount(), request.getTitle());
-            notificationService.createNotification(client, clientMessage);
+            notificationService.createNotification(client, Notification.Type.PAYMENT_SUCCEEDED, payment.getId(),
+                    NotificationService.params("amount", payment.getAmount(), "requestTitle", request.getTitle()));
             
             // Broadcast payment completion for dashboard auto-update
             webSocketEventService.broadcastPaymentChange("COMPLETED");
@@ -132,6 +150,7 @@ public class PaymentService {
         return convertToResponse(updatedPayment);
     }
 
+    @Transactional(readOnly = true)
     public PaymentResponse getPaymentStatusByRequestId(Long requestId, String email) {
         User user = userRepository.findByEmail(email);
         if (user == null) {
@@ -147,18 +166,33 @@ public class PaymentService {
             throw new UnauthorizedException("Not authorized to view payment status for this request");
         }
 
-        Payment payment = paymentRepository.findTopByRequestOrderByCreatedAtDesc(serviceRequest)
+        Payment payment = paymentRepository.findLatestForRequest(serviceRequest)
                 .orElseThrow(() -> new ResourceNotFoundException("No payment found for this service request"));
 
         return convertToResponse(payment);
     }
 
+    private PaymentResponse convertToResponse(PaymentRepository.PaymentListItem payment) {
+        PaymentResponse response = new PaymentResponse();
+        response.setId(payment.getId());
+        response.setRequestId(payment.getRequestId());
+        response.setClientId(payment.getClientId());
+        response.setProviderId(payment.getProviderId());
+        response.setAmount(payment.getAmount());
+        response.setPaymentStatus(payment.getPaymentStatus().name());
+        response.setTransactionId(payment.getTransactionId());
+        response.setDisputeReason(payment.getDisputeReason());
+        response.setCreatedAt(payment.getCreatedAt());
+        return response;
+    }
+
     private PaymentResponse convertToResponse(Payment payment) {
         PaymentResponse response = new PaymentResponse();
         response.setId(payment.getId());
         response.setRequestId(payment.getRequest().getId());
         response.setClientId(payment.getClient().getId());
-        response.setProviderId(payment.getProvider().getId());
+        // Null once the provider's account has been purged
+        response.setProviderId(payment.getProvider() != null ? payment.getProvider().getId() : null);
         response.setAmount(payment.getAmount());
         response.setPaymentStatus(payment.getPaymentStatus().name());
         response.setTransactionId(payment.getTransactionId());
@@ -173,12 +207,13 @@ public class PaymentService {
      * Create escrow payment when pitch is accepted
      * Status: AWAITING_PAYMENT
      */
+    @Transactional
     public PaymentResponse createEscrowPayment(Long requestId, Long providerId, Double amount, Double platformFeePercentage) {
-        ServiceRequest serviceRequest = serviceRequestRepository.findById(requestId)
+        ServiceRequest serviceRequest = serviceRequestRepository.findDetailedById(requestId)
                 .orElseThrow(() -> new ResourceNotFoundException("Service request not found"));
 
         // Check if payment already exists for this request
-        if (paymentRepository.findByRequest(serviceRequest).isPresent()) {
+        if (paymentRepository.findAnyForRequest(serviceRequest).isPresent()) {
             throw new IllegalStateException("Payment already exists for this request");
         }
 
@@ -205,11 +240,13 @@ public class PaymentService {
         payment.setPaymentStatus(Payment.PaymentStatus.AWAITING_PAYMENT);
 
         Payment savedPayment = paymentRepository.save(payment);
+        totalCountCache.created(Payment.class, savedPayment.getPaymentStatus());
+        requestEventService.paymentCreated(savedPayment, client.getId());
 
         // Notify client to pay
-        String message = String.format("Please complete payment of Rs %s to confirm provider %s %s",
-                amount, provider.getFirstName(), provider.getLastName());
-        notificationService.createNotification(client, message);
+        notificationService.createNotification(client, Notification.Type.PAYMENT_REQUESTED, savedPayment.getId(),
+                NotificationService.params("amount", amount,
+                        "providerName", provider.getFirstName() + " " + provider.getLastName()));
 
         logger.info("Escrow payment created: {} (Awaiting payment from client)", savedPayment.getId());
 
@@ -220,8 +257,9 @@ public class PaymentService {
      * Mark payment as paid (money is now escrowed)
      * Status: AWAITING_PAYMENT -> ESCROWED
      */
+    @Transactional
     public PaymentResponse markAsPaid(Long paymentId, String email, String transactionId) {
-        Payment payment = paymentRepository.findById(paymentId)
+        Payment payment = paymentRepository.findDetailedById(paymentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Payment not found"));
 
         User client = userRepository.findByEmail(email);
@@ -236,17 +274,20 @@ public class PaymentService {
         payment.setPaymentStatus(Payment.PaymentStatus.ESCROWED);
         payment.setTransactionId(transactionId);
         Payment updatedPayment = paymentRepository.save(payment);
+        totalCountCache.statusChanged(Payment.class, Payment.PaymentStatus.AWAITING_PAYMENT, Payment.PaymentStatus.ESCROWED);
+        requestEventService.paymentStatusChanged(updatedPayment, Payment.PaymentStatus.AWAITING_PAYMENT, client.getId());
 
         // Notify provider
         User provider = payment.getProvider();
         ServiceRequest request = payment.getRequest();
-        String message = String.format("Payment of Rs %s has been secured for request: %s. You can start work!",
-                payment.getAmount(), request.getTitle());
-        notificationService.createNotification(provider, message);
+        notificationService.createNotification(provider, Notification.Type.PAYMENT_SECURED, payment.getId(),
+                NotificationService.params("amount", payment.getAmount(), "requestTitle", request.getTitle()));
 
         // Update request status to ASSIGNED
+        ServiceRequest.Status previousRequestStatus = request.getStatus();
         request.setStatus(ServiceRequest.Status.ASSIGNED);
         serviceRequestRepository.save(request);
+        requestEventService.requestStatusChanged(request, previousRequestStatus, client.getId());
 
         webSocketEventService.broadcastPaymentChange("ESCROWED");
         logger.info("Payment {} is now ESCROWED", paymentId);
@@ -258,12 +299,30 @@ public class PaymentService {
      * Release payment to provider after work approval
      * Status: PENDING_RELEASE -> RELEASED
      */
+    @Transactional(readOnly = true)
     public Page<PaymentResponse> getAllPayments(String status, Pageable pageable) {
+        Slice<Payment> payments;
+        long total;
+        if (status != null && !status.isEmpty()) {
+            Payment.PaymentStatus paymentStatus = Payment.PaymentStatus.valueOf(status.toUpperCase());
+            payments = paymentRepository.findSliceByPaymentStatus(paymentStatus, pageable);
+            total = totalCountCache.total(Payment.class, paymentStatus,
+                    () -> paymentRepository.countByPaymentStatus(paymentStatus));
+        } else {
+            payments = paymentRepository.findAllBy(pageable);
+            total = totalCountCache.total(Payment.class, null, paymentRepository::count);
+        }
+        return new PageImpl<>(payments.map(this::convertToResponse).getContent(), pageable, total);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<PaymentResponse> scrollPayments(String status, String cursor, int size, boolean includeTotal) {
+        Specification<Payment> spec = null;
         if (status != null && !status.isEmpty()) {
-            return paymentRepository.findByPaymentStatus(Payment.PaymentStatus.valueOf(status.toUpperCase()), pageable)
-                    .map(this::convertToResponse);
+            Payment.PaymentStatus paymentStatus = Payment.PaymentStatus.valueOf(status.toUpperCase());
+            spec = (root, query, cb) -> cb.equal(root.get("paymentStatus"), paymentStatus);
         }
-        return paymentRepository.findAll(pageable)
+        return paymentRepository.scroll(spec, cursor, size, includeTotal)
                 .map(this::convertToResponse);
     }
 
@@ -271,8 +330,9 @@ public class PaymentService {
      * Release payment to provider after work approval (or Admin decision)
      * Status: PENDING_RELEASE -> RELEASED
      */
+    @Transactional
     public PaymentResponse releasePayment(Long paymentId, String email) {
-        Payment payment = paymentRepository.findById(paymentId)
+        Payment payment = paymentRepository.findDetailedById(paymentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Payment not found"));
 
         User user = userRepository.findByEmail(email);
@@ -303,25 +363,28 @@ public class PaymentService {
             }
         }
 
+        Payment.PaymentStatus previousStatus = payment.getPaymentStatus();
         payment.setPaymentStatus(Payment.PaymentStatus.RELEASED);
         Payment releasedPayment = paymentRepository.save(payment);
+        totalCountCache.statusChanged(Payment.class, previousStatus, Payment.PaymentStatus.RELEASED);
+        requestEventService.paymentStatusChanged(releasedPayment, previousStatus, user.getId());
 
         // Update request status to COMPLETED
         ServiceRequest request = payment.getRequest();
+        ServiceRequest.Status previousRequestStatus = request.getStatus();
         request.setStatus(ServiceRequest.Status.COMPLETED);
         serviceRequestRepository.save(request);
+        requestEventService.requestStatusChanged(request, previousRequestStatus, user.getId());
 
         // Notify provider
         User provider = payment.getProvider();
         User client = payment.getClient();
-        String providerMessage = String.format("Payment of Rs %s has been released! You received Rs %s (after platform fee).",
-                payment.getAmount(), payment.getProviderAmount());
-        notificationService.createNotification(provider, providerMessage);
+        notificationService.createNotification(provider, Notification.Type.PAYMENT_RELEASED_PROVIDER, payment.getId(),
+                NotificationService.params("amount", payment.getAmount(), "providerAmount", payment.getProviderAmount()));
 
         // Notify client
-        String clientMessage = String.format("Payment of Rs %s for request: %s has been successfully released to provider.",
-                payment.getAmount(), request.getTitle());
-        notificationService.createNotification(client, clientMessage);
+        notificationService.createNotification(client, Notification.Type.PAYMENT_RELEASED_CLIENT, payment.getId(),
+                NotificationService.params("amount", payment.getAmount(), "requestTitle", request.getTitle()));
 
         webSocketEventService.broadcastPaymentChange("RELEASED");
         logger.info("Payment {} RELEASED to provider", paymentId);
@@ -333,8 +396,9 @@ public class PaymentService {
      * Refund payment to client
      * Status: ESCROWED/DISPUTED -> REFUNDED
      */
+    @Transactional
     public PaymentResponse refundPayment(Long paymentId, Long adminId, String reason) {
-        Payment payment = paymentRepository.findById(paymentId)
+        Payment payment = paymentRepository.findDetailedById(paymentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Payment not found"));
 
         User admin = userRepository.findById(adminId)
@@ -349,31 +413,31 @@ public class PaymentService {
             throw new IllegalStateException("Payment cannot be refunded in its current state");
         }
 
+        Payment.PaymentStatus previousStatus = payment.getPaymentStatus();
         payment.setPaymentStatus(Payment.PaymentStatus.REFUNDED);
         Payment refundedPayment = paymentRepository.save(payment);
+        totalCountCache.statusChanged(Payment.class, previousStatus, Payment.PaymentStatus.REFUNDED);
+        requestEventService.paymentStatusChanged(refundedPayment, previousStatus, adminId);
 
         // Update request status
         ServiceRequest request = payment.getRequest();
+        ServiceRequest.Status previousRequestStatus = request.getStatus();
         request.setStatus(ServiceRequest.Status.CANCELLED);
         serviceRequestRepository.save(request);
+        requestEventService.requestStatusChanged(request, previousRequestStatus, adminId);
 
         // Notify both parties
         User client = payment.getClient();
         User provider = payment.getProvider();
 
-        String clientMessage;
-        if (payment.getPaymentStatus() == Payment.PaymentStatus.DISPUTED) {
-            clientMessage = String.format("Your dispute has been resolved. Payment of Rs %s has been refunded. Reason: %s",
-                    payment.getAmount(), reason);
-        } else {
-            clientMessage = String.format("Your payment of Rs %s has been refunded. Reason: %s",
-                    payment.getAmount(), reason);
-        }
-        notificationService.createNotification(client, clientMessage);
+        Notification.Type clientType = payment.getPaymentStatus() == Payment.PaymentStatus.DISPUTED
+                ? Notification.Type.DISPUTE_REFUNDED
+                : Notification.Type.PAYMENT_REFUNDED;
+        notificationService.createNotification(client, clientType, payment.getId(),
+                NotificationService.params("amount", payment.getAmount(), "reason", reason));
 
-        String providerMessage = String.format("Payment for request: %s has been refunded to client. Reason: %s",
-                request.getTitle(), reason);
-        notificationService.createNotification(provider, providerMessage);
+        notificationService.createNotification(provider, Notification.Type.PAYMENT_REFUNDED_PROVIDER, payment.getId(),
+                NotificationService.params("requestTitle", request.getTitle(), "reason", reason));
 
         webSocketEventService.broadcastPaymentChange("REFUNDED");
         logger.info("Payment {} REFUNDED by admin {}", paymentId, adminId);
@@ -385,8 +449,9 @@ public class PaymentService {
      * Dispute a payment (client claims work not done properly)
      * Status: PENDING_RELEASE -> DISPUTED
      */
+    @Transactional
     public PaymentResponse disputePayment(Long paymentId, String email, String disputeReason) {
-        Payment payment = paymentRepository.findById(paymentId)
+        Payment payment = paymentRepository.findDetailedById(paymentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Payment not found"));
 
         User client = userRepository.findByEmail(email);
@@ -401,14 +466,15 @@ public class PaymentService {
         payment.setPaymentStatus(Payment.PaymentStatus.DISPUTED);
         payment.setDisputeReason(disputeReason);
         Payment disputedPayment = paymentRepository.save(payment);
+        totalCountCache.statusChanged(Payment.class, Payment.PaymentStatus.PENDING_RELEASE, Payment.PaymentStatus.DISPUTED);
+        requestEventService.paymentStatusChanged(disputedPayment, Payment.PaymentStatus.PENDING_RELEASE, client.getId());
 
         // Notify provider and admin
         User provider = payment.getProvider();
         ServiceRequest request = payment.getRequest();
 
-        String providerMessage = String.format("Client has disputed payment for request: %s. Reason: %s. Admin will review.",
-                request.getTitle(), disputeReason);
-        notificationService.createNotification(provider, providerMessage);
+        notificationService.createNotification(provider, Notification.Type.PAYMENT_DISPUTED, payment.getId(),
+                NotificationService.params("requestTitle", request.getTitle(), "reason", disputeReason));
 
         // TODO: Notify all admins
         webSocketEventService.broadcastPaymentChange("DISPUTED");
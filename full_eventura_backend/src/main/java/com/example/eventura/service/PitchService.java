@@ -2,6 +2,7 @@ package com.example.eventura.service;
 
 import com.example.eventura.dto.request.PitchRequest;
 import com.example.eventura.dto.response.PitchResponse;
+import com.example.eventura.entity.Notification;
 import com.example.eventura.entity.Pitch;
 import com.example.eventura.entity.ServiceRequest;
 import com.example.eventura.entity.User;
@@ -14,6 +15,9 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -25,9 +29,11 @@ public class PitchService {
     private final NotificationService notificationService;
     private final WebSocketEventService webSocketEventService;
     private final PaymentService paymentService;
+    private final RequestEventService requestEventService;
 
     private static final Double PLATFORM_FEE_PERCENTAGE = 10.0; // 10% platform commission
 
+    @Transactional
     public PitchResponse createPitch(Long providerId, PitchRequest request) {
         User provider = userRepository.findById(providerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Provider not found"));
@@ -36,7 +42,7 @@ public class PitchService {
             throw new UnauthorizedException("Only providers can create pitches");
         }
 
-        ServiceRequest serviceRequest = serviceRequestRepository.findById(request.getRequestId())
+        ServiceRequest serviceRequest = serviceRequestRepository.findDetailedById(request.getRequestId())
                 .orElseThrow(() -> new ResourceNotFoundException("Service request not found"));
 
         Pitch pitch = new Pitch();
@@ -47,12 +53,13 @@ public class PitchService {
         pitch.setStatus(Pitch.Status.PENDING);
 
         Pitch savedPitch = pitchRepository.save(pitch);
+        requestEventService.pitchSubmitted(savedPitch, providerId);
 
         // Notify the client
         User client = serviceRequest.getClient();
-        String message = String.format("New pitch from %s %s for your service request: %s",
-                provider.getFirstName(), provider.getLastName(), serviceRequest.getTitle());
-        notificationService.createNotification(client, message);
+        notificationService.createNotification(client, Notification.Type.PITCH_RECEIVED, serviceRequest.getId(),
+                NotificationService.params("providerName", provider.getFirstName() + " " + provider.getLastName(),
+                        "requestTitle", serviceRequest.getTitle()));
 
         // Broadcast pitch creation for dashboard auto-update
         webSocketEventService.broadcastPitchChange("CREATED");
@@ -60,6 +67,7 @@ public class PitchService {
         return convertToResponse(savedPitch);
     }
 
+    @Transactional(readOnly = true)
     public Page<PitchResponse> getMyPitches(Long providerId, Pageable pageable) {
         User provider = userRepository.findById(providerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Provider not found"));
@@ -72,12 +80,14 @@ public class PitchService {
                 .map(this::convertToResponse);
     }
 
+    @Transactional(readOnly = true)
     public PitchResponse getPitch(Long pitchId) {
         Pitch pitch = pitchRepository.findById(pitchId)
                 .orElseThrow(() -> new ResourceNotFoundException("Pitch not found"));
         return convertToResponse(pitch);
     }
 
+    @Transactional(readOnly = true)
     public Page<PitchResponse> getPitchesForRequest(Long requestId, Pageable pageable) {
         ServiceRequest serviceRequest = serviceRequestRepository.findById(requestId)
                 .orElseThrow(() -> new ResourceNotFoundException("Service request not found"));
@@ -86,8 +96,9 @@ public class PitchService {
                 .map(this::convertToResponse);
     }
 
+    @Transactional
     public PitchResponse updatePitchStatus(Long pitchId, Long userId, Pitch.Status status) {
-        Pitch pitch = pitchRepository.findById(pitchId)
+        Pitch pitch = pitchRepository.findDetailedById(pitchId)
                 .orElseThrow(() -> new ResourceNotFoundException("Pitch not found"));
 
         // Check if the user is the client who owns the service request
@@ -96,20 +107,22 @@ public class PitchService {
             throw new UnauthorizedException("Only the client who created the service request can update pitch status");
         }
 
+        Pitch.Status previousStatus = pitch.getStatus();
         pitch.setStatus(status);
         Pitch updatedPitch = pitchRepository.save(pitch);
+        requestEventService.pitchStatusChanged(updatedPitch, previousStatus, userId);
 
         // Notify the provider
         User provider = pitch.getProvider();
-        String message = String.format("Your pitch for service request: %s has been marked as %s",
-                serviceRequest.getTitle(), status);
-        notificationService.createNotification(provider, message);
+        notificationService.createNotification(provider, Notification.Type.PITCH_STATUS_CHANGED, updatedPitch.getId(),
+                NotificationService.params("requestTitle", serviceRequest.getTitle(), "status", status));
 
         return convertToResponse(updatedPitch);
     }
 
+    @Transactional
     public void deletePitch(Long pitchId, Long userId) {
-        Pitch pitch = pitchRepository.findById(pitchId)
+        Pitch pitch = pitchRepository.findDetailedById(pitchId)
                 .orElseThrow(() -> new ResourceNotFoundException("Pitch not found"));
 
         // Check if the user is the provider who created the pitch
@@ -117,22 +130,24 @@ public class PitchService {
             throw new UnauthorizedException("You are not authorized to delete this pitch");
         }
 
+        requestEventService.pitchDeleted(pitch, userId);
         pitchRepository.delete(pitch);
 
         // Optionally notify the client
         User client = pitch.getRequest().getClient();
-        String message = String.format("Pitch from %s %s for your service request: %s has been withdrawn",
-                pitch.getProvider().getFirstName(), pitch.getProvider().getLastName(),
-                pitch.getRequest().getTitle());
-        notificationService.createNotification(client, message);
+        notificationService.createNotification(client, Notification.Type.PITCH_WITHDRAWN, pitch.getRequest().getId(),
+                NotificationService.params(
+                        "providerName", pitch.getProvider().getFirstName() + " " + pitch.getProvider().getLastName(),
+                        "requestTitle", pitch.getRequest().getTitle()));
     }
 
     /**
      * Accept a pitch and create escrow payment
      * This is the NEW flow that replaces direct assignment
      */
+    @Transactional
     public PitchResponse acceptPitch(Long pitchId, Long clientId) {
-        Pitch pitch = pitchRepository.findById(pitchId)
+        Pitch pitch = pitchRepository.findDetailedById(pitchId)
                 .orElseThrow(() -> new ResourceNotFoundException("Pitch not found"));
 
         ServiceRequest serviceRequest = pitch.getRequest();
@@ -148,22 +163,25 @@ public class PitchService {
         }
 
         // Update pitch status to ACCEPTED (not PAID yet - waiting for payment)
+        Pitch.Status previousPitchStatus = pitch.getStatus();
         pitch.setStatus(Pitch.Status.ACCEPTED);
         Pitch acceptedPitch = pitchRepository.save(pitch);
+        requestEventService.pitchStatusChanged(acceptedPitch, previousPitchStatus, clientId);
 
-        // Reject all other pitches for this request
-        pitchRepository.findByRequest(serviceRequest, Pageable.unpaged())
+        // Reject all other pitches for this request (flushed as one JDBC batch); their providers are
+        // fetched in the same select, since every one of them is notified below
+        List<Pitch> rejectedPitches = pitchRepository.findByRequestAndStatus(serviceRequest, Pitch.Status.PENDING)
                 .stream()
-                .filter(p -> !p.getId().equals(pitchId) && p.getStatus() == Pitch.Status.PENDING)
-                .forEach(p -> {
-                    p.setStatus(Pitch.Status.REJECTED);
-                    pitchRepository.save(p);
-                    
-                    // Notify rejected providers
-                    String rejectMsg = String.format("Your pitch for request: %s was not selected",
-                            serviceRequest.getTitle());
-                    notificationService.createNotification(p.getProvider(), rejectMsg);
-                });
+                .filter(p -> !p.getId().equals(pitchId))
+                .toList();
+        rejectedPitches.forEach(p -> p.setStatus(Pitch.Status.REJECTED));
+        pitchRepository.saveAll(rejectedPitches);
+        rejectedPitches.forEach(p -> requestEventService.pitchStatusChanged(p, Pitch.Status.PENDING, clientId));
+
+        // Notify rejected providers
+        notificationService.createNotifications(rejectedPitches.stream().map(Pitch::getProvider).toList(),
+                Notification.Type.PITCH_NOT_SELECTED, serviceRequest.getId(),
+                NotificationService.params("requestTitle", serviceRequest.getTitle()));
 
         // Assign provider to the request and update status to ASSIGNED
         User provider = pitch.getProvider();
@@ -171,6 +189,8 @@ public class PitchService {
         serviceRequest.setAssignedPrice(pitch.getProposedPrice());
         serviceRequest.setStatus(ServiceRequest.Status.ASSIGNED);
         serviceRequestRepository.save(serviceRequest);
+        requestEventService.providerAssigned(serviceRequest, clientId);
+        requestEventService.requestStatusChanged(serviceRequest, ServiceRequest.Status.OPEN, clientId);
 
         // Create escrow payment (status = AWAITING_PAYMENT)
         paymentService.createEscrowPayment(
@@ -181,17 +201,26 @@ public class PitchService {
         );
 
         // Notify accepted provider
-        String providerMsg = String.format(
-                "Your pitch of Rs %s was accepted! Waiting for client payment to start work.",
-                pitch.getProposedPrice()
-        );
-        notificationService.createNotification(provider, providerMsg);
+        notificationService.createNotification(provider, Notification.Type.PITCH_ACCEPTED, pitch.getId(),
+                NotificationService.params("amount", pitch.getProposedPrice()));
 
         webSocketEventService.broadcastPitchChange("ACCEPTED");
 
         return convertToResponse(acceptedPitch);
     }
 
+    private PitchResponse convertToResponse(PitchRepository.PitchListItem pitch) {
+        PitchResponse response = new PitchResponse();
+        response.setId(pitch.getId());
+        response.setRequestId(pitch.getRequestId());
+        response.setProviderId(pitch.getProviderId());
+        response.setPitchDetails(pitch.getMessage());
+        response.setProposedPrice(pitch.getProposedPrice());
+        response.setCreatedAt(pitch.getCreatedAt());
+        response.setStatus(pitch.getStatus());
+        return response;
+    }
+
     private PitchResponse convertToResponse(Pitch pitch) {
         PitchResponse response = new PitchResponse();
         response.setId(pitch.getId());
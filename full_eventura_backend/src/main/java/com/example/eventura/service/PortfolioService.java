@@ -1,7 +1,9 @@
 package com.example.eventura.service;
 
 import com.example.eventura.dto.request.PortfolioRequest;
+import com.example.eventura.dto.response.PortfolioAuditLogResponse;
 import com.example.eventura.dto.response.PortfolioResponse;
+import com.example.eventura.entity.Notification;
 import com.example.eventura.entity.Portfolio;
 import com.example.eventura.entity.PortfolioAuditLog;
 import com.example.eventura.entity.ServiceProvider;
@@ -11,12 +13,14 @@ import com.example.eventura.repository.PortfolioRepository;
 import com.example.eventura.repository.ServiceProviderRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Objects;
 
@@ -28,7 +32,9 @@ public class PortfolioService {
     private final ServiceProviderRepository serviceProviderRepository;
     private final PortfolioAuditLogRepository portfolioAuditLogRepository;
     private final NotificationService notificationService;
+    private final TotalCountCache totalCountCache;
 
+    @Transactional
     public PortfolioResponse createPortfolio(Long providerId, PortfolioRequest request) {
         ServiceProvider provider = serviceProviderRepository.findById(providerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Provider not found"));
@@ -43,9 +49,11 @@ public class PortfolioService {
         portfolio.setStatus(Portfolio.Status.ACTIVE);
 
         Portfolio savedPortfolio = portfolioRepository.save(portfolio);
+        totalCountCache.created(Portfolio.class, savedPortfolio.getStatus());
         return convertToResponse(savedPortfolio);
     }
 
+    @Transactional(readOnly = true)
     public Page<PortfolioResponse> getPortfolios(Long providerId, Pageable pageable) {
         ServiceProvider provider = serviceProviderRepository.findById(providerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Provider not found"));
@@ -54,31 +62,34 @@ public class PortfolioService {
                 .map(this::convertToResponse);
     }
 
+    @Transactional(readOnly = true)
     public Page<PortfolioResponse> getAllPortfolios(String status, Pageable pageable) {
-        Page<Portfolio> portfolios;
+        Slice<Portfolio> portfolios;
+        long total;
 
         if (status != null && !status.isEmpty()) {
+            Portfolio.Status portfolioStatus;
             try {
-                Portfolio.Status portfolioStatus = Portfolio.Status.valueOf(status.toUpperCase());
-
-                // Create specification for status filtering
-                Specification<Portfolio> spec = (root, query, cb) ->
-                        cb.equal(root.get("status"), portfolioStatus);
-
-                portfolios = portfolioRepository.findAll(spec, pageable);
+                portfolioStatus = Portfolio.Status.valueOf(status.toUpperCase());
             } catch (IllegalArgumentException e) {
                 throw new ResourceNotFoundException("Invalid status: " + status);
             }
+            portfolios = portfolioRepository.findSliceByStatus(portfolioStatus, pageable);
+            total = totalCountCache.total(Portfolio.class, portfolioStatus,
+                    () -> portfolioRepository.countByStatus(portfolioStatus));
         } else {
-            portfolios = portfolioRepository.findAll(pageable);
+            portfolios = portfolioRepository.findAllBy(pageable);
+            total = totalCountCache.total(Portfolio.class, null, portfolioRepository::count);
         }
 
-        return portfolios.map(this::convertToResponse);
+        return new PageImpl<>(portfolios.map(this::convertToResponse).getContent(), pageable, total);
     }
 
+    @Transactional
     public PortfolioResponse updatePortfolioStatus(Long portfolioId, String status) {
         Portfolio portfolio = portfolioRepository.findById(portfolioId)
                 .orElseThrow(() -> new ResourceNotFoundException("Portfolio not found"));
+        Portfolio.Status previousStatus = portfolio.getStatus();
 
         try {
             portfolio.setStatus(Portfolio.Status.valueOf(status.toUpperCase()));
@@ -87,6 +98,7 @@ public class PortfolioService {
         }
 
         Portfolio updatedPortfolio = portfolioRepository.save(portfolio);
+        totalCountCache.statusChanged(Portfolio.class, previousStatus, updatedPortfolio.getStatus());
         return convertToResponse(updatedPortfolio);
     }
 
@@ -99,12 +111,16 @@ public class PortfolioService {
             throw new RuntimeException("Unauthorized: Provider does not own this portfolio item");
         }
 
-        // Check and log changes
-        compareAndLog(portfolio, "title", portfolio.getTitle(), request.getTitle());
-        compareAndLog(portfolio, "description", portfolio.getDescription(), request.getDescription());
-        compareAndLog(portfolio, "imageUrl", portfolio.getImageUrl(), request.getImageUrl());
-        compareAndLog(portfolio, "projectDate", portfolio.getProjectDate(), request.getProjectDate());
-        compareAndLog(portfolio, "eventType", portfolio.getEventType(), request.getEventType());
+        // Collect the changed fields and write them as one batch
+        List<PortfolioAuditLog> changes = new ArrayList<>();
+        compareAndLog(changes, portfolio, "title", portfolio.getTitle(), request.getTitle());
+        compareAndLog(changes, portfolio, "description", portfolio.getDescription(), request.getDescription());
+        compareAndLog(changes, portfolio, "imageUrl", portfolio.getImageUrl(), request.getImageUrl());
+        compareAndLog(changes, portfolio, "projectDate", portfolio.getProjectDate(), request.getProjectDate());
+        compareAndLog(changes, portfolio, "eventType", portfolio.getEventType(), request.getEventType());
+        if (!changes.isEmpty()) {
+            portfolioAuditLogRepository.saveAll(changes);
+        }
 
         // Update fields
         portfolio.setTitle(request.getTitle());
@@ -118,7 +134,8 @@ public class PortfolioService {
         return convertToResponse(updatedPortfolio);
     }
 
-    private void compareAndLog(Portfolio portfolio, String fieldName, Object oldValue, Object newValue) {
+    private void compareAndLog(List<PortfolioAuditLog> changes, Portfolio portfolio, String fieldName,
+                               Object oldValue, Object newValue) {
         String oldStr = oldValue == null ? "" : oldValue.toString();
         String newStr = newValue == null ? "" : newValue.toString();
 
@@ -130,25 +147,34 @@ public class PortfolioService {
             log.setOldValue(oldStr);
             log.setNewValue(newStr);
             log.setChangedAt(LocalDateTime.now());
-            portfolioAuditLogRepository.save(log);
+            changes.add(log);
         }
     }
 
-    public List<PortfolioAuditLog> getPortfolioHistory(Long portfolioId) {
-        return portfolioAuditLogRepository.findByPortfolioIdOrderByChangedAtDesc(portfolioId);
+    @Transactional(readOnly = true)
+    public Slice<PortfolioAuditLogResponse> getPortfolioHistory(Long providerId, Long portfolioId, Pageable pageable) {
+        return portfolioAuditLogRepository.findHistory(portfolioId, providerId, pageable).map(entry -> {
+            PortfolioAuditLogResponse response = new PortfolioAuditLogResponse();
+            response.setId(entry.getId());
+            response.setFieldName(entry.getFieldName());
+            response.setOldValue(entry.getOldValue());
+            response.setNewValue(entry.getNewValue());
+            response.setChangedAt(entry.getChangedAt());
+            return response;
+        });
     }
 
     @Transactional
     public void deletePortfolioByAdmin(Long portfolioId, String reason) {
-        Portfolio portfolio = portfolioRepository.findById(portfolioId)
+        Portfolio portfolio = portfolioRepository.findDetailedById(portfolioId)
                 .orElseThrow(() -> new ResourceNotFoundException("Portfolio not found"));
         
         // Notify provider
-        String message = String.format("Your portfolio item '%s' was deleted by an administrator. Reason: %s", 
-                portfolio.getTitle(), reason);
-        notificationService.createNotification(portfolio.getProvider().getUser(), message);
+        notificationService.createNotification(portfolio.getProvider().getUser(), Notification.Type.PORTFOLIO_REMOVED_BY_ADMIN,
+                portfolio.getId(), NotificationService.params("portfolioTitle", portfolio.getTitle(), "reason", reason));
         
         portfolioRepository.delete(portfolio);
+        totalCountCache.deleted(Portfolio.class, portfolio.getStatus());
     }
 
     private PortfolioResponse convertToResponse(Portfolio portfolio) {
@@ -3,9 +3,12 @@ package com.example.eventura.service;
 import com.example.eventura.dto.request.PortfolioRequest;
 import com.example.eventura.dto.request.ProviderProfileRequest;
 import com.example.eventura.dto.request.VerificationDocumentRequest;
+import com.example.eventura.dto.response.CursorPage;
+import com.example.eventura.dto.response.PortfolioAuditLogResponse;
 import com.example.eventura.dto.response.PortfolioResponse;
 import com.example.eventura.dto.response.ProviderResponse;
 import com.example.eventura.dto.response.VerificationDocumentResponse;
+import com.example.eventura.entity.Notification;
 import com.example.eventura.entity.Portfolio;
 import com.example.eventura.entity.ServiceProvider;
 import com.example.eventura.entity.User;
@@ -19,7 +22,9 @@ import com.example.eventura.repository.VerificationDocumentRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -31,9 +36,11 @@ public class ProviderService {
     private final PortfolioRepository portfolioRepository;
     private final NotificationService notificationService;
     private final WebSocketEventService webSocketEventService;
+    private final TotalCountCache totalCountCache;
 
     private final PortfolioService portfolioService;
 
+    @Transactional
     public ProviderResponse createProviderProfile(Long userId, ProviderProfileRequest request) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
@@ -63,6 +70,7 @@ public class ProviderService {
         return convertToResponse(savedProvider);
     }
 
+    @Transactional
     public ProviderResponse updateProviderProfile(Long userId, ProviderProfileRequest request) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
@@ -93,12 +101,13 @@ public class ProviderService {
         ServiceProvider updatedProvider = serviceProviderRepository.save(provider);
 
         // Send normal notification
-        String notificationMessage = String.format("Your provider profile for %s has been updated", provider.getCompanyName());
-        notificationService.createNotification(user, notificationMessage);
+        notificationService.createNotification(user, Notification.Type.PROFILE_UPDATED, provider.getId(),
+                NotificationService.params("companyName", provider.getCompanyName()));
 
         return convertToResponse(updatedProvider);
     }
 
+    @Transactional(readOnly = true)
     public ProviderResponse getOwnProviderProfile(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
@@ -115,17 +124,26 @@ public class ProviderService {
         return convertToResponse(provider);
     }
 
+    @Transactional(readOnly = true)
     public Page<ProviderResponse> getAllProviders(Pageable pageable) {
-        return serviceProviderRepository.findAll(pageable)
+        return serviceProviderRepository.findAll(null, ServiceProviderRepository.ProviderListItem.class, pageable)
                 .map(this::convertToResponse);
     }
 
+    @Transactional(readOnly = true)
+    public CursorPage<ProviderResponse> scrollProviders(String cursor, int size, boolean includeTotal) {
+        return serviceProviderRepository.scroll(null, ServiceProviderRepository.ProviderListItem.class, cursor, size,
+                includeTotal).map(this::convertToResponse);
+    }
+
+    @Transactional(readOnly = true)
     public ProviderResponse getProviderProfile(Long providerId) {
         ServiceProvider provider = serviceProviderRepository.findById(providerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Provider not found"));
         return convertToResponse(provider);
     }
 
+    @Transactional(readOnly = true)
     public Long getProviderIdByUserId(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
@@ -142,6 +160,7 @@ public class ProviderService {
         return provider.getId();
     }
 
+    @Transactional
     public VerificationDocumentResponse uploadDocument(Long providerId, VerificationDocumentRequest request) {
         ServiceProvider provider = serviceProviderRepository.findById(providerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Provider not found"));
@@ -153,13 +172,16 @@ public class ProviderService {
         document.setStatus(VerificationDocument.Status.PENDING);
 
         VerificationDocument savedDocument = verificationDocumentRepository.save(document);
+        totalCountCache.created(VerificationDocument.class, savedDocument.getStatus());
 
         return convertToDocumentResponse(savedDocument);
     }
 
+    @Transactional
     public VerificationDocumentResponse updateDocumentStatus(Long documentId, String status) {
         VerificationDocument document = verificationDocumentRepository.findById(documentId)
                 .orElseThrow(() -> new ResourceNotFoundException("Document not found"));
+        VerificationDocument.Status previousStatus = document.getStatus();
 
         try {
             document.setStatus(VerificationDocument.Status.valueOf(status));
@@ -173,24 +195,26 @@ public class ProviderService {
         }
 
         VerificationDocument updatedDocument = verificationDocumentRepository.save(document);
+        totalCountCache.statusChanged(VerificationDocument.class, previousStatus, updatedDocument.getStatus());
         return convertToDocumentResponse(updatedDocument);
     }
 
+    @Transactional
     public ProviderResponse updateProviderVerificationStatus(Long providerId, Boolean isVerified) {
-        ServiceProvider provider = serviceProviderRepository.findById(providerId)
+        ServiceProvider provider = serviceProviderRepository.findDetailedById(providerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Provider not found"));
 
         provider.setIsVerified(isVerified);
         ServiceProvider updatedProvider = serviceProviderRepository.save(provider);
 
         // Send notification
-        String notificationMessage = String.format("Your provider verification status has been %s",
-                isVerified ? "verified" : "unverified");
-        notificationService.createNotification(provider.getUser(), notificationMessage);
+        notificationService.createNotification(provider.getUser(), Notification.Type.VERIFICATION_CHANGED, provider.getId(),
+                NotificationService.params("status", isVerified ? "verified" : "unverified"));
 
         return convertToResponse(updatedProvider);
     }
 
+    @Transactional
     public PortfolioResponse createPortfolio(Long providerId, PortfolioRequest request) {
         // Delegate to PortfolioService for consistency if desired, otherwise keep existing
         // For now logging edits is key, creation can stay here or move.
@@ -208,10 +232,12 @@ public class ProviderService {
         portfolio.setStatus(Portfolio.Status.ACTIVE);
 
         Portfolio savedPortfolio = portfolioRepository.save(portfolio);
+        totalCountCache.created(Portfolio.class, savedPortfolio.getStatus());
 
         return convertToPortfolioResponse(savedPortfolio);
     }
 
+    @Transactional(readOnly = true)
     public Page<PortfolioResponse> getPortfolios(Long providerId, Pageable pageable) {
         ServiceProvider provider = serviceProviderRepository.findById(providerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Provider not found"));
@@ -220,14 +246,17 @@ public class ProviderService {
                 .map(this::convertToPortfolioResponse);
     }
 
+    @Transactional
     public PortfolioResponse updatePortfolio(Long providerId, Long portfolioId, PortfolioRequest request) {
         return portfolioService.updatePortfolio(providerId, portfolioId, request);
     }
 
-    public java.util.List<com.example.eventura.entity.PortfolioAuditLog> getPortfolioHistory(Long portfolioId) {
-        return portfolioService.getPortfolioHistory(portfolioId);
+    @Transactional(readOnly = true)
+    public Slice<PortfolioAuditLogResponse> getPortfolioHistory(Long providerId, Long portfolioId, Pageable pageable) {
+        return portfolioService.getPortfolioHistory(providerId, portfolioId, pageable);
     }
 
+    @Transactional
     public void deletePortfolio(Long providerId, Long portfolioId, Long userId) {
         ServiceProvider provider = serviceProviderRepository.findById(providerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Provider not found"));
@@ -251,10 +280,11 @@ public class ProviderService {
         }
 
         portfolioRepository.delete(portfolio);
+        totalCountCache.deleted(Portfolio.class, portfolio.getStatus());
 
         // Send notification
-        String notificationMessage = String.format("Portfolio '%s' has been deleted", portfolio.getTitle());
-        notificationService.createNotification(user, notificationMessage);
+        notificationService.createNotification(user, Notification.Type.PORTFOLIO_DELETED, portfolio.getId(),
+                NotificationService.params("portfolioTitle", portfolio.getTitle()));
     }
 
     private void checkAndUpdateProviderVerification(ServiceProvider provider) {
@@ -271,6 +301,18 @@ public class ProviderService {
         }
     }
 
+    private ProviderResponse convertToResponse(ServiceProviderRepository.ProviderListItem provider) {
+        ProviderResponse response = new ProviderResponse();
+        response.setId(provider.getId());
+        response.setUserId(provider.getUserId());
+        response.setCompanyName(provider.getCompanyName());
+        response.setServiceType(provider.getServiceType());
+        response.setAddress(provider.getAddress());
+        response.setMobileNumber(provider.getMobileNumber());
+        response.setIsVerified(provider.getIsVerified());
+        return response;
+    }
+
     private ProviderResponse convertToResponse(ServiceProvider provider) {
         ProviderResponse response = new ProviderResponse();
         response.setId(provider.getId());
@@ -11,6 +11,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -20,6 +21,7 @@ public class ReportService {
     private final UserRepository userRepository;
     private final ServiceRequestRepository serviceRequestRepository;
 
+    @Transactional
     public Report createReport(Long reportedById, Long reportedUserId, Long requestId, String reason) {
         User reportedBy = userRepository.findById(reportedById)
                 .orElseThrow(() -> new ResourceNotFoundException("Reporting user not found"));
@@ -33,7 +35,7 @@ public class ReportService {
         report.setReason(reason);
 
         if (requestId != null) {
-            ServiceRequest request = serviceRequestRepository.findById(requestId)
+            ServiceRequest request = serviceRequestRepository.findDetailedById(requestId)
                     .orElse(null);
             report.setRequest(request);
         }
@@ -46,6 +48,7 @@ public class ReportService {
         return savedReport;
     }
 
+    @Transactional(readOnly = true)
     public Page<Report> getAllReports(Report.Status status, Pageable pageable) {
         if (status != null) {
             return reportRepository.findByStatus(status, pageable);
@@ -53,11 +56,13 @@ public class ReportService {
         return reportRepository.findAll(pageable);
     }
 
+    @Transactional(readOnly = true)
     public Report getReport(Long reportId) {
         return reportRepository.findById(reportId)
                 .orElseThrow(() -> new ResourceNotFoundException("Report not found"));
     }
 
+    @Transactional
     public Report updateReportStatus(Long reportId, Report.Status status) {
         Report report = getReport(reportId);
         report.setStatus(status);
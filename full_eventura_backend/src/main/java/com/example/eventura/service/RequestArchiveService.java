@@ -0,0 +1,130 @@
+package com.example.eventura.service;
+
+import com.example.eventura.entity.EntityAuditLog;
+import com.example.eventura.entity.Payment;
+import com.example.eventura.entity.ServiceRequest;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Moves finished requests, with their pitches and payments, from the hot tables into the
+ * *_archive tables once they are older than {@code app.archive.retention-days}. Each chunk of
+ * requests is copied and deleted in its own transaction.
+ * <p>
+ * Requests that still have reviews or reports stay hot (both keep a foreign key to the request),
+ * as do requests whose payment has not settled.
+ * <p>
+ * The moves are plain JDBC, invisible to EntityAuditListener, so each archived request gets one
+ * audit entry of its own, standing for its pitches and payments too.
+ * <p>
+ * An admin removing a request goes through {@link #archiveNow}, the only way a request leaves the
+ * hot tables: payments lost their foreign key in V7, so a plain delete would orphan them.
+ */
+@Service
+@RequiredArgsConstructor
+public class RequestArchiveService {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestArchiveService.class);
+
+    private static final String SELECT_CANDIDATES =
+            "SELECT r.id FROM service_requests r"
+                    + " WHERE r.status IN ('COMPLETED', 'CANCELLED', 'DELETED') AND r.updated_at < :cutoff"
+                    + " AND NOT EXISTS (SELECT 1 FROM reviews rv WHERE rv.request_id = r.id)"
+                    + " AND NOT EXISTS (SELECT 1 FROM reports rp WHERE rp.request_id = r.id)"
+                    + " AND NOT EXISTS (SELECT 1 FROM payments p WHERE p.request_id = r.id"
+                    + " AND p.payment_status NOT IN ('RELEASED', 'REFUNDED', 'EXPIRED'))"
+                    + " ORDER BY r.status, r.updated_at LIMIT :batchSize";
+
+    private static final String REQUEST_COLUMNS = "id, client_id, assigned_provider_id, title, event_name, event_date,"
+            + " location, service_type, description, budget, assigned_price, status, created_at, updated_at";
+    private static final String PITCH_COLUMNS = "id, request_id, provider_id, pitch_details, proposed_price, status,"
+            + " created_at, updated_at";
+    private static final String PAYMENT_COLUMNS = "id, request_id, client_id, provider_id, amount, payment_status,"
+            + " transaction_id, stripe_payment_intent_id, stripe_transfer_id, platform_fee, provider_amount,"
+            + " dispute_reason, created_at, updated_at";
+
+    private static final List<String> ARCHIVE_STATEMENTS = List.of(
+            "INSERT INTO payments_archive (" + PAYMENT_COLUMNS + ", archived_at)"
+                    + " SELECT " + PAYMENT_COLUMNS + ", :now FROM payments WHERE request_id IN (:ids)",
+            "INSERT INTO pitches_archive (" + PITCH_COLUMNS + ", archived_at)"
+                    + " SELECT " + PITCH_COLUMNS + ", :now FROM pitches WHERE request_id IN (:ids)",
+            "INSERT INTO service_requests_archive (" + REQUEST_COLUMNS + ", archived_at)"
+                    + " SELECT " + REQUEST_COLUMNS + ", :now FROM service_requests WHERE id IN (:ids)",
+            "DELETE FROM request_summaries WHERE request_id IN (:ids)",
+            "DELETE FROM payments WHERE request_id IN (:ids)",
+            "DELETE FROM pitches WHERE request_id IN (:ids)",
+            "DELETE FROM service_requests WHERE id IN (:ids)"
+    );
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final TotalCountCache totalCountCache;
+    private final AuditLogService auditLogService;
+
+    @Value("${app.archive.retention-days:180}")
+    private int retentionDays;
+
+    @Value("${app.archive.batch-size:200}")
+    private int batchSize;
+
+    @Scheduled(cron = "${app.archive.cron:0 30 3 * * *}")
+    public void archiveFinishedRequests() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(retentionDays);
+        long archived = 0;
+        int moved;
+        do {
+            moved = transactionTemplate.execute(status -> archiveBatch(cutoff));
+            archived += moved;
+        } while (moved == batchSize);
+
+        if (archived > 0) {
+            totalCountCache.invalidate(Payment.class);
+            logger.info("Archived {} requests last updated before {}", archived, cutoff);
+        }
+    }
+
+    /**
+     * Archives one request with its pitches and payments whatever its status, in the caller's
+     * transaction.
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void archiveNow(Long requestId) {
+        move(List.of(requestId));
+        totalCountCache.invalidate(Payment.class);
+    }
+
+    private int archiveBatch(LocalDateTime cutoff) {
+        List<Long> ids = jdbcTemplate.queryForList(SELECT_CANDIDATES, new MapSqlParameterSource()
+                .addValue("cutoff", cutoff)
+                .addValue("batchSize", batchSize), Long.class);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        move(ids);
+        return ids.size();
+    }
+
+    private void move(List<Long> ids) {
+        MapSqlParameterSource params = new MapSqlParameterSource()
+                .addValue("ids", ids)
+                .addValue("now", LocalDateTime.now());
+        for (String statement : ARCHIVE_STATEMENTS) {
+            jdbcTemplate.update(statement, params);
+        }
+        auditLogService.recordAfterCommit(ServiceRequest.class.getSimpleName(), ids, EntityAuditLog.Operation.DELETE,
+                Map.of("archivedAt", new Object[]{null, params.getValue("now")}));
+    }
+}
@@ -0,0 +1,149 @@
+package com.example.eventura.service;
+
+import com.example.eventura.entity.ProjectionCheckpoint;
+import com.example.eventura.entity.RequestDailyStats;
+import com.example.eventura.entity.RequestEvent;
+import com.example.eventura.repository.ProjectionCheckpointRepository;
+import com.example.eventura.repository.RequestDailyStatsRepository;
+import com.example.eventura.repository.RequestEventRepository;
+import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Folds the request event stream into {@link RequestDailyStats}. Events are consumed in
+ * (occurred_at, id) order from a checkpoint, one chunk per transaction together with the
+ * checkpoint update. Events are stamped just before their transaction commits, and only events
+ * older than {@code app.events.projection-lag-ms} are read, so a transaction whose commit was
+ * still in progress when a later event committed is not skipped.
+ */
+@Service
+@RequiredArgsConstructor
+public class RequestEventProjector {
+
+    private static final Logger logger = LoggerFactory.getLogger(RequestEventProjector.class);
+
+    static final String DAILY_STATS = "request-daily-stats";
+    private static final LocalDateTime STREAM_START = LocalDateTime.of(1970, 1, 1, 0, 0);
+    private static final int CHUNK_SIZE = 1000;
+
+    private final RequestEventRepository requestEventRepository;
+    private final RequestDailyStatsRepository requestDailyStatsRepository;
+    private final ProjectionCheckpointRepository projectionCheckpointRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${app.events.projection-lag-ms:60000}")
+    private long projectionLagMs;
+
+    @Scheduled(fixedDelayString = "${app.events.projection-interval-ms:60000}")
+    public void project() {
+        LocalDateTime until = LocalDateTime.now().minusNanos(projectionLagMs * 1_000_000);
+        long applied = 0;
+        int chunk;
+        do {
+            chunk = transactionTemplate.execute(status -> applyChunk(until));
+            applied += chunk;
+        } while (chunk == CHUNK_SIZE);
+        if (applied > 0) {
+            logger.debug("Projected {} request events into daily stats", applied);
+        }
+    }
+
+    /**
+     * Discards the projection and replays the whole event store into it.
+     */
+    public void rebuild() {
+        transactionTemplate.executeWithoutResult(status -> {
+            ProjectionCheckpoint checkpoint = projectionCheckpointRepository.findByName(DAILY_STATS)
+                    .orElseGet(() -> checkpoint(STREAM_START, 0L));
+            requestDailyStatsRepository.deleteAllInBatch();
+            checkpoint.setLastOccurredAt(STREAM_START);
+            checkpoint.setLastEventId(0L);
+            projectionCheckpointRepository.save(checkpoint);
+        });
+        project();
+    }
+
+    private int applyChunk(LocalDateTime until) {
+        ProjectionCheckpoint checkpoint = projectionCheckpointRepository.findByName(DAILY_STATS)
+                .orElseGet(() -> checkpoint(STREAM_START, 0L));
+        List<RequestEvent> events = requestEventRepository.findBatchAfter(
+                checkpoint.getLastOccurredAt(), checkpoint.getLastEventId(), until, PageRequest.of(0, CHUNK_SIZE));
+        if (events.isEmpty()) {
+            return 0;
+        }
+
+        Map<LocalDate, RequestDailyStats> days = new HashMap<>();
+        for (RequestEvent event : events) {
+            LocalDate day = event.getOccurredAt().toLocalDate();
+            RequestDailyStats stats = days.computeIfAbsent(day, d -> requestDailyStatsRepository.findById(d)
+                    .orElseGet(() -> {
+                        RequestDailyStats created = new RequestDailyStats();
+                        created.setDay(d);
+                        return created;
+                    }));
+            apply(stats, event);
+        }
+        requestDailyStatsRepository.saveAll(days.values());
+
+        RequestEvent last = events.get(events.size() - 1);
+        checkpoint.setLastOccurredAt(last.getOccurredAt());
+        checkpoint.setLastEventId(last.getId());
+        projectionCheckpointRepository.save(checkpoint);
+        return events.size();
+    }
+
+    private void apply(RequestDailyStats stats, RequestEvent event) {
+        String to = event.getToValue();
+        double amount = event.getAmount() != null ? event.getAmount() : 0.0;
+        switch (event.getType()) {
+            case REQUEST_CREATED -> stats.setRequestsCreated(stats.getRequestsCreated() + 1);
+            case REQUEST_STATUS_CHANGED -> {
+                if ("COMPLETED".equals(to)) {
+                    stats.setRequestsCompleted(stats.getRequestsCompleted() + 1);
+                } else if ("CANCELLED".equals(to)) {
+                    stats.setRequestsCancelled(stats.getRequestsCancelled() + 1);
+                }
+            }
+            case PITCH_SUBMITTED -> stats.setPitchesSubmitted(stats.getPitchesSubmitted() + 1);
+            case PITCH_STATUS_CHANGED -> {
+                if ("ACCEPTED".equals(to)) {
+                    stats.setPitchesAccepted(stats.getPitchesAccepted() + 1);
+                }
+            }
+            case PAYMENT_STATUS_CHANGED -> {
+                if ("ESCROWED".equals(to)) {
+                    stats.setPaymentsEscrowed(stats.getPaymentsEscrowed() + 1);
+                    stats.setAmountEscrowed(stats.getAmountEscrowed() + amount);
+                } else if ("RELEASED".equals(to)) {
+                    stats.setPaymentsReleased(stats.getPaymentsReleased() + 1);
+                    stats.setAmountReleased(stats.getAmountReleased() + amount);
+                } else if ("REFUNDED".equals(to)) {
+                    stats.setPaymentsRefunded(stats.getPaymentsRefunded() + 1);
+                }
+            }
+            default -> {
+                // Not part of the daily counters
+            }
+        }
+    }
+
+    private static ProjectionCheckpoint checkpoint(LocalDateTime occurredAt, Long eventId) {
+        ProjectionCheckpoint checkpoint = new ProjectionCheckpoint();
+        checkpoint.setName(DAILY_STATS);
+        checkpoint.setLastOccurredAt(occurredAt);
+        checkpoint.setLastEventId(eventId);
+        return checkpoint;
+    }
+}
@@ -0,0 +1,185 @@
+package com.example.eventura.service;
+
+import com.example.eventura.dto.response.RequestEventResponse;
+import com.example.eventura.entity.ArchivedServiceRequest;
+import com.example.eventura.entity.Payment;
+import com.example.eventura.entity.Pitch;
+import com.example.eventura.entity.RequestEvent;
+import com.example.eventura.entity.ServiceRequest;
+import com.example.eventura.entity.User;
+import com.example.eventura.exception.ResourceNotFoundException;
+import com.example.eventura.exception.UnauthorizedException;
+import com.example.eventura.repository.ArchivedServiceRequestRepository;
+import com.example.eventura.repository.RequestEventRepository;
+import com.example.eventura.repository.ServiceRequestRepository;
+import com.example.eventura.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Appends request lifecycle events to the event store and serves per-request timelines.
+ * The request summaries read model is updated from the same events.
+ * <p>
+ * Events recorded inside a transaction are buffered and written with one saveAll just before
+ * commit, so they share the transaction's JDBC batch and disappear with it on rollback. They are
+ * stamped at that point too, so occurred_at trails the commit by no more than the final flush
+ * however long the transaction ran; the projector's lag relies on that.
+ */
+@Service
+@RequiredArgsConstructor
+public class RequestEventService {
+
+    private final RequestEventRepository requestEventRepository;
+    private final ServiceRequestRepository serviceRequestRepository;
+    private final ArchivedServiceRequestRepository archivedServiceRequestRepository;
+    private final UserRepository userRepository;
+    private final RequestSummaryService requestSummaryService;
+
+    public void requestCreated(ServiceRequest request, Long actorId) {
+        record(request.getId(), RequestEvent.Type.REQUEST_CREATED, request.getId(), actorId,
+                null, request.getStatus().name(), request.getBudget());
+    }
+
+    public void requestStatusChanged(ServiceRequest request, ServiceRequest.Status from, Long actorId) {
+        if (from != request.getStatus()) {
+            record(request.getId(), RequestEvent.Type.REQUEST_STATUS_CHANGED, request.getId(), actorId,
+                    from == null ? null : from.name(), request.getStatus().name(), null);
+        }
+    }
+
+    public void budgetChanged(ServiceRequest request, Double from, Long actorId) {
+        if (!Objects.equals(from, request.getBudget())) {
+            record(request.getId(), RequestEvent.Type.REQUEST_BUDGET_CHANGED, request.getId(), actorId,
+                    from == null ? null : from.toString(), String.valueOf(request.getBudget()), request.getBudget());
+        }
+    }
+
+    public void providerAssigned(ServiceRequest request, Long actorId) {
+        record(request.getId(), RequestEvent.Type.PROVIDER_ASSIGNED, request.getId(), actorId,
+                null, String.valueOf(request.getAssignedProvider().getId()), request.getAssignedPrice());
+    }
+
+    public void requestRemoved(ServiceRequest request, Long actorId) {
+        record(request.getId(), RequestEvent.Type.REQUEST_REMOVED, request.getId(), actorId,
+                request.getStatus().name(), null, null);
+    }
+
+    public void pitchSubmitted(Pitch pitch, Long actorId) {
+        record(pitch.getRequest().getId(), RequestEvent.Type.PITCH_SUBMITTED, pitch.getId(), actorId,
+                null, pitch.getStatus().name(), pitch.getProposedPrice());
+    }
+
+    public void pitchStatusChanged(Pitch pitch, Pitch.Status from, Long actorId) {
+        if (from != pitch.getStatus()) {
+            record(pitch.getRequest().getId(), RequestEvent.Type.PITCH_STATUS_CHANGED, pitch.getId(), actorId,
+                    from == null ? null : from.name(), pitch.getStatus().name(), pitch.getProposedPrice());
+        }
+    }
+
+    public void pitchDeleted(Pitch pitch, Long actorId) {
+        record(pitch.getRequest().getId(), RequestEvent.Type.PITCH_DELETED, pitch.getId(), actorId,
+                pitch.getStatus().name(), null, null);
+    }
+
+    public void paymentCreated(Payment payment, Long actorId) {
+        record(payment.getRequest().getId(), RequestEvent.Type.PAYMENT_CREATED, payment.getId(), actorId,
+                null, payment.getPaymentStatus().name(), payment.getAmount());
+    }
+
+    public void paymentStatusChanged(Payment payment, Payment.PaymentStatus from, Long actorId) {
+        if (from != payment.getPaymentStatus()) {
+            record(payment.getRequest().getId(), RequestEvent.Type.PAYMENT_STATUS_CHANGED, payment.getId(), actorId,
+                    from == null ? null : from.name(), payment.getPaymentStatus().name(), payment.getAmount());
+        }
+    }
+
+    @Transactional(readOnly = true)
+    public List<RequestEventResponse> getTimeline(Long requestId, Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
+        if (user.getRole() != User.Role.ADMIN && !isParticipant(requestId, userId)) {
+            throw new UnauthorizedException("Not authorized to view this request's history");
+        }
+        return requestEventRepository.findByRequestIdOrderByOccurredAtAscIdAsc(requestId).stream()
+                .map(this::convertToResponse)
+                .toList();
+    }
+
+    private boolean isParticipant(Long requestId, Long userId) {
+        ServiceRequest request = serviceRequestRepository.findDetailedById(requestId).orElse(null);
+        if (request != null) {
+            return request.getClient().getId().equals(userId)
+                    || (request.getAssignedProvider() != null && request.getAssignedProvider().getId().equals(userId));
+        }
+        ArchivedServiceRequest archived = archivedServiceRequestRepository.findById(requestId)
+                .orElseThrow(() -> new ResourceNotFoundException("Service request not found"));
+        return archived.getClientId().equals(userId) || userId.equals(archived.getAssignedProviderId());
+    }
+
+    private void record(Long requestId, RequestEvent.Type type, Long subjectId, Long actorId,
+                        String fromValue, String toValue, Double amount) {
+        RequestEvent event = new RequestEvent();
+        event.setRequestId(requestId);
+        event.setType(type);
+        event.setSubjectId(subjectId);
+        event.setActorId(actorId);
+        event.setFromValue(fromValue);
+        event.setToValue(toValue);
+        event.setAmount(amount);
+
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            requestSummaryService.apply(List.of(event));
+            requestEventRepository.save(event);
+            return;
+        }
+        pendingEvents().add(event);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<RequestEvent> pendingEvents() {
+        List<RequestEvent> pending = (List<RequestEvent>) TransactionSynchronizationManager.getResource(this);
+        if (pending != null) {
+            return pending;
+        }
+        List<RequestEvent> events = new ArrayList<>();
+        TransactionSynchronizationManager.bindResource(this, events);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                LocalDateTime now = LocalDateTime.now();
+                events.forEach(event -> event.setOccurredAt(now));
+                // Flushed together with the rest of the transaction's writes
+                requestSummaryService.apply(events);
+                requestEventRepository.saveAll(events);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(RequestEventService.this);
+            }
+        });
+        return events;
+    }
+
+    private RequestEventResponse convertToResponse(RequestEvent event) {
+        RequestEventResponse response = new RequestEventResponse();
+        response.setId(event.getId());
+        response.setRequestId(event.getRequestId());
+        response.setType(event.getType().name());
+        response.setSubjectId(event.getSubjectId());
+        response.setActorId(event.getActorId());
+        response.setFromValue(event.getFromValue());
+        response.setToValue(event.getToValue());
+        response.setAmount(event.getAmount());
+        response.setOccurredAt(event.getOccurredAt());
+        return response;
+    }
+}
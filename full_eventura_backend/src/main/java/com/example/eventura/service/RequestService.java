@@ -1,17 +1,23 @@
 package com.example.eventura.service;
 
 import com.example.eventura.dto.request.ServiceRequestRequest;
+import com.example.eventura.dto.response.CursorPage;
 import com.example.eventura.dto.response.ServiceRequestResponse;
+import com.example.eventura.entity.ArchivedServiceRequest;
+import com.example.eventura.entity.Notification;
 import com.example.eventura.entity.ServiceRequest;
 import com.example.eventura.entity.User;
 import com.example.eventura.exception.ResourceNotFoundException;
 import com.example.eventura.exception.UnauthorizedException;
+import com.example.eventura.repository.ArchivedServiceRequestRepository;
 import com.example.eventura.repository.ServiceRequestRepository;
 import com.example.eventura.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -25,9 +31,14 @@ public class RequestService {
     private final WebSocketEventService webSocketEventService; // For dashboard updates
     private final com.example.eventura.repository.PaymentRepository paymentRepository;
     private final PaymentService paymentService;
+    private final TotalCountCache totalCountCache;
+    private final ArchivedServiceRequestRepository archivedServiceRequestRepository;
+    private final RequestEventService requestEventService;
+    private final RequestArchiveService requestArchiveService;
 
     // ... (existing methods until updateRequestStatus)
 
+    @Transactional
     public ServiceRequestResponse createRequest(Long clientId, ServiceRequestRequest request) {
         // ... (body of createRequest)
         User client = userRepository.findById(clientId)
@@ -49,6 +60,7 @@ public class RequestService {
         serviceRequest.setStatus(ServiceRequest.Status.OPEN);
 
         ServiceRequest savedRequest = serviceRequestRepository.save(serviceRequest);
+        requestEventService.requestCreated(savedRequest, clientId);
 
         // Broadcast request creation for dashboard auto-update
         webSocketEventService.broadcastRequestChange("CREATED");
@@ -62,22 +74,36 @@ public class RequestService {
 
 
 
+    @Transactional(readOnly = true)
     public ServiceRequestResponse getRequest(Long requestId) {
         ServiceRequest serviceRequest = serviceRequestRepository.findById(requestId)
                 .orElseThrow(() -> new ResourceNotFoundException("Service request not found"));
         return convertToResponse(serviceRequest);
     }
 
+    @Transactional(readOnly = true)
     public Page<ServiceRequestResponse> getAllRequests(Pageable pageable, String serviceType) {
-        Page<ServiceRequest> requests;
+        return serviceRequestRepository.findAll(listedRequests(serviceType), ServiceRequestRepository.RequestListItem.class,
+                pageable).map(this::convertToResponse);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<ServiceRequestResponse> scrollRequests(String cursor, int size, String serviceType, boolean includeTotal) {
+        return serviceRequestRepository.scroll(listedRequests(serviceType), ServiceRequestRepository.RequestListItem.class,
+                cursor, size, includeTotal).map(this::convertToResponse);
+    }
+
+    // Listings skip soft-deleted requests; they only remain until the archival job moves them
+    private static Specification<ServiceRequest> listedRequests(String serviceType) {
+        Specification<ServiceRequest> spec = (root, query, cb) ->
+                cb.notEqual(root.get("status"), ServiceRequest.Status.DELETED);
         if (serviceType != null && !serviceType.isEmpty()) {
-            requests = serviceRequestRepository.findByServiceType(serviceType, pageable);
-        } else {
-            requests = serviceRequestRepository.findAll(pageable);
+            spec = spec.and((root, query, cb) -> cb.equal(root.get("serviceType"), serviceType));
         }
-        return requests.map(this::convertToResponse);
+        return spec;
     }
 
+    @Transactional(readOnly = true)
     public Page<ServiceRequestResponse> getClientRequests(Long clientId, Pageable pageable) {
         User client = userRepository.findById(clientId)
                 .orElseThrow(() -> new ResourceNotFoundException("Client not found"));
@@ -86,10 +112,32 @@ public class RequestService {
             throw new UnauthorizedException("User is not a client");
         }
 
-        Page<ServiceRequest> requests = serviceRequestRepository.findByClient(client, pageable);
+        Specification<ServiceRequest> clientRequests = listedRequests(null)
+                .and((root, query, cb) -> cb.equal(root.get("client"), client));
+        return serviceRequestRepository.findAll(clientRequests, ServiceRequestRepository.RequestListItem.class, pageable)
+                .map(this::convertToResponse);
+    }
+
+    // Opt-in read of requests moved to cold storage by RequestArchiveService
+    @Transactional(readOnly = true)
+    public Page<ServiceRequestResponse> getArchivedRequests(Long clientId, Pageable pageable) {
+        Page<ArchivedServiceRequest> requests = clientId != null
+                ? archivedServiceRequestRepository.findByClientId(clientId, pageable)
+                : archivedServiceRequestRepository.findAll(pageable);
         return requests.map(this::convertToResponse);
     }
 
+    @Transactional(readOnly = true)
+    public ServiceRequestResponse getArchivedRequest(Long requestId, Long userId) {
+        ArchivedServiceRequest request = archivedServiceRequestRepository.findById(requestId)
+                .orElseThrow(() -> new ResourceNotFoundException("Archived request not found"));
+        if (!request.getClientId().equals(userId) && !userId.equals(request.getAssignedProviderId())) {
+            throw new UnauthorizedException("You can only view your own archived requests");
+        }
+        return convertToResponse(request);
+    }
+
+    @Transactional
     public ServiceRequestResponse assignProvider(Long requestId, Long providerId, Long clientId) {
         ServiceRequest serviceRequest = serviceRequestRepository.findById(requestId)
                 .orElseThrow(() -> new ResourceNotFoundException("Service request not found"));
@@ -116,21 +164,25 @@ public class RequestService {
             throw new IllegalStateException("Request must be in OPEN status to assign a provider");
         }
 
+        ServiceRequest.Status previousStatus = serviceRequest.getStatus();
         serviceRequest.setAssignedProvider(provider);
         serviceRequest.setStatus(ServiceRequest.Status.ASSIGNED);
 
         ServiceRequest updatedRequest = serviceRequestRepository.save(serviceRequest);
+        requestEventService.providerAssigned(updatedRequest, clientId);
+        requestEventService.requestStatusChanged(updatedRequest, previousStatus, clientId);
 
         // Send notification to the provider
-        String message = String.format("You have been assigned to the service request: %s by %s %s",
-                serviceRequest.getTitle(), client.getFirstName(), client.getLastName());
-        notificationService.createNotification(provider, message);
+        notificationService.createNotification(provider, Notification.Type.REQUEST_ASSIGNED, serviceRequest.getId(),
+                NotificationService.params("requestTitle", serviceRequest.getTitle(),
+                        "clientName", client.getFirstName() + " " + client.getLastName()));
 
         return convertToResponse(updatedRequest);
     }
 
+    @Transactional
     public ServiceRequestResponse updateBudget(Long requestId, Double budget, Long clientId) {
-        ServiceRequest serviceRequest = serviceRequestRepository.findById(requestId)
+        ServiceRequest serviceRequest = serviceRequestRepository.findDetailedById(requestId)
                 .orElseThrow(() -> new ResourceNotFoundException("Service request not found"));
 
         User client = userRepository.findById(clientId)
@@ -154,20 +206,24 @@ public class RequestService {
             throw new IllegalStateException("Cannot update budget for a request in " + serviceRequest.getStatus() + " status");
         }
 
+        Double previousBudget = serviceRequest.getBudget();
         serviceRequest.setBudget(budget);
         ServiceRequest updatedRequest = serviceRequestRepository.save(serviceRequest);
+        requestEventService.budgetChanged(updatedRequest, previousBudget, clientId);
 
         // Send notification to the assigned provider, if any
         if (serviceRequest.getAssignedProvider() != null) {
-            String message = String.format("The budget for the service request: %s has been updated to $%.2f by %s %s",
-                    serviceRequest.getTitle(), budget, client.getFirstName(), client.getLastName());
-            notificationService.createNotification(serviceRequest.getAssignedProvider(), message);
+            notificationService.createNotification(serviceRequest.getAssignedProvider(), Notification.Type.BUDGET_UPDATED,
+                    serviceRequest.getId(), NotificationService.params("requestTitle", serviceRequest.getTitle(),
+                            "budget", String.format("%.2f", budget),
+                            "clientName", client.getFirstName() + " " + client.getLastName()));
         }
 
         return convertToResponse(updatedRequest);
     }
 
 
+    @Transactional
     public ServiceRequestResponse updateRequestStatus(Long requestId, String status, Long userId) {
         ServiceRequest serviceRequest = serviceRequestRepository.findById(requestId)
                 .orElseThrow(() -> new ResourceNotFoundException("Service request not found"));
@@ -214,6 +270,7 @@ public class RequestService {
         }
 
         // Set status
+        ServiceRequest.Status previousStatus = serviceRequest.getStatus();
         try {
             serviceRequest.setStatus(ServiceRequest.Status.valueOf(normalizedStatus));
         } catch (IllegalArgumentException e) {
@@ -221,10 +278,12 @@ public class RequestService {
         }
 
         ServiceRequest updatedRequest = serviceRequestRepository.save(serviceRequest);
+        requestEventService.requestStatusChanged(updatedRequest, previousStatus, userId);
 
         return convertToResponse(updatedRequest);
     }
 
+    @Transactional
     public void deleteRequest(Long requestId, Long userId) {
         ServiceRequest serviceRequest = serviceRequestRepository.findById(requestId)
                 .orElseThrow(() -> new ResourceNotFoundException("Service request not found"));
@@ -236,10 +295,14 @@ public class RequestService {
             if (!serviceRequest.getClient().getId().equals(userId)) {
                 throw new UnauthorizedException("Client does not own this request");
             }
+            ServiceRequest.Status previousStatus = serviceRequest.getStatus();
             serviceRequest.setStatus(ServiceRequest.Status.DELETED);
             serviceRequestRepository.save(serviceRequest);
+            requestEventService.requestStatusChanged(serviceRequest, previousStatus, userId);
         } else if (user.getRole().equals(User.Role.ADMIN)) {
-            serviceRequestRepository.delete(serviceRequest);
+            requestEventService.requestRemoved(serviceRequest, userId);
+            // Moves the request's payments and pitches out with it instead of orphaning them
+            requestArchiveService.archiveNow(requestId);
         } else {
             throw new UnauthorizedException("Not authorized to delete this request");
         }
@@ -251,8 +314,9 @@ public class RequestService {
      * Provider starts work on assigned request
      * Status: ASSIGNED -> IN_PROGRESS
      */
+    @Transactional
     public ServiceRequestResponse startWork(Long requestId, Long providerId) {
-        ServiceRequest serviceRequest = serviceRequestRepository.findById(requestId)
+        ServiceRequest serviceRequest = serviceRequestRepository.findDetailedById(requestId)
                 .orElseThrow(() -> new ResourceNotFoundException("Service request not found"));
 
         User provider = userRepository.findById(providerId)
@@ -272,12 +336,13 @@ public class RequestService {
         // Update status
         serviceRequest.setStatus(ServiceRequest.Status.IN_PROGRESS);
         ServiceRequest updatedRequest = serviceRequestRepository.save(serviceRequest);
+        requestEventService.requestStatusChanged(updatedRequest, ServiceRequest.Status.ASSIGNED, providerId);
 
         // Notify client
         User client = serviceRequest.getClient();
-        String message = String.format("Provider %s %s has started working on your request: %s",
-                provider.getFirstName(), provider.getLastName(), serviceRequest.getTitle());
-        notificationService.createNotification(client, message);
+        notificationService.createNotification(client, Notification.Type.WORK_STARTED, serviceRequest.getId(),
+                NotificationService.params("providerName", provider.getFirstName() + " " + provider.getLastName(),
+                        "requestTitle", serviceRequest.getTitle()));
 
         webSocketEventService.broadcastRequestChange("IN_PROGRESS");
         logger.info("Request {} is now IN_PROGRESS", requestId);
@@ -290,8 +355,9 @@ public class RequestService {
      * Status: IN_PROGRESS -> PENDING_APPROVAL
      * Payment: ESCROWED -> PENDING_RELEASE
      */
+    @Transactional
     public ServiceRequestResponse markComplete(Long requestId, Long providerId) {
-        ServiceRequest serviceRequest = serviceRequestRepository.findById(requestId)
+        ServiceRequest serviceRequest = serviceRequestRepository.findDetailedById(requestId)
                 .orElseThrow(() -> new ResourceNotFoundException("Service request not found"));
 
         User provider = userRepository.findById(providerId)
@@ -311,9 +377,10 @@ public class RequestService {
         // Update request status
         serviceRequest.setStatus(ServiceRequest.Status.PENDING_APPROVAL);
         ServiceRequest updatedRequest = serviceRequestRepository.save(serviceRequest);
+        requestEventService.requestStatusChanged(updatedRequest, ServiceRequest.Status.IN_PROGRESS, providerId);
 
         // Update payment status to PENDING_RELEASE
-        com.example.eventura.entity.Payment payment = paymentRepository.findTopByRequestOrderByCreatedAtDesc(serviceRequest)
+        com.example.eventura.entity.Payment payment = paymentRepository.findLatestForRequest(serviceRequest)
                 .orElseThrow(() -> new ResourceNotFoundException("No payment found for this request"));
 
         if (payment.getPaymentStatus() != com.example.eventura.entity.Payment.PaymentStatus.ESCROWED) {
@@ -322,12 +389,17 @@ public class RequestService {
 
         payment.setPaymentStatus(com.example.eventura.entity.Payment.PaymentStatus.PENDING_RELEASE);
         paymentRepository.save(payment);
+        requestEventService.paymentStatusChanged(payment,
+                com.example.eventura.entity.Payment.PaymentStatus.ESCROWED, providerId);
+        totalCountCache.statusChanged(com.example.eventura.entity.Payment.class,
+                com.example.eventura.entity.Payment.PaymentStatus.ESCROWED,
+                com.example.eventura.entity.Payment.PaymentStatus.PENDING_RELEASE);
 
         // Notify client
         User client = serviceRequest.getClient();
-        String message = String.format("Provider %s %s has completed work on request: %s. Please review and approve payment.",
-                provider.getFirstName(), provider.getLastName(), serviceRequest.getTitle());
-        notificationService.createNotification(client, message);
+        notificationService.createNotification(client, Notification.Type.WORK_COMPLETED, serviceRequest.getId(),
+                NotificationService.params("providerName", provider.getFirstName() + " " + provider.getLastName(),
+                        "requestTitle", serviceRequest.getTitle()));
 
         webSocketEventService.broadcastRequestChange("PENDING_APPROVAL");
         logger.info("Request {} is now PENDING_APPROVAL, payment PENDING_RELEASE", requestId);
@@ -340,6 +412,7 @@ public class RequestService {
      * Status: PENDING_APPROVAL -> COMPLETED
      * Payment: PENDING_RELEASE -> RELEASED
      */
+    @Transactional
     public ServiceRequestResponse approveWork(Long requestId, Long clientId) {
         ServiceRequest serviceRequest = serviceRequestRepository.findById(requestId)
                 .orElseThrow(() -> new ResourceNotFoundException("Service request not found"));
@@ -358,7 +431,7 @@ public class RequestService {
         }
 
         // Find payment
-        com.example.eventura.entity.Payment payment = paymentRepository.findTopByRequestOrderByCreatedAtDesc(serviceRequest)
+        com.example.eventura.entity.Payment payment = paymentRepository.findLatestForRequest(serviceRequest)
                 .orElseThrow(() -> new ResourceNotFoundException("No payment found for this request"));
 
         // Release payment (this also updates request status to COMPLETED)
@@ -374,6 +447,42 @@ public class RequestService {
         return convertToResponse(completedRequest);
     }
 
+    private ServiceRequestResponse convertToResponse(ServiceRequestRepository.RequestListItem request) {
+        ServiceRequestResponse response = new ServiceRequestResponse();
+        response.setId(request.getId());
+        response.setClientId(request.getClientId());
+        response.setTitle(request.getTitle());
+        response.setEventName(request.getEventName());
+        response.setEventDate(request.getEventDate());
+        response.setLocation(request.getLocation());
+        response.setServiceType(request.getServiceType());
+        response.setDescription(request.getDescription());
+        response.setBudget(request.getBudget());
+        response.setAssignedPrice(request.getAssignedPrice());
+        response.setStatus(request.getStatus().name());
+        response.setCreatedAt(request.getCreatedAt());
+        response.setAssignedProviderId(request.getAssignedProviderId());
+        return response;
+    }
+
+    private ServiceRequestResponse convertToResponse(ArchivedServiceRequest archivedRequest) {
+        ServiceRequestResponse response = new ServiceRequestResponse();
+        response.setId(archivedRequest.getId());
+        response.setClientId(archivedRequest.getClientId());
+        response.setTitle(archivedRequest.getTitle());
+        response.setEventName(archivedRequest.getEventName());
+        response.setEventDate(archivedRequest.getEventDate());
+        response.setLocation(archivedRequest.getLocation());
+        response.setServiceType(archivedRequest.getServiceType());
+        response.setDescription(archivedRequest.getDescription());
+        response.setBudget(archivedRequest.getBudget());
+        response.setAssignedPrice(archivedRequest.getAssignedPrice());
+        response.setStatus(archivedRequest.getStatus().name());
+        response.setCreatedAt(archivedRequest.getCreatedAt());
+        response.setAssignedProviderId(archivedRequest.getAssignedProviderId());
+        return response;
+    }
+
     private ServiceRequestResponse convertToResponse(ServiceRequest serviceRequest) {
         ServiceRequestResponse response = new ServiceRequestResponse();
         response.setId(serviceRequest.getId());
@@ -0,0 +1,216 @@
+package com.example.eventura.service;
+
+import com.example.eventura.dto.response.RequestSummaryResponse;
+import com.example.eventura.entity.Payment;
+import com.example.eventura.entity.RequestEvent;
+import com.example.eventura.entity.RequestSummary;
+import com.example.eventura.entity.ServiceRequest;
+import com.example.eventura.entity.User;
+import com.example.eventura.exception.ResourceNotFoundException;
+import com.example.eventura.exception.UnauthorizedException;
+import com.example.eventura.repository.PitchRepository;
+import com.example.eventura.repository.RequestSummaryRepository;
+import com.example.eventura.repository.ServiceRequestRepository;
+import com.example.eventura.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Maintains {@link RequestSummary} rows from request events, in the transaction that produced
+ * them, and serves the client and provider request screens from that table. The assigned
+ * provider's name is the one exception: it changes without a request event, so it is looked up
+ * when a page is served, one query per page.
+ */
+@Service
+@RequiredArgsConstructor
+public class RequestSummaryService {
+
+    private final RequestSummaryRepository requestSummaryRepository;
+    private final ServiceRequestRepository serviceRequestRepository;
+    private final PitchRepository pitchRepository;
+    private final UserRepository userRepository;
+
+    /**
+     * Applies a transaction's events, in order. Called by RequestEventService before commit.
+     */
+    @Transactional
+    public void apply(List<RequestEvent> events) {
+        List<Long> requestIds = events.stream().map(RequestEvent::getRequestId).distinct().toList();
+        Map<Long, RequestSummary> summaries = requestSummaryRepository.findAllForUpdate(requestIds).stream()
+                .collect(Collectors.toMap(RequestSummary::getRequestId, Function.identity()));
+        List<RequestSummary> removed = new ArrayList<>();
+
+        for (RequestEvent event : events) {
+            RequestSummary summary = summaries.get(event.getRequestId());
+            if (event.getType() == RequestEvent.Type.REQUEST_CREATED) {
+                summaries.put(event.getRequestId(), create(event));
+                continue;
+            }
+            if (summary == null) {
+                // Requests that predate the read model are backfilled by the V9 migration
+                continue;
+            }
+            if (event.getType() == RequestEvent.Type.REQUEST_REMOVED) {
+                summaries.remove(event.getRequestId());
+                removed.add(summary);
+                continue;
+            }
+            apply(summary, event);
+        }
+
+        requestSummaryRepository.saveAll(summaries.values());
+        requestSummaryRepository.deleteAll(removed);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<RequestSummaryResponse> getClientSummaries(Long clientId, Pageable pageable) {
+        return convertToResponses(requestSummaryRepository.findByClientIdAndStatusNotOrderByCreatedAtDesc(
+                clientId, ServiceRequest.Status.DELETED, pageable), clientId);
+    }
+
+    @Transactional(readOnly = true)
+    public Page<RequestSummaryResponse> getProviderSummaries(Long providerId, Pageable pageable) {
+        return convertToResponses(requestSummaryRepository.findByAssignedProviderIdOrderByCreatedAtDesc(
+                providerId, pageable), providerId);
+    }
+
+    @Transactional(readOnly = true)
+    public RequestSummaryResponse getSummary(Long requestId, Long userId) {
+        return convertToResponse(findForParticipant(requestId, userId), userId);
+    }
+
+    // Resets the caller's unread activity counter for the request
+    @Transactional
+    public RequestSummaryResponse markSeen(Long requestId, Long userId) {
+        RequestSummary summary = findForParticipant(requestId, userId);
+        if (summary.getClientId().equals(userId)) {
+            summary.setClientUnread(0);
+        } else {
+            summary.setProviderUnread(0);
+        }
+        return convertToResponse(requestSummaryRepository.save(summary), userId);
+    }
+
+    private Page<RequestSummaryResponse> convertToResponses(Page<RequestSummary> summaries, Long viewerId) {
+        List<Long> providerIds = summaries.stream()
+                .map(RequestSummary::getAssignedProviderId)
+                .filter(Objects::nonNull)
+                .distinct()
+                .toList();
+        Map<Long, String> names = providerIds.isEmpty() ? Map.of() : userRepository.findAllById(providerIds).stream()
+                .collect(Collectors.toMap(User::getId, RequestSummaryService::displayName));
+        return summaries.map(summary -> convertToResponse(summary, viewerId, names.get(summary.getAssignedProviderId())));
+    }
+
+    private RequestSummaryResponse convertToResponse(RequestSummary summary, Long viewerId) {
+        String providerName = summary.getAssignedProviderId() == null ? null
+                : userRepository.findById(summary.getAssignedProviderId()).map(RequestSummaryService::displayName).orElse(null);
+        return convertToResponse(summary, viewerId, providerName);
+    }
+
+    private static String displayName(User user) {
+        return user.getFirstName() + (user.getLastName() != null ? " " + user.getLastName() : "");
+    }
+
+    private RequestSummary findForParticipant(Long requestId, Long userId) {
+        RequestSummary summary = requestSummaryRepository.findById(requestId)
+                .orElseThrow(() -> new ResourceNotFoundException("Service request not found"));
+        if (!summary.getClientId().equals(userId) && !userId.equals(summary.getAssignedProviderId())) {
+            throw new UnauthorizedException("Not authorized to view this request");
+        }
+        return summary;
+    }
+
+    private RequestSummary create(RequestEvent event) {
+        // Saved earlier in this transaction, so this is a persistence-context hit
+        ServiceRequest request = serviceRequestRepository.findById(event.getRequestId())
+                .orElseThrow(() -> new ResourceNotFoundException("Service request not found"));
+        RequestSummary summary = new RequestSummary();
+        summary.setRequestId(request.getId());
+        summary.setClientId(request.getClient().getId());
+        summary.setTitle(request.getTitle());
+        summary.setEventName(request.getEventName());
+        summary.setEventDate(request.getEventDate());
+        summary.setServiceType(request.getServiceType());
+        summary.setStatus(request.getStatus());
+        summary.setBudget(request.getBudget());
+        summary.setCreatedAt(request.getCreatedAt());
+        summary.setLastActivityAt(event.getOccurredAt());
+        return summary;
+    }
+
+    private void apply(RequestSummary summary, RequestEvent event) {
+        switch (event.getType()) {
+            case REQUEST_STATUS_CHANGED -> summary.setStatus(ServiceRequest.Status.valueOf(event.getToValue()));
+            case REQUEST_BUDGET_CHANGED -> summary.setBudget(event.getAmount());
+            case PROVIDER_ASSIGNED -> {
+                Long providerId = Long.valueOf(event.getToValue());
+                summary.setAssignedProviderId(providerId);
+                summary.setAssignedPrice(event.getAmount());
+            }
+            case PITCH_SUBMITTED -> {
+                summary.setPitchCount(summary.getPitchCount() + 1);
+                Double bid = event.getAmount();
+                if (bid != null) {
+                    summary.setLowestBid(summary.getLowestBid() == null ? bid : Math.min(summary.getLowestBid(), bid));
+                    summary.setHighestBid(summary.getHighestBid() == null ? bid : Math.max(summary.getHighestBid(), bid));
+                }
+            }
+            case PITCH_DELETED -> {
+                // The removed bid may have been the min or max; recount from the pitches
+                PitchRepository.PitchStats stats = pitchRepository.getPitchStats(summary.getRequestId());
+                summary.setPitchCount((int) stats.getPitchCount());
+                summary.setLowestBid(stats.getLowestBid());
+                summary.setHighestBid(stats.getHighestBid());
+            }
+            case PAYMENT_CREATED, PAYMENT_STATUS_CHANGED ->
+                    summary.setLatestPaymentStatus(Payment.PaymentStatus.valueOf(event.getToValue()));
+            default -> {
+                // Pitch status changes only count as activity
+            }
+        }
+
+        if (!summary.getClientId().equals(event.getActorId())) {
+            summary.setClientUnread(summary.getClientUnread() + 1);
+        }
+        if (summary.getAssignedProviderId() != null && !summary.getAssignedProviderId().equals(event.getActorId())) {
+            summary.setProviderUnread(summary.getProviderUnread() + 1);
+        }
+        summary.setLastActivityAt(event.getOccurredAt());
+    }
+
+    private RequestSummaryResponse convertToResponse(RequestSummary summary, Long viewerId, String providerName) {
+        RequestSummaryResponse response = new RequestSummaryResponse();
+        response.setRequestId(summary.getRequestId());
+        response.setClientId(summary.getClientId());
+        response.setAssignedProviderId(summary.getAssignedProviderId());
+        response.setAcceptedProviderName(providerName);
+        response.setTitle(summary.getTitle());
+        response.setEventName(summary.getEventName());
+        response.setEventDate(summary.getEventDate());
+        response.setServiceType(summary.getServiceType());
+        response.setStatus(summary.getStatus() != null ? summary.getStatus().name() : null);
+        response.setBudget(summary.getBudget());
+        response.setAssignedPrice(summary.getAssignedPrice());
+        response.setPitchCount(summary.getPitchCount());
+        response.setLowestBid(summary.getLowestBid());
+        response.setHighestBid(summary.getHighestBid());
+        response.setLatestPaymentStatus(summary.getLatestPaymentStatus() != null
+                ? summary.getLatestPaymentStatus().name() : null);
+        response.setUnreadActivity(summary.getClientId().equals(viewerId)
+                ? summary.getClientUnread() : summary.getProviderUnread());
+        response.setCreatedAt(summary.getCreatedAt());
+        response.setLastActivityAt(summary.getLastActivityAt());
+        return response;
+    }
+}
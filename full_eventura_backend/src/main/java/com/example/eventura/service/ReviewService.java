@@ -14,6 +14,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -23,6 +24,7 @@ public class ReviewService {
     private final UserRepository userRepository;
     private final ServiceRequestRepository serviceRequestRepository;
 
+    @Transactional
     public ReviewResponse createReview(Long clientId, ReviewRequest request) {
         User client = userRepository.findById(clientId)
                 .orElseThrow(() -> new ResourceNotFoundException("Client not found"));
@@ -54,12 +56,14 @@ public class ReviewService {
         return convertToResponse(savedReview);
     }
 
+    @Transactional(readOnly = true)
     public ReviewResponse getReview(Long reviewId) {
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new ResourceNotFoundException("Review not found"));
         return convertToResponse(review);
     }
 
+    @Transactional(readOnly = true)
     public Page<ReviewResponse> getReviewsForProvider(Long providerId, Pageable pageable) {
         User provider = userRepository.findById(providerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Provider not found"));
@@ -68,6 +72,7 @@ public class ReviewService {
                 .map(this::convertToResponse);
     }
 
+    @Transactional
     public ReviewResponse updateReviewStatus(Long reviewId, String status) {
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new ResourceNotFoundException("Review not found"));
@@ -79,6 +84,18 @@ public class ReviewService {
         return convertToResponse(updatedReview);
     }
 
+    private ReviewResponse convertToResponse(ReviewRepository.ReviewListItem review) {
+        ReviewResponse response = new ReviewResponse();
+        response.setId(review.getId());
+        response.setRequestId(review.getRequestId());
+        response.setClientId(review.getClientId());
+        response.setProviderId(review.getProviderId());
+        response.setRating(review.getRating());
+        response.setComment(review.getComment());
+        response.setCreatedAt(review.getCreatedAt());
+        return response;
+    }
+
     private ReviewResponse convertToResponse(Review review) {
         ReviewResponse response = new ReviewResponse();
         response.setId(review.getId());
@@ -0,0 +1,110 @@
+package com.example.eventura.service;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+/**
+ * Approximate row totals for the admin grids, keyed by entity and status filter, so a page
+ * view doesn't need a COUNT(*). Totals are loaded on first use, nudged by the write paths
+ * after commit and periodically recounted to correct any drift.
+ */
+@Component
+@Slf4j
+public class TotalCountCache {
+
+    private static final String ALL = "*";
+
+    private final Map<String, AtomicLong> totals = new ConcurrentHashMap<>();
+    private final Map<String, LongSupplier> exactCounts = new ConcurrentHashMap<>();
+
+    /**
+     * Cached total for {@code entity} restricted to {@code status} ({@code null} = unfiltered);
+     * {@code exactCount} is used to load it and later to refresh it.
+     */
+    public long total(Class<?> entity, Object status, LongSupplier exactCount) {
+        String key = key(entity, status);
+        exactCounts.putIfAbsent(key, exactCount);
+        return totals.computeIfAbsent(key, k -> new AtomicLong(exactCount.getAsLong())).get();
+    }
+
+    public void created(Class<?> entity, Object status) {
+        adjust(entity, null, 1);
+        if (status != null) {
+            adjust(entity, status, 1);
+        }
+    }
+
+    public void deleted(Class<?> entity, Object status) {
+        adjust(entity, null, -1);
+        if (status != null) {
+            adjust(entity, status, -1);
+        }
+    }
+
+    public void statusChanged(Class<?> entity, Object from, Object to) {
+        if (from == to) {
+            return;
+        }
+        if (from != null) {
+            adjust(entity, from, -1);
+        }
+        if (to != null) {
+            adjust(entity, to, 1);
+        }
+    }
+
+    /**
+     * Drop every total for {@code entity}, e.g. after database-side cascades we can't count.
+     */
+    public void invalidate(Class<?> entity) {
+        String prefix = entity.getSimpleName() + ":";
+        afterCommit(() -> totals.keySet().removeIf(key -> key.startsWith(prefix)));
+    }
+
+    @Scheduled(fixedDelayString = "${app.counts.refresh-interval-ms:300000}")
+    public void refresh() {
+        exactCounts.forEach((key, exactCount) -> {
+            try {
+                totals.computeIfPresent(key, (k, current) -> new AtomicLong(exactCount.getAsLong()));
+            } catch (RuntimeException e) {
+                log.warn("Failed to refresh total {}: {}", key, e.getMessage());
+            }
+        });
+    }
+
+    private void adjust(Class<?> entity, Object status, long delta) {
+        String key = key(entity, status);
+        // Totals that were never loaded are left alone; the first read counts them exactly
+        afterCommit(() -> {
+            AtomicLong total = totals.get(key);
+            if (total != null) {
+                total.addAndGet(delta);
+            }
+        });
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+
+    private static String key(Class<?> entity, Object status) {
+        return entity.getSimpleName() + ":" + (status == null ? ALL : status.toString());
+    }
+}
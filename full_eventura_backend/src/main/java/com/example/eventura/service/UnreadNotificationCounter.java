@@ -0,0 +1,107 @@
+package com.example.eventura.service;
+
+import com.example.eventura.config.ReplicaRoutingDataSource;
+import com.example.eventura.dto.response.UnreadCountResponse;
+import com.example.eventura.entity.User;
+import com.example.eventura.repository.NotificationRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-user unread notification counts for the badge. A count is loaded from the database on
+ * first read, then kept current by the notification write paths after commit, with the new
+ * value pushed to the user. All counts are dropped periodically and reloaded on demand, which
+ * also picks up notifications that aged out of retention.
+ * <p>
+ * The badge itself, read or pushed, is this count plus the user's unread announcements.
+ */
+@Component
+@RequiredArgsConstructor
+public class UnreadNotificationCounter {
+
+    private final Map<Long, AtomicLong> counts = new ConcurrentHashMap<>();
+
+    private final NotificationRepository notificationRepository;
+    private final PartitionMaintenanceService partitionMaintenanceService;
+    private final WebSocketEventService webSocketEventService;
+    private final AnnouncementService announcementService;
+
+    public UnreadCountResponse badge(User user) {
+        return badge(user, get(user));
+    }
+
+    public long get(User user) {
+        AtomicLong count = counts.get(user.getId());
+        if (count == null) {
+            // Loaded outside the map, so a slow count doesn't hold up other users hashed to the same bin
+            AtomicLong loaded = new AtomicLong(load(user.getId()));
+            count = counts.putIfAbsent(user.getId(), loaded);
+            if (count == null) {
+                count = loaded;
+            }
+        }
+        return count.get();
+    }
+
+    // Other users' writes change this count, so a lagging replica's value would stay cached. The
+    // badge endpoint calls this outside any transaction, so the count opens its own on the primary;
+    // a caller already in a transaction has it counted on the connection it holds
+    private long load(Long userId) {
+        return ReplicaRoutingDataSource.readFromPrimary(() ->
+                notificationRepository.countByUserIdAndIsReadAndCreatedAtGreaterThanEqual(
+                        userId, false, partitionMaintenanceService.notificationsRetainedSince()));
+    }
+
+    public void added(Collection<User> users) {
+        afterCommit(() -> users.forEach(user -> adjust(user, 1)));
+    }
+
+    public void read(User user, long count) {
+        if (count > 0) {
+            afterCommit(() -> adjust(user, -count));
+        }
+    }
+
+    public void announcementsRead(User user) {
+        afterCommit(() -> adjust(user, 0));
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.unread-reload-interval-ms:3600000}")
+    public void reset() {
+        counts.clear();
+    }
+
+    // Counts never loaded are left alone (and nobody is watching that badge); the first read loads them
+    private void adjust(User user, long delta) {
+        AtomicLong count = counts.get(user.getId());
+        if (count != null) {
+            long updated = count.updateAndGet(current -> Math.max(0, current + delta));
+            webSocketEventService.sendUnreadCount(user.getEmail(), badge(user, updated));
+        }
+    }
+
+    private UnreadCountResponse badge(User user, long notifications) {
+        return new UnreadCountResponse(notifications + announcementService.getUnread(user).size());
+    }
+
+    private void afterCommit(Runnable action) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            action.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                action.run();
+            }
+        });
+    }
+}
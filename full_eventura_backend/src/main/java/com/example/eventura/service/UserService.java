@@ -3,6 +3,8 @@ package com.example.eventura.service;
 import com.example.eventura.dto.request.LoginRequest;
 import com.example.eventura.dto.request.RegisterRequest;
 import com.example.eventura.dto.request.UpdateUserRequest;
+import com.example.eventura.dto.response.AccountPurgeJobResponse;
+import com.example.eventura.dto.response.CursorPage;
 import com.example.eventura.dto.response.UserResponse;
 import com.example.eventura.entity.User;
 import com.example.eventura.exception.ResourceConflictException;
@@ -12,14 +14,18 @@ import com.example.eventura.repository.UserRepository;
 import com.example.eventura.security.JwtTokenProvider;
 import jakarta.mail.MessagingException;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import lombok.RequiredArgsConstructor;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import com.example.eventura.dto.request.VerifyOtpRequest;
 import java.time.LocalDateTime;
+import java.util.List;
 import java.util.Random;
 
 @Service
@@ -34,57 +40,59 @@ public class UserService {
     private final EmailService emailService;
     private final GoogleAuthService googleAuthService;
     private final WebSocketEventService webSocketEventService;
+    // Mail-sending flows commit their DB work first so SMTP never holds a pooled connection
+    private final TransactionTemplate transactionTemplate;
+    private final TotalCountCache totalCountCache;
+    private final AccountPurgeService accountPurgeService;
 
     public UserResponse register(RegisterRequest request) {
-        User existingUser = userRepository.findByEmail(request.getEmail());
-        
-        if (existingUser != null) {
-            if (existingUser.isEmailVerified()) {
-                throw new ResourceConflictException("Email already exists");
-            }
-            // If user exists but NOT verified, we treat it as a re-register/retry
-            // Update details and resend OTP
-            existingUser.setFirstName(request.getFirstName());
-            existingUser.setLastName(request.getLastName());
-            existingUser.setMobileNumber(request.getMobileNumber());
-            existingUser.setPassword(passwordEncoder.encode(request.getPassword()));
-            existingUser.setRole(request.getRole());
-            // Reset OTP
-            String otp = String.format("%06d", new Random().nextInt(999999));
-            existingUser.setOtp(otp);
-            existingUser.setOtpExpiry(LocalDateTime.now().plusMinutes(5));
-            
-            User savedUser = userRepository.save(existingUser);
-            
-            // Resend OTP email
-            try {
-                emailService.sendOtpEmail(savedUser.getEmail(), "Verify your Account", savedUser.getFirstName(), otp);
-            } catch (MessagingException e) {
-                logger.error("Failed to resend OTP email to {}: {}", savedUser.getEmail(), e.getMessage());
+        String otp = String.format("%06d", new Random().nextInt(999999));
+        boolean[] created = new boolean[1];
+
+        User savedUser = transactionTemplate.execute(status -> {
+            User existingUser = userRepository.findByEmail(request.getEmail());
+
+            if (existingUser != null) {
+                if (existingUser.isEmailVerified()) {
+                    throw new ResourceConflictException("Email already exists");
+                }
+                // If user exists but NOT verified, we treat it as a re-register/retry
+                // Update details and resend OTP
+                existingUser.setFirstName(request.getFirstName());
+                existingUser.setLastName(request.getLastName());
+                existingUser.setMobileNumber(request.getMobileNumber());
+                existingUser.setPassword(passwordEncoder.encode(request.getPassword()));
+                existingUser.setRole(request.getRole());
+                // Reset OTP
+                existingUser.setOtp(otp);
+                existingUser.setOtpExpiry(LocalDateTime.now().plusMinutes(5));
+
+                return userRepository.save(existingUser);
             }
-            
-            return convertToResponse(savedUser);
-        }
 
-        User user = new User();
-        user.setFirstName(request.getFirstName());
-        user.setLastName(request.getLastName());
-        user.setEmail(request.getEmail());
-        user.setMobileNumber(request.getMobileNumber());
-        user.setPassword(passwordEncoder.encode(request.getPassword()));
-        user.setRole(request.getRole());
-        user.setAccountStatus(User.AccountStatus.ACTIVE);
-        user.setAuthProvider(User.AuthProvider.LOCAL);
-        
-        // Generate OTP for immediate verification/login after registration
-        String otp = String.format("%06d", new Random().nextInt(999999));
-        user.setOtp(otp);
-        user.setOtpExpiry(LocalDateTime.now().plusMinutes(5));
+            User user = new User();
+            user.setFirstName(request.getFirstName());
+            user.setLastName(request.getLastName());
+            user.setEmail(request.getEmail());
+            user.setMobileNumber(request.getMobileNumber());
+            user.setPassword(passwordEncoder.encode(request.getPassword()));
+            user.setRole(request.getRole());
+            user.setAccountStatus(User.AccountStatus.ACTIVE);
+            user.setAuthProvider(User.AuthProvider.LOCAL);
 
-        User savedUser = userRepository.save(user);
-        
-        // Broadcast user change for dashboard auto-update
-        webSocketEventService.broadcastUserChange("CREATED");
+            // Generate OTP for immediate verification/login after registration
+            user.setOtp(otp);
+            user.setOtpExpiry(LocalDateTime.now().plusMinutes(5));
+
+            created[0] = true;
+            totalCountCache.created(User.class, null);
+            return userRepository.save(user);
+        });
+
+        if (created[0]) {
+            // Broadcast user change for dashboard auto-update
+            webSocketEventService.broadcastUserChange("CREATED");
+        }
 
         // Send OTP email
         try {
@@ -99,16 +107,20 @@ public class UserService {
     }
 
     public String initiateLogin(LoginRequest request) {
-        User user = userRepository.findByEmail(request.getEmail());
-        if (user == null || !passwordEncoder.matches(request.getPassword(), user.getPassword())) {
-            throw new UnauthorizedException("Invalid email or password");
-        }
-
         // Generate 6-digit OTP
         String otp = String.format("%06d", new Random().nextInt(999999));
-        user.setOtp(otp);
-        user.setOtpExpiry(LocalDateTime.now().plusMinutes(5)); // Valid for 5 minutes
-        userRepository.save(user);
+
+        User user = transactionTemplate.execute(status -> {
+            User existing = userRepository.findByEmail(request.getEmail());
+            if (existing == null || existing.getAccountStatus() == User.AccountStatus.DELETED
+                    || !passwordEncoder.matches(request.getPassword(), existing.getPassword())) {
+                throw new UnauthorizedException("Invalid email or password");
+            }
+
+            existing.setOtp(otp);
+            existing.setOtpExpiry(LocalDateTime.now().plusMinutes(5)); // Valid for 5 minutes
+            return userRepository.save(existing);
+        });
 
         // Send OTP via email
         try {
@@ -121,6 +133,7 @@ public class UserService {
         return "OTP_SENT";
     }
 
+    @Transactional
     public String verifyOtp(VerifyOtpRequest request) {
         User user = userRepository.findByEmail(request.getEmail());
         if (user == null) {
@@ -149,25 +162,28 @@ public class UserService {
     }
 
     public String forgotPassword(String email) {
-        User user = userRepository.findByEmail(email);
-        if (user == null) {
-            // For security, checking if user exists should be silent or generic, 
-            // but for better UX in this project (as per current patterns) we might throw.
-            // Let's follow the pattern of initiateLogin which throws Unauthorized.
-            // However, typical forgot password flow says "If email exists, we sent a code".
-            // Given the existing patterns (e.g. register throws conflict), I will just throw NotFound for now as it's easier for the frontend.
-            throw new ResourceNotFoundException("User not found with this email");
-        }
-
-        if (User.AuthProvider.GOOGLE.equals(user.getAuthProvider())) {
-             throw new IllegalStateException("Google account users cannot reset password. Please login with Google.");
-        }
-
         // Generate 6-digit OTP
         String otp = String.format("%06d", new Random().nextInt(999999));
-        user.setOtp(otp);
-        user.setOtpExpiry(LocalDateTime.now().plusMinutes(5)); // Valid for 5 minutes
-        userRepository.save(user);
+
+        User user = transactionTemplate.execute(status -> {
+            User existing = userRepository.findByEmail(email);
+            if (existing == null) {
+                // For security, checking if user exists should be silent or generic, 
+                // but for better UX in this project (as per current patterns) we might throw.
+                // Let's follow the pattern of initiateLogin which throws Unauthorized.
+                // However, typical forgot password flow says "If email exists, we sent a code".
+                // Given the existing patterns (e.g. register throws conflict), I will just throw NotFound for now as it's easier for the frontend.
+                throw new ResourceNotFoundException("User not found with this email");
+            }
+
+            if (User.AuthProvider.GOOGLE.equals(existing.getAuthProvider())) {
+                 throw new IllegalStateException("Google account users cannot reset password. Please login with Google.");
+            }
+
+            existing.setOtp(otp);
+            existing.setOtpExpiry(LocalDateTime.now().plusMinutes(5)); // Valid for 5 minutes
+            return userRepository.save(existing);
+        });
 
         // Send OTP via email
         try {
@@ -180,6 +196,7 @@ public class UserService {
         return "OTP_SENT";
     }
 
+    @Transactional
     public String resetPassword(String email, String otp, String newPassword) {
         User user = userRepository.findByEmail(email);
         if (user == null) {
@@ -217,6 +234,7 @@ public class UserService {
         return initiateLogin(request);
     }
 
+    @Transactional
     public UserResponse updateAccountStatus(Long userId, String status) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
@@ -252,6 +270,7 @@ public class UserService {
         return convertToResponse(updatedUser);
     }
 
+    @Transactional
     public void deleteOwnAccount(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
@@ -259,22 +278,19 @@ public class UserService {
         user.setAccountStatus(User.AccountStatus.DELETED);
         userRepository.save(user);
     }
-    //only change the status
-//    public void deleteUserAccountByAdmin(Long userId) {
-//        User user = userRepository.findById(userId)
-//                .orElseThrow(() -> new ResourceNotFoundException("User not found"));
-//
-//        user.setAccountStatus(User.AccountStatus.DELETED);
-//        userRepository.save(user);
-//    }
-    public void deleteUserAccountByAdmin(Long userId) {
+    // Marks the account DELETED right away; the rows are removed by AccountPurgeService
+    @Transactional
+    public AccountPurgeJobResponse deleteUserAccountByAdmin(Long userId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
-        // Delete the user completely from the database
-        userRepository.delete(user);
+        user.setAccountStatus(User.AccountStatus.DELETED);
+        userRepository.save(user);
+
+        return accountPurgeService.enqueue(user);
     }
 
+    @Transactional(readOnly = true)
     public UserResponse getUserById(Long userId, Long requestingUserId) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
@@ -291,6 +307,20 @@ public class UserService {
     }
 
     public UserResponse updateUser(Long userId, UpdateUserRequest request) {
+        User updatedUser = transactionTemplate.execute(status -> applyUserUpdate(userId, request));
+
+        // Optionally send email notification for profile update
+        try {
+            emailService.sendProfileUpdateEmail(updatedUser.getEmail(), "Profile Updated",
+                    updatedUser.getFirstName(), updatedUser.getLastName());
+        } catch (MessagingException e) {
+            logger.error("Failed to send profile update email to {}: {}", updatedUser.getEmail(), e.getMessage());
+        }
+
+        return convertToResponse(updatedUser);
+    }
+
+    private User applyUserUpdate(Long userId, UpdateUserRequest request) {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ResourceNotFoundException("User not found"));
 
@@ -322,17 +352,7 @@ public class UserService {
             user.setPassword(passwordEncoder.encode(request.getPassword()));
         }
 
-        User updatedUser = userRepository.save(user);
-
-        // Optionally send email notification for profile update
-        try {
-            emailService.sendProfileUpdateEmail(updatedUser.getEmail(), "Profile Updated",
-                    updatedUser.getFirstName(), updatedUser.getLastName());
-        } catch (MessagingException e) {
-            logger.error("Failed to send profile update email to {}: {}", updatedUser.getEmail(), e.getMessage());
-        }
-
-        return convertToResponse(updatedUser);
+        return userRepository.save(user);
     }
 
     public String initiateChangePassword(String email) {
@@ -342,14 +362,25 @@ public class UserService {
         return forgotPassword(email);
     }
 
+    @Transactional
     public String changePassword(String email, String otp, String newPassword) {
         // Re-use resetPassword logic
         return resetPassword(email, otp, newPassword);
     }
 
 
+    @Transactional(readOnly = true)
     public Page<UserResponse> getAllUsers(Pageable pageable) {
-        return userRepository.findAll(pageable)
+        long total = totalCountCache.total(User.class, null, userRepository::count);
+        List<UserResponse> users = userRepository.findAllBy(pageable)
+                .map(this::convertToResponse)
+                .getContent();
+        return new PageImpl<>(users, pageable, total);
+    }
+
+    @Transactional(readOnly = true)
+    public CursorPage<UserResponse> scrollUsers(String cursor, int size, boolean includeTotal) {
+        return userRepository.scroll(null, UserRepository.UserListItem.class, cursor, size, includeTotal)
                 .map(this::convertToResponse);
     }
 
@@ -406,6 +437,7 @@ public class UserService {
             user.setPassword(passwordEncoder.encode(java.util.UUID.randomUUID().toString()));
             
             userRepository.save(user);
+            totalCountCache.created(User.class, null);
             
             // Broadcast user change for dashboard auto-update
             webSocketEventService.broadcastUserChange("CREATED");
@@ -419,6 +451,18 @@ public class UserService {
         }
     }
 
+    private UserResponse convertToResponse(UserRepository.UserListItem user) {
+        UserResponse response = new UserResponse();
+        response.setId(user.getId());
+        response.setFirstName(user.getFirstName());
+        response.setLastName(user.getLastName());
+        response.setEmail(user.getEmail());
+        response.setMobileNumber(user.getMobileNumber());
+        response.setRole(user.getRole().name());
+        response.setAccountStatus(user.getAccountStatus().name());
+        return response;
+    }
+
     private UserResponse convertToResponse(User user) {
         UserResponse response = new UserResponse();
         response.setId(user.getId());
@@ -9,9 +9,11 @@ import com.example.eventura.repository.ServiceProviderRepository;
 import com.example.eventura.repository.VerificationDocumentRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.domain.Slice;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -19,7 +21,9 @@ public class VerificationDocumentService {
 
     private final VerificationDocumentRepository verificationDocumentRepository;
     private final ServiceProviderRepository serviceProviderRepository;
+    private final TotalCountCache totalCountCache;
 
+    @Transactional
     public VerificationDocumentResponse uploadDocument(Long providerId, VerificationDocumentRequest request) {
         ServiceProvider provider = serviceProviderRepository.findById(providerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Provider not found"));
@@ -31,10 +35,12 @@ public class VerificationDocumentService {
         document.setStatus(VerificationDocument.Status.PENDING);
 
         VerificationDocument savedDocument = verificationDocumentRepository.save(document);
+        totalCountCache.created(VerificationDocument.class, savedDocument.getStatus());
 
         return convertToResponse(savedDocument);
     }
 
+    @Transactional(readOnly = true)
     public Page<VerificationDocumentResponse> getDocuments(Long providerId, Pageable pageable) {
         ServiceProvider provider = serviceProviderRepository.findById(providerId)
                 .orElseThrow(() -> new ResourceNotFoundException("Provider not found"));
@@ -43,26 +49,27 @@ public class VerificationDocumentService {
                 .map(this::convertToResponse);
     }
 
+    @Transactional(readOnly = true)
     public Page<VerificationDocumentResponse> getAllDocuments(String status, Pageable pageable) {
-        Page<VerificationDocument> documents;
+        Slice<VerificationDocument> documents;
+        long total;
 
         if (status != null && !status.isEmpty()) {
+            VerificationDocument.Status documentStatus;
             try {
-                VerificationDocument.Status documentStatus = VerificationDocument.Status.valueOf(status.toUpperCase());
-
-                // Create specification for status filtering
-                Specification<VerificationDocument> spec = (root, query, cb) ->
-                        cb.equal(root.get("status"), documentStatus);
-
-                documents = verificationDocumentRepository.findAll(spec, pageable);
+                documentStatus = VerificationDocument.Status.valueOf(status.toUpperCase());
             } catch (IllegalArgumentException e) {
                 throw new ResourceNotFoundException("Invalid status: " + status);
             }
+            documents = verificationDocumentRepository.findSliceByStatus(documentStatus, pageable);
+            total = totalCountCache.total(VerificationDocument.class, documentStatus,
+                    () -> verificationDocumentRepository.countByStatus(documentStatus));
         } else {
-            documents = verificationDocumentRepository.findAll(pageable);
+            documents = verificationDocumentRepository.findAllBy(pageable);
+            total = totalCountCache.total(VerificationDocument.class, null, verificationDocumentRepository::count);
         }
 
-        return documents.map(this::convertToResponse);
+        return new PageImpl<>(documents.map(this::convertToResponse).getContent(), pageable, total);
     }
 
     private VerificationDocumentResponse convertToResponse(VerificationDocument document) {
@@ -1,13 +1,18 @@
 package com.example.eventura.service;
 
 import com.example.eventura.dto.response.NotificationResponse;
+import com.example.eventura.dto.response.UnreadCountResponse;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * Service for broadcasting real-time events via WebSocket.
@@ -21,17 +26,73 @@ import java.util.Map;
 public class WebSocketEventService {
 
     private final SimpMessagingTemplate messagingTemplate;
+    private final Map<Long, ThreadUpdate> pendingThreadUpdates = new ConcurrentHashMap<>();
+
+    private record ThreadUpdate(String userEmail, NotificationResponse notification) {
+    }
 
     /**
      * Send notification to a specific user
      */
     public void sendNotificationToUser(String userEmail, NotificationResponse notification) {
         log.debug("Sending notification to user: {}", userEmail);
-        messagingTemplate.convertAndSendToUser(
+        afterCommit(() -> messagingTemplate.convertAndSendToUser(
             userEmail,
             "/queue/notifications",
             notification
-        );
+        ));
+    }
+
+    /**
+     * Send one notification to each user (keyed by email), all from a single after-commit callback
+     */
+    public void sendNotificationsToUsers(Map<String, NotificationResponse> notifications) {
+        if (notifications.isEmpty()) {
+            return;
+        }
+        log.debug("Sending notifications to {} users", notifications.size());
+        afterCommit(() -> notifications.forEach((userEmail, notification) ->
+                messagingTemplate.convertAndSendToUser(userEmail, "/queue/notifications", notification)));
+    }
+
+    /**
+     * Queue an update of a collapsed notification thread. Only the latest state of each thread
+     * is sent, once per {@code app.notifications.thread-push-interval-ms}.
+     */
+    public void sendThreadUpdateToUser(String userEmail, NotificationResponse notification) {
+        afterCommit(() -> pendingThreadUpdates.put(notification.getId(), new ThreadUpdate(userEmail, notification)));
+    }
+
+    @Scheduled(fixedDelayString = "${app.notifications.thread-push-interval-ms:2000}")
+    public void flushThreadUpdates() {
+        for (Long notificationId : pendingThreadUpdates.keySet()) {
+            ThreadUpdate update = pendingThreadUpdates.remove(notificationId);
+            if (update != null) {
+                messagingTemplate.convertAndSendToUser(update.userEmail(), "/queue/notifications", update.notification());
+            }
+        }
+    }
+
+    /**
+     * Push the current unread badge count to a user. Sent immediately: callers already run after commit.
+     */
+    public void sendUnreadCount(String userEmail, UnreadCountResponse unreadCount) {
+        messagingTemplate.convertAndSendToUser(userEmail, "/queue/unread-count", unreadCount);
+    }
+
+    /**
+     * Tell every connected client on /topic/announcements that an announcement was published.
+     * The signal carries no content: announcements can target a role, status or service type,
+     * so clients read them through the filtered unread feed.
+     */
+    public void broadcastAnnouncementSignal() {
+        log.debug("Broadcasting announcement signal");
+        Map<String, Object> signal = new HashMap<>();
+        signal.put("entityType", "ANNOUNCEMENT");
+        signal.put("action", "CREATED");
+        signal.put("timestamp", System.currentTimeMillis());
+
+        afterCommit(() -> messagingTemplate.convertAndSend("/topic/announcements", signal));
     }
 
     /**
@@ -45,7 +106,24 @@ public class WebSocketEventService {
         update.put("action", action);
         update.put("timestamp", System.currentTimeMillis());
         
-        messagingTemplate.convertAndSend("/topic/dashboard-updates", update);
+        afterCommit(() -> messagingTemplate.convertAndSend("/topic/dashboard-updates", update));
+    }
+
+    /**
+     * Defer a push until the surrounding transaction commits so clients never see
+     * rolled-back state and broker I/O doesn't run while a connection is checked out.
+     */
+    private void afterCommit(Runnable send) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            send.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                send.run();
+            }
+        });
     }
 
     /**
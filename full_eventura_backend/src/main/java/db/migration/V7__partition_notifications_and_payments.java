@@ -0,0 +1,72 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Monthly RANGE COLUMNS(created_at) partitioning for notifications and payments.
+ * <p>
+ * MySQL requires the partition column in every unique key and does not allow foreign keys on
+ * partitioned tables, so the primary key becomes (id, created_at) and the foreign keys are
+ * dropped. Their names differ between databases created by V1_1 and by the old ddl-auto=update,
+ * hence a Java migration. Rows older than the current month land in p_start; later months are
+ * split off p_future by PartitionMaintenanceService.
+ */
+public class V7__partition_notifications_and_payments extends BaseJavaMigration {
+
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    @Override
+    public void migrate(Context context) throws SQLException {
+        Connection connection = context.getConnection();
+        for (String table : List.of("notifications", "payments")) {
+            partition(connection, table);
+        }
+    }
+
+    private void partition(Connection connection, String table) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            for (String foreignKey : foreignKeys(connection, table)) {
+                statement.execute("ALTER TABLE " + table + " DROP FOREIGN KEY " + foreignKey);
+            }
+            statement.execute("UPDATE " + table + " SET created_at = COALESCE(updated_at, NOW(6)) WHERE created_at IS NULL");
+            statement.execute("ALTER TABLE " + table + " MODIFY created_at DATETIME(6) NOT NULL,"
+                    + " DROP PRIMARY KEY, ADD PRIMARY KEY (id, created_at)");
+
+            LocalDate currentMonth = LocalDate.now().withDayOfMonth(1);
+            StringBuilder partitions = new StringBuilder("PARTITION p_start VALUES LESS THAN ('" + currentMonth + "')");
+            for (int i = 0; i < 2; i++) {
+                LocalDate month = currentMonth.plusMonths(i);
+                partitions.append(", PARTITION ").append(month.format(PARTITION_NAME))
+                        .append(" VALUES LESS THAN ('").append(month.plusMonths(1)).append("')");
+            }
+            partitions.append(", PARTITION p_future VALUES LESS THAN (MAXVALUE)");
+            statement.execute("ALTER TABLE " + table + " PARTITION BY RANGE COLUMNS (created_at) (" + partitions + ")");
+        }
+    }
+
+    private List<String> foreignKeys(Connection connection, String table) throws SQLException {
+        List<String> names = new ArrayList<>();
+        try (PreparedStatement statement = connection.prepareStatement(
+                "SELECT CONSTRAINT_NAME FROM information_schema.TABLE_CONSTRAINTS"
+                        + " WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = ? AND CONSTRAINT_TYPE = 'FOREIGN KEY'")) {
+            statement.setString(1, table);
+            try (ResultSet rs = statement.executeQuery()) {
+                while (rs.next()) {
+                    names.add(rs.getString(1));
+                }
+            }
+        }
+        return names;
+    }
+}
@@ -0,0 +1,20 @@
+-- Field-level change log for all audited entities (EntityAuditListener -> AuditLogService).
+-- Append-only and written by JDBC batches, so ids come from AUTO_INCREMENT rather than a pooled generator.
+CREATE TABLE entity_audit_logs (
+    id          BIGINT       NOT NULL AUTO_INCREMENT,
+    entity_type VARCHAR(100) NOT NULL,
+    entity_id   VARCHAR(64)  NOT NULL,
+    operation   ENUM('INSERT', 'UPDATE', 'DELETE') NOT NULL,
+    actor       VARCHAR(255),
+    changed_at  DATETIME(6)  NOT NULL,
+    changes     JSON         NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_entity_audit_logs_entity ON entity_audit_logs (entity_type, entity_id, id);
+
+ALTER TABLE account_purge_jobs MODIFY current_step
+    ENUM('NOTIFICATIONS', 'DIRECT_CONNECTIONS', 'REVIEWS', 'REPORTS', 'PAYMENTS', 'PITCHES', 'REQUEST_EVENTS',
+         'REQUEST_SUMMARIES', 'PROVIDER_SUMMARIES', 'ASSIGNED_REQUESTS', 'SERVICE_REQUESTS', 'ARCHIVED_PAYMENTS',
+         'ARCHIVED_PITCHES', 'ARCHIVED_REQUESTS', 'AUDIT_LOGS', 'PORTFOLIO_AUDIT_LOGS', 'PORTFOLIOS',
+         'VERIFICATION_DOCUMENTS', 'SERVICE_PROVIDER', 'USER') NOT NULL;
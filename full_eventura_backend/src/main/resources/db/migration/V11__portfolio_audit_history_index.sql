@@ -0,0 +1,4 @@
+-- PortfolioAuditLogRepository.findHistory: newest-first history of one portfolio. The existing
+-- single-column portfolio_id index is left alone: its name depends on whether the database was
+-- created by V1 or by ddl-auto, and the composite index makes it redundant but harmless.
+CREATE INDEX idx_portfolio_audit_logs_portfolio_changed ON portfolio_audit_logs (portfolio_id, changed_at);
@@ -0,0 +1,10 @@
+-- Notifications store a type code, the referenced entity id and a small parameter map; the text
+-- is rendered on read (NotificationTemplates). Existing rows keep their message and a NULL type.
+ALTER TABLE notifications
+    ADD COLUMN type       VARCHAR(40) NULL AFTER user_id,
+    ADD COLUMN subject_id BIGINT      NULL AFTER type,
+    ADD COLUMN params     JSON        NULL AFTER subject_id,
+    MODIFY message VARCHAR(255) NULL;
+
+-- Type-filtered listings (NotificationService.getNotificationsByUser / scroll with type)
+CREATE INDEX idx_notifications_user_type_created ON notifications (user_id, type, created_at);
@@ -0,0 +1,8 @@
+-- Repeated events of a collapsible type (Notification.Type#isCollapsible) update the open unread row
+-- with the same collapse key instead of adding one row per event.
+ALTER TABLE notifications
+    ADD COLUMN collapse_key VARCHAR(64) NULL AFTER params,
+    ADD COLUMN event_count  INT         NOT NULL DEFAULT 1 AFTER collapse_key;
+
+-- NotificationRepository.findOpenThread
+CREATE INDEX idx_notifications_user_collapse ON notifications (user_id, collapse_key, is_read);
@@ -0,0 +1,30 @@
+-- Admin announcements are stored once and matched to users at read time (AnnouncementService).
+CREATE TABLE announcements (
+    id                  BIGINT       NOT NULL,
+    message             VARCHAR(1000) NOT NULL,
+    target_role         VARCHAR(20),
+    target_status       VARCHAR(20),
+    target_service_type VARCHAR(255),
+    created_by          BIGINT       NOT NULL,
+    created_at          DATETIME(6)  NOT NULL,
+    expires_at          DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_announcements_expires ON announcements (expires_at);
+
+CREATE TABLE announcements_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO announcements_seq (next_val) VALUES (1);
+
+-- Announcements created up to read_until count as read for the user
+CREATE TABLE announcement_watermarks (
+    user_id    BIGINT      NOT NULL,
+    read_until DATETIME(6) NOT NULL,
+    PRIMARY KEY (user_id)
+) ENGINE = InnoDB;
+
+ALTER TABLE account_purge_jobs MODIFY current_step
+    ENUM('NOTIFICATIONS', 'ANNOUNCEMENT_WATERMARKS', 'DIRECT_CONNECTIONS', 'REVIEWS', 'REPORTS', 'PAYMENTS',
+         'PITCHES', 'REQUEST_EVENTS', 'REQUEST_SUMMARIES', 'PROVIDER_SUMMARIES', 'ASSIGNED_REQUESTS',
+         'SERVICE_REQUESTS', 'ARCHIVED_PAYMENTS', 'ARCHIVED_PITCHES', 'ARCHIVED_REQUESTS', 'AUDIT_LOGS',
+         'PORTFOLIO_AUDIT_LOGS', 'PORTFOLIOS', 'VERIFICATION_DOCUMENTS', 'SERVICE_PROVIDER', 'USER') NOT NULL;
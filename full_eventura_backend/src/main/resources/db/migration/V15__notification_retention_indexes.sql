@@ -0,0 +1,4 @@
+-- NotificationCompactor: expired rows per (type, read state), oldest first
+CREATE INDEX idx_notifications_type_read_created ON notifications (type, is_read, created_at);
+-- Admin notification listing: keyset scroll on (created_at, id) when no user filter is given
+CREATE INDEX idx_notifications_created_id ON notifications (created_at, id);
@@ -0,0 +1,25 @@
+-- Per-user, per-type delivery channels and rate caps (NotificationPreferenceService). Types without
+-- a row use the defaults: in-app, push and email on, digest off, no cap.
+CREATE TABLE notification_preferences (
+    id           BIGINT      NOT NULL,
+    user_id      BIGINT      NOT NULL,
+    type         VARCHAR(40) NOT NULL,
+    in_app       BIT         NOT NULL,
+    push         BIT         NOT NULL,
+    email        BIT         NOT NULL,
+    digest       BIT         NOT NULL,
+    max_per_hour INT,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_notification_preferences_user_type UNIQUE (user_id, type),
+    CONSTRAINT fk_notification_preferences_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+) ENGINE = InnoDB;
+
+CREATE TABLE notification_preferences_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO notification_preferences_seq (next_val) VALUES (1);
+
+ALTER TABLE account_purge_jobs MODIFY current_step
+    ENUM('NOTIFICATIONS', 'NOTIFICATION_PREFERENCES', 'ANNOUNCEMENT_WATERMARKS', 'DIRECT_CONNECTIONS', 'REVIEWS',
+         'REPORTS', 'PAYMENTS', 'PITCHES', 'REQUEST_EVENTS', 'REQUEST_SUMMARIES', 'PROVIDER_SUMMARIES',
+         'ASSIGNED_REQUESTS', 'SERVICE_REQUESTS', 'ARCHIVED_PAYMENTS', 'ARCHIVED_PITCHES', 'ARCHIVED_REQUESTS',
+         'AUDIT_LOGS', 'PORTFOLIO_AUDIT_LOGS', 'PORTFOLIOS', 'VERIFICATION_DOCUMENTS', 'SERVICE_PROVIDER',
+         'USER') NOT NULL;
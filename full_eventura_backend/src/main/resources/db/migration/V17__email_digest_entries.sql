@@ -0,0 +1,23 @@
+-- Durable queue behind EmailDigestService: one row per recipient and entity, bumped by repeat
+-- events, deleted once the recipient's summary email has been sent.
+CREATE TABLE email_digest_entries (
+    id           BIGINT      NOT NULL AUTO_INCREMENT,
+    recipient_id BIGINT      NOT NULL,
+    type         VARCHAR(40) NOT NULL,
+    subject_id   BIGINT      NOT NULL,
+    params       JSON,
+    event_count  INT         NOT NULL,
+    first_at     DATETIME(6) NOT NULL,
+    last_at      DATETIME(6) NOT NULL,
+    PRIMARY KEY (id),
+    CONSTRAINT uk_email_digest_entries_entity UNIQUE (recipient_id, type, subject_id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_email_digest_entries_recipient_first ON email_digest_entries (recipient_id, first_at);
+
+ALTER TABLE account_purge_jobs MODIFY current_step
+    ENUM('NOTIFICATIONS', 'NOTIFICATION_PREFERENCES', 'EMAIL_DIGEST_ENTRIES', 'ANNOUNCEMENT_WATERMARKS',
+         'DIRECT_CONNECTIONS', 'REVIEWS', 'REPORTS', 'PAYMENTS', 'PITCHES', 'REQUEST_EVENTS', 'REQUEST_SUMMARIES',
+         'PROVIDER_SUMMARIES', 'ASSIGNED_REQUESTS', 'SERVICE_REQUESTS', 'ARCHIVED_PAYMENTS', 'ARCHIVED_PITCHES',
+         'ARCHIVED_REQUESTS', 'AUDIT_LOGS', 'PORTFOLIO_AUDIT_LOGS', 'PORTFOLIOS', 'VERIFICATION_DOCUMENTS',
+         'SERVICE_PROVIDER', 'USER') NOT NULL;
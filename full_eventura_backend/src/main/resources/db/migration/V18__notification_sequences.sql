@@ -0,0 +1,22 @@
+-- Per-user notification sequence numbers for replay after a WebSocket reconnect. Rows written
+-- before this migration have no seq and are never replayed.
+ALTER TABLE notifications
+    ADD COLUMN seq BIGINT NULL AFTER event_count;
+
+-- NotificationRepository range query behind NotificationService.replaySince
+CREATE INDEX idx_notifications_user_seq ON notifications (user_id, seq);
+
+-- Last seq handed out per user (NotificationSequences)
+CREATE TABLE notification_sequences (
+    user_id  BIGINT NOT NULL,
+    last_seq BIGINT NOT NULL,
+    PRIMARY KEY (user_id),
+    CONSTRAINT fk_notification_sequences_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+) ENGINE = InnoDB;
+
+ALTER TABLE account_purge_jobs MODIFY current_step
+    ENUM('NOTIFICATIONS', 'NOTIFICATION_SEQUENCES', 'NOTIFICATION_PREFERENCES', 'EMAIL_DIGEST_ENTRIES',
+         'ANNOUNCEMENT_WATERMARKS', 'DIRECT_CONNECTIONS', 'REVIEWS', 'REPORTS', 'PAYMENTS', 'PITCHES',
+         'REQUEST_EVENTS', 'REQUEST_SUMMARIES', 'PROVIDER_SUMMARIES', 'ASSIGNED_REQUESTS', 'SERVICE_REQUESTS',
+         'ARCHIVED_PAYMENTS', 'ARCHIVED_PITCHES', 'ARCHIVED_REQUESTS', 'AUDIT_LOGS', 'PORTFOLIO_AUDIT_LOGS',
+         'PORTFOLIOS', 'VERIFICATION_DOCUMENTS', 'SERVICE_PROVIDER', 'USER') NOT NULL;
@@ -0,0 +1,29 @@
+-- One row per open collapse key (NotificationRepository.lockThread). Upserting it takes an exclusive
+-- lock on the key, so concurrent events for the same thread are applied one after another and at
+-- most one open thread exists per key; idle rows are dropped by NotificationCompactor.
+CREATE TABLE notification_threads (
+    user_id       BIGINT      NOT NULL,
+    collapse_key  VARCHAR(64) NOT NULL,
+    last_event_at DATETIME(6) NOT NULL,
+    PRIMARY KEY (user_id, collapse_key),
+    CONSTRAINT fk_notification_threads_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_notification_threads_last_event ON notification_threads (last_event_at);
+
+-- Collapsed threads sort by their latest event; created_at stays fixed as partition and keyset key
+ALTER TABLE notifications
+    ADD COLUMN last_event_at DATETIME(6) NULL AFTER seq;
+UPDATE notifications SET last_event_at = created_at;
+ALTER TABLE notifications
+    MODIFY last_event_at DATETIME(6) NOT NULL;
+
+-- NotificationRepository.findUnreadByLatestEvent
+CREATE INDEX idx_notifications_user_unread_last_event ON notifications (user_id, is_read, last_event_at);
+
+ALTER TABLE account_purge_jobs MODIFY current_step
+    ENUM('NOTIFICATIONS', 'NOTIFICATION_THREADS', 'NOTIFICATION_SEQUENCES', 'NOTIFICATION_PREFERENCES',
+         'EMAIL_DIGEST_ENTRIES', 'ANNOUNCEMENT_WATERMARKS', 'DIRECT_CONNECTIONS', 'REVIEWS', 'REPORTS', 'PAYMENTS',
+         'PITCHES', 'REQUEST_EVENTS', 'REQUEST_SUMMARIES', 'PROVIDER_SUMMARIES', 'ASSIGNED_REQUESTS',
+         'SERVICE_REQUESTS', 'ARCHIVED_PAYMENTS', 'ARCHIVED_PITCHES', 'ARCHIVED_REQUESTS', 'AUDIT_LOGS',
+         'PORTFOLIO_AUDIT_LOGS', 'PORTFOLIOS', 'VERIFICATION_DOCUMENTS', 'SERVICE_PROVIDER', 'USER') NOT NULL;
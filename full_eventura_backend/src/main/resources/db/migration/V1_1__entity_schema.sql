@@ -0,0 +1,190 @@
+-- Replaces the original V1 model, which predates the JPA entities and was never used by the
+-- application, with the schema the entities map to (Spring's naming strategy lower-cases table
+-- names). Databases that were created by hibernate.ddl-auto=update are baselined at this version.
+DROP TABLE IF EXISTS Portfolios, Reviews, Payments, Notifications, Pitches, Service_Requests,
+    Service_Providers, Users;
+
+CREATE TABLE users (
+    id                BIGINT       NOT NULL,
+    first_name        VARCHAR(255) NOT NULL,
+    last_name         VARCHAR(255),
+    email             VARCHAR(255) NOT NULL,
+    mobile_number     VARCHAR(255),
+    password          VARCHAR(255) NOT NULL,
+    role              ENUM('CLIENT', 'PROVIDER', 'ADMIN') NOT NULL,
+    account_status    ENUM('ACTIVE', 'SUSPENDED', 'DELETED') NOT NULL,
+    auth_provider     ENUM('LOCAL', 'GOOGLE'),
+    is_email_verified BIT          NOT NULL,
+    otp               VARCHAR(255),
+    otp_expiry        DATETIME(6),
+    created_at        DATETIME(6),
+    updated_at        DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_users_email UNIQUE (email)
+) ENGINE = InnoDB;
+
+CREATE TABLE service_providers (
+    id                         BIGINT       NOT NULL,
+    user_id                    BIGINT       NOT NULL,
+    company_name               VARCHAR(255),
+    service_type               VARCHAR(255),
+    address                    VARCHAR(255),
+    mobile_number              VARCHAR(255),
+    is_verified                BIT,
+    stripe_account_id          VARCHAR(255),
+    stripe_onboarding_complete BIT,
+    created_at                 DATETIME(6),
+    updated_at                 DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT uk_service_providers_user UNIQUE (user_id),
+    CONSTRAINT fk_service_providers_user FOREIGN KEY (user_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE service_requests (
+    id                   BIGINT       NOT NULL,
+    client_id            BIGINT       NOT NULL,
+    assigned_provider_id BIGINT,
+    title                VARCHAR(255) NOT NULL,
+    event_name           VARCHAR(255),
+    event_date           DATE,
+    location             VARCHAR(255),
+    service_type         VARCHAR(255),
+    description          VARCHAR(255),
+    budget               DOUBLE,
+    assigned_price       DOUBLE,
+    status               ENUM('OPEN', 'ASSIGNED', 'IN_PROGRESS', 'PENDING_APPROVAL', 'COMPLETED', 'CANCELLED', 'DELETED'),
+    created_at           DATETIME(6),
+    updated_at           DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_service_requests_client FOREIGN KEY (client_id) REFERENCES users (id),
+    CONSTRAINT fk_service_requests_provider FOREIGN KEY (assigned_provider_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE pitches (
+    id             BIGINT NOT NULL,
+    request_id     BIGINT NOT NULL,
+    provider_id    BIGINT NOT NULL,
+    pitch_details  VARCHAR(255),
+    proposed_price DOUBLE,
+    status         ENUM('PENDING', 'ACCEPTED', 'PAID', 'REJECTED', 'WITHDRAWN'),
+    created_at     DATETIME(6),
+    updated_at     DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_pitches_request FOREIGN KEY (request_id) REFERENCES service_requests (id),
+    CONSTRAINT fk_pitches_provider FOREIGN KEY (provider_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE payments (
+    id                       BIGINT NOT NULL,
+    request_id               BIGINT NOT NULL,
+    client_id                BIGINT NOT NULL,
+    provider_id              BIGINT NOT NULL,
+    amount                   DOUBLE NOT NULL,
+    payment_status           ENUM('AWAITING_PAYMENT', 'ESCROWED', 'PENDING_RELEASE', 'RELEASED', 'REFUNDED', 'DISPUTED', 'EXPIRED') NOT NULL,
+    transaction_id           VARCHAR(255),
+    stripe_payment_intent_id VARCHAR(255),
+    stripe_transfer_id       VARCHAR(255),
+    platform_fee             DOUBLE,
+    provider_amount          DOUBLE,
+    dispute_reason           VARCHAR(255),
+    created_at               DATETIME(6),
+    updated_at               DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_payments_request FOREIGN KEY (request_id) REFERENCES service_requests (id) ON DELETE CASCADE,
+    CONSTRAINT fk_payments_client FOREIGN KEY (client_id) REFERENCES users (id),
+    CONSTRAINT fk_payments_provider FOREIGN KEY (provider_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE notifications (
+    id         BIGINT       NOT NULL,
+    user_id    BIGINT       NOT NULL,
+    message    VARCHAR(255) NOT NULL,
+    is_read    BIT,
+    created_at DATETIME(6),
+    updated_at DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_notifications_user FOREIGN KEY (user_id) REFERENCES users (id) ON DELETE CASCADE
+) ENGINE = InnoDB;
+
+CREATE TABLE portfolios (
+    id           BIGINT       NOT NULL,
+    provider_id  BIGINT       NOT NULL,
+    title        VARCHAR(255) NOT NULL,
+    description  TEXT,
+    image_url    VARCHAR(255),
+    project_date VARCHAR(255),
+    event_type   VARCHAR(255),
+    status       ENUM('ACTIVE', 'INACTIVE', 'PENDING_REVIEW') NOT NULL,
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_portfolios_provider FOREIGN KEY (provider_id) REFERENCES service_providers (id) ON DELETE CASCADE
+) ENGINE = InnoDB;
+
+CREATE TABLE portfolio_audit_logs (
+    id           BIGINT       NOT NULL,
+    portfolio_id BIGINT       NOT NULL,
+    provider_id  BIGINT       NOT NULL,
+    field_name   VARCHAR(255) NOT NULL,
+    old_value    TEXT,
+    new_value    TEXT,
+    changed_at   DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_portfolio_audit_logs_portfolio FOREIGN KEY (portfolio_id) REFERENCES portfolios (id) ON DELETE CASCADE,
+    CONSTRAINT fk_portfolio_audit_logs_provider FOREIGN KEY (provider_id) REFERENCES service_providers (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE reports (
+    id            BIGINT        NOT NULL,
+    reported_by   BIGINT        NOT NULL,
+    reported_user BIGINT        NOT NULL,
+    request_id    BIGINT,
+    reason        VARCHAR(1000) NOT NULL,
+    status        ENUM('PENDING', 'RESOLVED', 'DISMISSED'),
+    created_at    DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_reports_reported_by FOREIGN KEY (reported_by) REFERENCES users (id),
+    CONSTRAINT fk_reports_reported_user FOREIGN KEY (reported_user) REFERENCES users (id),
+    CONSTRAINT fk_reports_request FOREIGN KEY (request_id) REFERENCES service_requests (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE reviews (
+    id          BIGINT NOT NULL,
+    request_id  BIGINT NOT NULL,
+    client_id   BIGINT NOT NULL,
+    provider_id BIGINT NOT NULL,
+    rating      INT,
+    comment     VARCHAR(255),
+    created_at  DATETIME(6),
+    updated_at  DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_reviews_request FOREIGN KEY (request_id) REFERENCES service_requests (id),
+    CONSTRAINT fk_reviews_client FOREIGN KEY (client_id) REFERENCES users (id),
+    CONSTRAINT fk_reviews_provider FOREIGN KEY (provider_id) REFERENCES users (id)
+) ENGINE = InnoDB;
+
+CREATE TABLE direct_connections (
+    id            BIGINT NOT NULL,
+    client_id     BIGINT NOT NULL,
+    provider_id   BIGINT NOT NULL,
+    event_details VARCHAR(255),
+    proposed_date VARCHAR(255),
+    status        ENUM('PENDING', 'ACCEPTED', 'REJECTED') NOT NULL,
+    created_at    DATETIME(6),
+    updated_at    DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_direct_connections_client FOREIGN KEY (client_id) REFERENCES users (id) ON DELETE CASCADE,
+    CONSTRAINT fk_direct_connections_provider FOREIGN KEY (provider_id) REFERENCES users (id) ON DELETE CASCADE
+) ENGINE = InnoDB;
+
+CREATE TABLE verification_documents (
+    id            BIGINT       NOT NULL,
+    provider_id   BIGINT       NOT NULL,
+    document_type VARCHAR(255) NOT NULL,
+    document_url  VARCHAR(255) NOT NULL,
+    status        ENUM('PENDING', 'APPROVED', 'REJECTED') NOT NULL,
+    created_at    DATETIME(6),
+    updated_at    DATETIME(6),
+    PRIMARY KEY (id),
+    CONSTRAINT fk_verification_documents_provider FOREIGN KEY (provider_id) REFERENCES service_providers (id)
+) ENGINE = InnoDB;
@@ -0,0 +1,6 @@
+-- EmailDigestService: the instance sending a recipient's digest claims their rows first, and
+-- failed sends are counted so a recipient whose digests keep failing is eventually dropped.
+ALTER TABLE email_digest_entries
+    ADD COLUMN attempts   INT         NOT NULL DEFAULT 0 AFTER last_at,
+    ADD COLUMN claimed_by VARCHAR(36) NULL AFTER attempts,
+    ADD COLUMN claimed_at DATETIME(6) NULL AFTER claimed_by;
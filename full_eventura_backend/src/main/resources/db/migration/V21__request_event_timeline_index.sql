@@ -0,0 +1,3 @@
+-- RequestEventRepository.findByRequestIdOrderByOccurredAtAscIdAsc: one request's timeline in
+-- order. The (request_id, id) primary key finds the rows but leaves occurred_at to a filesort.
+CREATE INDEX idx_request_events_request_occurred ON request_events (request_id, occurred_at, id);
@@ -0,0 +1,11 @@
+-- Keyset scrolling seeks on (created_at, id): a NULL created_at can't be encoded in a cursor and
+-- never matches the seek predicate, so rows without one were unreachable past the first page.
+-- Backfilled like notifications and payments in V7, which are keyset-listed too.
+UPDATE users SET created_at = COALESCE(updated_at, NOW(6)) WHERE created_at IS NULL;
+ALTER TABLE users MODIFY created_at DATETIME(6) NOT NULL;
+
+UPDATE service_providers SET created_at = COALESCE(updated_at, NOW(6)) WHERE created_at IS NULL;
+ALTER TABLE service_providers MODIFY created_at DATETIME(6) NOT NULL;
+
+UPDATE service_requests SET created_at = COALESCE(updated_at, NOW(6)) WHERE created_at IS NULL;
+ALTER TABLE service_requests MODIFY created_at DATETIME(6) NOT NULL;
@@ -0,0 +1,3 @@
+-- The assigned provider's name is joined when summaries are served (RequestSummaryService):
+-- a copy here went stale whenever the provider renamed.
+ALTER TABLE request_summaries DROP COLUMN accepted_provider_name;
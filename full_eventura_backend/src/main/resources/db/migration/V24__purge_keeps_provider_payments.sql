@@ -0,0 +1,11 @@
+-- Purging a provider keeps the payments other clients made to them, with the provider cleared
+ALTER TABLE payments MODIFY provider_id BIGINT NULL;
+ALTER TABLE payments_archive MODIFY provider_id BIGINT NULL;
+
+ALTER TABLE account_purge_jobs MODIFY current_step
+    ENUM('NOTIFICATIONS', 'NOTIFICATION_THREADS', 'NOTIFICATION_SEQUENCES', 'NOTIFICATION_PREFERENCES',
+         'EMAIL_DIGEST_ENTRIES', 'ANNOUNCEMENT_WATERMARKS', 'DIRECT_CONNECTIONS', 'REVIEWS', 'REPORTS', 'PAYMENTS',
+         'PROVIDER_PAYMENTS', 'PITCHES', 'REQUEST_EVENTS', 'REQUEST_SUMMARIES', 'PROVIDER_SUMMARIES',
+         'ASSIGNED_REQUESTS', 'SERVICE_REQUESTS', 'ARCHIVED_PAYMENTS', 'ARCHIVED_PROVIDER_PAYMENTS',
+         'ARCHIVED_PITCHES', 'ARCHIVED_REQUESTS', 'AUDIT_LOGS', 'PORTFOLIO_AUDIT_LOGS', 'PORTFOLIOS',
+         'VERIFICATION_DOCUMENTS', 'SERVICE_PROVIDER', 'USER') NOT NULL;
@@ -0,0 +1,6 @@
+-- AccountPurgeService: an instance claims a job before running it; version guards the job row
+-- against a batch still in flight on an instance whose claim went stale.
+ALTER TABLE account_purge_jobs
+    ADD COLUMN claimed_by VARCHAR(36) NULL AFTER last_error,
+    ADD COLUMN claimed_at DATETIME(6) NULL AFTER claimed_by,
+    ADD COLUMN version    BIGINT      NOT NULL DEFAULT 0 AFTER claimed_at;
@@ -0,0 +1,50 @@
+-- Table-backed id generators for the pooled @SequenceGenerator mappings (allocationSize = 50).
+-- Each generator starts past the current max id, so rows created under IDENTITY never collide.
+
+CREATE TABLE IF NOT EXISTS users_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO users_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM users_seq);
+UPDATE users_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 51 FROM users));
+
+CREATE TABLE IF NOT EXISTS service_providers_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO service_providers_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM service_providers_seq);
+UPDATE service_providers_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 51 FROM service_providers));
+
+CREATE TABLE IF NOT EXISTS service_requests_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO service_requests_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM service_requests_seq);
+UPDATE service_requests_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 51 FROM service_requests));
+
+CREATE TABLE IF NOT EXISTS pitches_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO pitches_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM pitches_seq);
+UPDATE pitches_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 51 FROM pitches));
+
+CREATE TABLE IF NOT EXISTS payments_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO payments_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM payments_seq);
+UPDATE payments_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 51 FROM payments));
+
+CREATE TABLE IF NOT EXISTS notifications_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO notifications_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM notifications_seq);
+UPDATE notifications_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 51 FROM notifications));
+
+CREATE TABLE IF NOT EXISTS portfolios_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO portfolios_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM portfolios_seq);
+UPDATE portfolios_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 51 FROM portfolios));
+
+CREATE TABLE IF NOT EXISTS portfolio_audit_logs_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO portfolio_audit_logs_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM portfolio_audit_logs_seq);
+UPDATE portfolio_audit_logs_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 51 FROM portfolio_audit_logs));
+
+CREATE TABLE IF NOT EXISTS reports_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO reports_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM reports_seq);
+UPDATE reports_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 51 FROM reports));
+
+CREATE TABLE IF NOT EXISTS reviews_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO reviews_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM reviews_seq);
+UPDATE reviews_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 51 FROM reviews));
+
+CREATE TABLE IF NOT EXISTS direct_connections_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO direct_connections_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM direct_connections_seq);
+UPDATE direct_connections_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 51 FROM direct_connections));
+
+CREATE TABLE IF NOT EXISTS verification_documents_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO verification_documents_seq (next_val) SELECT 1 FROM DUAL WHERE NOT EXISTS (SELECT 1 FROM verification_documents_seq);
+UPDATE verification_documents_seq SET next_val = GREATEST(next_val, (SELECT COALESCE(MAX(id), 0) + 51 FROM verification_documents));
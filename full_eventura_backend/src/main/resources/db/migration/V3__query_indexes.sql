@@ -0,0 +1,48 @@
+-- Composite indexes for the repository finders and the paged (ORDER BY created_at) listings.
+-- Each index leads with the equality filter and ends with the sort column so MySQL can
+-- read rows in order instead of filesorting the whole match set.
+
+-- ServiceRequestRepository: findByServiceType, findByClient, status filters on admin listings
+CREATE INDEX idx_service_requests_type_created ON service_requests (service_type, created_at);
+CREATE INDEX idx_service_requests_status_created ON service_requests (status, created_at);
+CREATE INDEX idx_service_requests_client_created ON service_requests (client_id, created_at);
+CREATE INDEX idx_service_requests_provider_status ON service_requests (assigned_provider_id, status);
+
+-- PitchRepository: findByRequest, findByRequestAndStatus, findByProvider
+CREATE INDEX idx_pitches_request_status ON pitches (request_id, status);
+CREATE INDEX idx_pitches_provider_created ON pitches (provider_id, created_at);
+
+-- PaymentRepository: findTopByRequestOrderByCreatedAtDesc, findByPaymentStatus, sum*ByStatus,
+-- findByClient, findByProvider
+CREATE INDEX idx_payments_request_created ON payments (request_id, created_at);
+CREATE INDEX idx_payments_status_created ON payments (payment_status, created_at);
+CREATE INDEX idx_payments_client_created ON payments (client_id, created_at);
+CREATE INDEX idx_payments_provider_created ON payments (provider_id, created_at);
+
+-- NotificationRepository: findByUserAndIsRead, findByUser
+CREATE INDEX idx_notifications_user_read_created ON notifications (user_id, is_read, created_at);
+CREATE INDEX idx_notifications_user_created ON notifications (user_id, created_at);
+
+-- PortfolioRepository: findByProvider, status specification
+CREATE INDEX idx_portfolios_provider_created ON portfolios (provider_id, created_at);
+CREATE INDEX idx_portfolios_status_created ON portfolios (status, created_at);
+
+-- ReportRepository: findByStatus, findByReportedUser, findByReportedBy
+CREATE INDEX idx_reports_status_created ON reports (status, created_at);
+CREATE INDEX idx_reports_reported_user_created ON reports (reported_user, created_at);
+CREATE INDEX idx_reports_reported_by_created ON reports (reported_by, created_at);
+
+-- ReviewRepository: findByProvider, findByRequest
+CREATE INDEX idx_reviews_provider_created ON reviews (provider_id, created_at);
+CREATE INDEX idx_reviews_request_created ON reviews (request_id, created_at);
+
+-- DirectConnectionRepository: findByClient, findByProvider
+CREATE INDEX idx_direct_connections_client_created ON direct_connections (client_id, created_at);
+CREATE INDEX idx_direct_connections_provider_created ON direct_connections (provider_id, created_at);
+
+-- VerificationDocumentRepository: findByProvider, status specification
+CREATE INDEX idx_verification_documents_provider_created ON verification_documents (provider_id, created_at);
+CREATE INDEX idx_verification_documents_status_created ON verification_documents (status, created_at);
+
+-- UserRepository: findByMobileNumber
+CREATE INDEX idx_users_mobile_number ON users (mobile_number);
@@ -0,0 +1,6 @@
+-- Keyset scrolling seeks on (created_at, id) newest-first. Filtered variants are already served
+-- by the (filter, created_at) indexes from V3, since InnoDB secondary indexes carry the primary key.
+CREATE INDEX idx_service_requests_created_id ON service_requests (created_at, id);
+CREATE INDEX idx_payments_created_id ON payments (created_at, id);
+CREATE INDEX idx_users_created_id ON users (created_at, id);
+CREATE INDEX idx_service_providers_created_id ON service_providers (created_at, id);
@@ -0,0 +1,23 @@
+-- Background hard-delete of accounts (AccountPurgeService). user_id is deliberately not a
+-- foreign key: the job row outlives the user it purged.
+CREATE TABLE account_purge_jobs (
+    id           BIGINT        NOT NULL,
+    user_id      BIGINT        NOT NULL,
+    status       ENUM('PENDING', 'RUNNING', 'COMPLETED', 'FAILED') NOT NULL,
+    current_step ENUM('NOTIFICATIONS', 'DIRECT_CONNECTIONS', 'REVIEWS', 'REPORTS', 'PAYMENTS', 'PITCHES',
+                      'ASSIGNED_REQUESTS', 'SERVICE_REQUESTS', 'PORTFOLIO_AUDIT_LOGS', 'PORTFOLIOS',
+                      'VERIFICATION_DOCUMENTS', 'SERVICE_PROVIDER', 'USER') NOT NULL,
+    rows_deleted BIGINT        NOT NULL,
+    attempts     INT           NOT NULL,
+    last_error   VARCHAR(1000),
+    created_at   DATETIME(6),
+    updated_at   DATETIME(6),
+    completed_at DATETIME(6),
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_account_purge_jobs_status ON account_purge_jobs (status, id);
+CREATE INDEX idx_account_purge_jobs_user ON account_purge_jobs (user_id, id);
+
+CREATE TABLE account_purge_jobs_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO account_purge_jobs_seq (next_val) VALUES (1);
@@ -0,0 +1,72 @@
+-- Cold storage for finished requests (RequestArchiveService). Same columns as the hot tables
+-- plus archived_at; no foreign keys, since the referenced users may be purged later.
+
+CREATE TABLE service_requests_archive (
+    id                   BIGINT       NOT NULL,
+    client_id            BIGINT       NOT NULL,
+    assigned_provider_id BIGINT,
+    title                VARCHAR(255) NOT NULL,
+    event_name           VARCHAR(255),
+    event_date           DATE,
+    location             VARCHAR(255),
+    service_type         VARCHAR(255),
+    description          VARCHAR(255),
+    budget               DOUBLE,
+    assigned_price       DOUBLE,
+    status               ENUM('OPEN', 'ASSIGNED', 'IN_PROGRESS', 'PENDING_APPROVAL', 'COMPLETED', 'CANCELLED', 'DELETED'),
+    created_at           DATETIME(6),
+    updated_at           DATETIME(6),
+    archived_at          DATETIME(6)  NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_service_requests_archive_client_created ON service_requests_archive (client_id, created_at);
+CREATE INDEX idx_service_requests_archive_provider ON service_requests_archive (assigned_provider_id);
+
+CREATE TABLE pitches_archive (
+    id             BIGINT      NOT NULL,
+    request_id     BIGINT      NOT NULL,
+    provider_id    BIGINT      NOT NULL,
+    pitch_details  VARCHAR(255),
+    proposed_price DOUBLE,
+    status         ENUM('PENDING', 'ACCEPTED', 'PAID', 'REJECTED', 'WITHDRAWN'),
+    created_at     DATETIME(6),
+    updated_at     DATETIME(6),
+    archived_at    DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_pitches_archive_request ON pitches_archive (request_id);
+CREATE INDEX idx_pitches_archive_provider ON pitches_archive (provider_id);
+
+CREATE TABLE payments_archive (
+    id                       BIGINT      NOT NULL,
+    request_id               BIGINT      NOT NULL,
+    client_id                BIGINT      NOT NULL,
+    provider_id              BIGINT      NOT NULL,
+    amount                   DOUBLE      NOT NULL,
+    payment_status           ENUM('AWAITING_PAYMENT', 'ESCROWED', 'PENDING_RELEASE', 'RELEASED', 'REFUNDED', 'DISPUTED', 'EXPIRED') NOT NULL,
+    transaction_id           VARCHAR(255),
+    stripe_payment_intent_id VARCHAR(255),
+    stripe_transfer_id       VARCHAR(255),
+    platform_fee             DOUBLE,
+    provider_amount          DOUBLE,
+    dispute_reason           VARCHAR(255),
+    created_at               DATETIME(6),
+    updated_at               DATETIME(6),
+    archived_at              DATETIME(6) NOT NULL,
+    PRIMARY KEY (id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_payments_archive_request ON payments_archive (request_id);
+CREATE INDEX idx_payments_archive_client ON payments_archive (client_id);
+CREATE INDEX idx_payments_archive_provider ON payments_archive (provider_id);
+
+-- Candidate scan for the archival job: terminal status, oldest first
+CREATE INDEX idx_service_requests_status_updated ON service_requests (status, updated_at);
+
+-- Account purges also clear the archived copies
+ALTER TABLE account_purge_jobs MODIFY current_step
+    ENUM('NOTIFICATIONS', 'DIRECT_CONNECTIONS', 'REVIEWS', 'REPORTS', 'PAYMENTS', 'PITCHES',
+         'ASSIGNED_REQUESTS', 'SERVICE_REQUESTS', 'ARCHIVED_PAYMENTS', 'ARCHIVED_PITCHES', 'ARCHIVED_REQUESTS',
+         'PORTFOLIO_AUDIT_LOGS', 'PORTFOLIOS', 'VERIFICATION_DOCUMENTS', 'SERVICE_PROVIDER', 'USER') NOT NULL;
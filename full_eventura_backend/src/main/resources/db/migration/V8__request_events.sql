@@ -0,0 +1,53 @@
+-- Append-only request lifecycle events (RequestEventService). The primary key leads with
+-- request_id so one request's history is clustered together and a timeline is a single range read.
+CREATE TABLE request_events (
+    id          BIGINT       NOT NULL,
+    request_id  BIGINT       NOT NULL,
+    event_type  ENUM('REQUEST_CREATED', 'REQUEST_STATUS_CHANGED', 'REQUEST_BUDGET_CHANGED', 'PROVIDER_ASSIGNED',
+                     'REQUEST_REMOVED', 'PITCH_SUBMITTED', 'PITCH_STATUS_CHANGED', 'PITCH_DELETED',
+                     'PAYMENT_CREATED', 'PAYMENT_STATUS_CHANGED') NOT NULL,
+    subject_id  BIGINT,
+    actor_id    BIGINT,
+    from_value  VARCHAR(255),
+    to_value    VARCHAR(255),
+    amount      DOUBLE,
+    occurred_at DATETIME(6)  NOT NULL,
+    PRIMARY KEY (request_id, id)
+) ENGINE = InnoDB;
+
+-- Projection replay order
+CREATE INDEX idx_request_events_occurred_id ON request_events (occurred_at, id);
+
+CREATE TABLE request_events_seq (next_val BIGINT) ENGINE = InnoDB;
+INSERT INTO request_events_seq (next_val) VALUES (1);
+
+CREATE TABLE request_daily_stats (
+    day                DATE   NOT NULL,
+    requests_created   BIGINT NOT NULL,
+    requests_completed BIGINT NOT NULL,
+    requests_cancelled BIGINT NOT NULL,
+    pitches_submitted  BIGINT NOT NULL,
+    pitches_accepted   BIGINT NOT NULL,
+    payments_escrowed  BIGINT NOT NULL,
+    amount_escrowed    DOUBLE NOT NULL,
+    payments_released  BIGINT NOT NULL,
+    amount_released    DOUBLE NOT NULL,
+    payments_refunded  BIGINT NOT NULL,
+    PRIMARY KEY (day)
+) ENGINE = InnoDB;
+
+CREATE TABLE projection_checkpoints (
+    name             VARCHAR(100) NOT NULL,
+    last_occurred_at DATETIME(6)  NOT NULL,
+    last_event_id    BIGINT       NOT NULL,
+    PRIMARY KEY (name)
+) ENGINE = InnoDB;
+
+INSERT INTO projection_checkpoints (name, last_occurred_at, last_event_id)
+VALUES ('request-daily-stats', '1970-01-01 00:00:00', 0);
+
+-- Account purges remove the history of the user's own requests
+ALTER TABLE account_purge_jobs MODIFY current_step
+    ENUM('NOTIFICATIONS', 'DIRECT_CONNECTIONS', 'REVIEWS', 'REPORTS', 'PAYMENTS', 'PITCHES', 'REQUEST_EVENTS',
+         'ASSIGNED_REQUESTS', 'SERVICE_REQUESTS', 'ARCHIVED_PAYMENTS', 'ARCHIVED_PITCHES', 'ARCHIVED_REQUESTS',
+         'PORTFOLIO_AUDIT_LOGS', 'PORTFOLIOS', 'VERIFICATION_DOCUMENTS', 'SERVICE_PROVIDER', 'USER') NOT NULL;
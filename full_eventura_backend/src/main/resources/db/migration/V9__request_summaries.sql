@@ -0,0 +1,47 @@
+-- Read model for the client/provider request screens (RequestSummaryService), one row per hot request.
+CREATE TABLE request_summaries (
+    request_id             BIGINT       NOT NULL,
+    client_id              BIGINT       NOT NULL,
+    assigned_provider_id   BIGINT,
+    accepted_provider_name VARCHAR(255),
+    title                  VARCHAR(255) NOT NULL,
+    event_name             VARCHAR(255),
+    event_date             DATE,
+    service_type           VARCHAR(255),
+    status                 ENUM('OPEN', 'ASSIGNED', 'IN_PROGRESS', 'PENDING_APPROVAL', 'COMPLETED', 'CANCELLED', 'DELETED'),
+    budget                 DOUBLE,
+    assigned_price         DOUBLE,
+    pitch_count            INT          NOT NULL,
+    lowest_bid             DOUBLE,
+    highest_bid            DOUBLE,
+    latest_payment_status  ENUM('AWAITING_PAYMENT', 'ESCROWED', 'PENDING_RELEASE', 'RELEASED', 'REFUNDED', 'DISPUTED', 'EXPIRED'),
+    client_unread          INT          NOT NULL,
+    provider_unread        INT          NOT NULL,
+    created_at             DATETIME(6),
+    last_activity_at       DATETIME(6),
+    PRIMARY KEY (request_id)
+) ENGINE = InnoDB;
+
+CREATE INDEX idx_request_summaries_client_created ON request_summaries (client_id, created_at);
+CREATE INDEX idx_request_summaries_provider_created ON request_summaries (assigned_provider_id, created_at);
+
+-- Backfill from the current hot tables
+INSERT INTO request_summaries (request_id, client_id, assigned_provider_id, accepted_provider_name, title, event_name,
+                               event_date, service_type, status, budget, assigned_price, pitch_count, lowest_bid,
+                               highest_bid, latest_payment_status, client_unread, provider_unread, created_at,
+                               last_activity_at)
+SELECT r.id, r.client_id, r.assigned_provider_id, TRIM(CONCAT(u.first_name, ' ', COALESCE(u.last_name, ''))),
+       r.title, r.event_name, r.event_date, r.service_type, r.status, r.budget, r.assigned_price,
+       (SELECT COUNT(*) FROM pitches p WHERE p.request_id = r.id),
+       (SELECT MIN(p.proposed_price) FROM pitches p WHERE p.request_id = r.id),
+       (SELECT MAX(p.proposed_price) FROM pitches p WHERE p.request_id = r.id),
+       (SELECT pm.payment_status FROM payments pm WHERE pm.request_id = r.id ORDER BY pm.created_at DESC LIMIT 1),
+       0, 0, r.created_at, r.updated_at
+FROM service_requests r
+LEFT JOIN users u ON u.id = r.assigned_provider_id;
+
+ALTER TABLE account_purge_jobs MODIFY current_step
+    ENUM('NOTIFICATIONS', 'DIRECT_CONNECTIONS', 'REVIEWS', 'REPORTS', 'PAYMENTS', 'PITCHES', 'REQUEST_EVENTS',
+         'REQUEST_SUMMARIES', 'PROVIDER_SUMMARIES', 'ASSIGNED_REQUESTS', 'SERVICE_REQUESTS', 'ARCHIVED_PAYMENTS',
+         'ARCHIVED_PITCHES', 'ARCHIVED_REQUESTS', 'PORTFOLIO_AUDIT_LOGS', 'PORTFOLIOS', 'VERIFICATION_DOCUMENTS',
+         'SERVICE_PROVIDER', 'USER') NOT NULL;
@@ -0,0 +1,51 @@
+package com.example.eventura.config;
+
+import com.example.eventura.entity.Notification;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.context.properties.bind.Binder;
+import org.springframework.boot.context.properties.source.MapConfigurationPropertySource;
+
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationRetentionPropertiesTest {
+
+    @Test
+    void defaultsApplyWithoutOverrides() {
+        NotificationRetentionProperties retention = new NotificationRetentionProperties();
+
+        assertThat(retention.readDays(Notification.Type.PITCH_RECEIVED)).isEqualTo(30);
+        assertThat(retention.unreadDays(Notification.Type.PITCH_RECEIVED)).isEqualTo(90);
+    }
+
+    @Test
+    void typeOverridesReplaceOnlyTheDaysTheySet() {
+        NotificationRetentionProperties retention = bind(Map.of(
+                "app.notifications.retention.read-days", "20",
+                "app.notifications.retention.unread-days", "60",
+                "app.notifications.retention.types.PITCH_NOT_SELECTED.read-days", "7",
+                "app.notifications.retention.types.PITCH_RECEIVED.unread-days", "0"));
+
+        assertThat(retention.readDays(Notification.Type.PITCH_NOT_SELECTED)).isEqualTo(7);
+        assertThat(retention.unreadDays(Notification.Type.PITCH_NOT_SELECTED)).isEqualTo(60);
+        assertThat(retention.readDays(Notification.Type.PITCH_RECEIVED)).isEqualTo(20);
+        assertThat(retention.unreadDays(Notification.Type.PITCH_RECEIVED)).isZero();
+        assertThat(retention.readDays(Notification.Type.WORK_STARTED)).isEqualTo(20);
+    }
+
+    @Test
+    void untypedRowsUseTheDefaults() {
+        NotificationRetentionProperties retention = bind(Map.of(
+                "app.notifications.retention.types.PITCH_NOT_SELECTED.read-days", "7"));
+
+        assertThat(retention.readDays(null)).isEqualTo(30);
+        assertThat(retention.unreadDays(null)).isEqualTo(90);
+    }
+
+    private static NotificationRetentionProperties bind(Map<String, String> properties) {
+        return new Binder(new MapConfigurationPropertySource(properties))
+                .bind("app.notifications.retention", NotificationRetentionProperties.class)
+                .get();
+    }
+}
@@ -0,0 +1,49 @@
+package com.example.eventura.repository;
+
+import com.example.eventura.exception.InvalidInputException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class KeysetCursorTest {
+
+    @Test
+    void decodesWhatItEncodes() {
+        KeysetCursor cursor = new KeysetCursor(LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123_456_000), 42L);
+
+        assertThat(KeysetCursor.decode(cursor.encode())).isEqualTo(cursor);
+    }
+
+    @Test
+    void encodedFormIsUrlSafe() {
+        String token = new KeysetCursor(LocalDateTime.of(2024, 3, 1, 0, 0), Long.MAX_VALUE).encode();
+
+        assertThat(token).doesNotContain("+", "/", "=", "|");
+    }
+
+    @Test
+    void rejectsTokensThatAreNotBase64() {
+        assertThatThrownBy(() -> KeysetCursor.decode("not a cursor!"))
+                .isInstanceOf(InvalidInputException.class)
+                .hasMessage("Invalid cursor");
+    }
+
+    @Test
+    void rejectsTokensWithoutAPosition() {
+        assertThatThrownBy(() -> KeysetCursor.decode(encode("2024-03-01T00:00")))
+                .isInstanceOf(InvalidInputException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(encode("null|17")))
+                .isInstanceOf(InvalidInputException.class);
+        assertThatThrownBy(() -> KeysetCursor.decode(encode("2024-03-01T00:00|abc")))
+                .isInstanceOf(InvalidInputException.class);
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,105 @@
+package com.example.eventura.repository;
+
+import com.example.eventura.dto.response.CursorPage;
+import com.example.eventura.entity.User;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The keyset seek predicate against a real (H2) database, through UserRepository.
+ */
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(properties = {
+        // request_daily_stats has a column named day, a keyword in H2
+        "spring.datasource.url=jdbc:h2:mem:keyset;NON_KEYWORDS=DAY",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+class KeysetJpaRepositoryTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private List<User> users;
+
+    @BeforeEach
+    void setUp() {
+        // Several rows share a created_at, so pages have to break ties on id
+        users = new ArrayList<>();
+        for (int i = 0; i < 7; i++) {
+            users.add(user("user" + i + "@example.com", BASE.plusMinutes(i / 3),
+                    i % 2 == 0 ? User.Role.CLIENT : User.Role.PROVIDER));
+        }
+        users = userRepository.saveAllAndFlush(users);
+    }
+
+    @Test
+    void pagesVisitEveryRowOnceNewestFirst() {
+        List<Long> seen = new ArrayList<>();
+        String cursor = null;
+        CursorPage<User> page;
+        do {
+            page = userRepository.scroll(null, cursor, 2, false);
+            page.getItems().forEach(user -> seen.add(user.getId()));
+            cursor = page.getNextCursor();
+            assertThat(page.isHasNext()).isEqualTo(cursor != null);
+        } while (cursor != null);
+
+        List<Long> expected = users.stream()
+                .sorted(Comparator.comparing(User::getCreatedAt).thenComparing(User::getId).reversed())
+                .map(User::getId)
+                .toList();
+        assertThat(seen).isEqualTo(expected);
+    }
+
+    @Test
+    void lastPageHasNoCursor() {
+        CursorPage<User> page = userRepository.scroll(null, null, users.size(), true);
+
+        assertThat(page.getItems()).hasSize(users.size());
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextCursor()).isNull();
+        assertThat(page.getTotalElements()).isEqualTo(users.size());
+    }
+
+    @Test
+    void filterAppliesOnEveryPage() {
+        Specification<User> clients = (root, query, cb) -> cb.equal(root.get("role"), User.Role.CLIENT);
+
+        CursorPage<User> first = userRepository.scroll(clients, null, 3, true);
+        CursorPage<User> second = userRepository.scroll(clients, first.getNextCursor(), 3, false);
+
+        assertThat(first.getTotalElements()).isEqualTo(4);
+        assertThat(first.getItems()).hasSize(3).allMatch(user -> user.getRole() == User.Role.CLIENT);
+        assertThat(second.getItems()).hasSize(1).allMatch(user -> user.getRole() == User.Role.CLIENT);
+        assertThat(second.isHasNext()).isFalse();
+    }
+
+    private static User user(String email, LocalDateTime createdAt, User.Role role) {
+        User user = new User();
+        user.setFirstName("Test");
+        user.setEmail(email);
+        user.setPassword("secret");
+        user.setRole(role);
+        user.setAccountStatus(User.AccountStatus.ACTIVE);
+        user.setCreatedAt(createdAt);
+        return user;
+    }
+}
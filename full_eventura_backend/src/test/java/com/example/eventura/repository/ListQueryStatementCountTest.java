@@ -0,0 +1,206 @@
+package com.example.eventura.repository;
+
+import com.example.eventura.dto.response.CursorPage;
+import com.example.eventura.entity.Notification;
+import com.example.eventura.entity.ServiceProvider;
+import com.example.eventura.entity.ServiceRequest;
+import com.example.eventura.entity.User;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The request, notification, user and provider list queries run one statement per page (plus
+ * the count where the page asks for one) and never hydrate entities.
+ */
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(properties = {
+        // request_daily_stats has a column named day, a keyword in H2
+        "spring.datasource.url=jdbc:h2:mem:lists;NON_KEYWORDS=DAY",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class ListQueryStatementCountTest {
+
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 1, 1, 0, 0);
+    private static final int ROWS = 5;
+    private static final Pageable NEWEST_FIRST = PageRequest.of(0, 3, Sort.by(Sort.Direction.DESC, "createdAt"));
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private ServiceRequestRepository serviceRequestRepository;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ServiceProviderRepository serviceProviderRepository;
+
+    private Statistics statistics;
+    private User client;
+    private User provider;
+
+    @BeforeEach
+    void setUp() {
+        client = entityManager.persist(user("client@example.com", User.Role.CLIENT));
+        provider = entityManager.persist(user("provider@example.com", User.Role.PROVIDER));
+        for (int i = 0; i < ROWS; i++) {
+            entityManager.persist(request(i, i % 2 == 0 ? provider : null));
+            entityManager.persist(notification(i));
+            ServiceProvider profile = new ServiceProvider();
+            profile.setUser(i == 0 ? provider : entityManager.persist(user("p" + i + "@example.com", User.Role.PROVIDER)));
+            profile.setCompanyName("Company " + i);
+            profile.setCreatedAt(BASE.plusMinutes(i));
+            entityManager.persist(profile);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+    }
+
+    @Test
+    void requestPages() {
+        Specification<ServiceRequest> listed = (root, query, cb) ->
+                cb.notEqual(root.get("status"), ServiceRequest.Status.DELETED);
+
+        Page<ServiceRequestRepository.RequestListItem> page =
+                serviceRequestRepository.findAll(listed, ServiceRequestRepository.RequestListItem.class, NEWEST_FIRST);
+        assertStatements(2);
+        // Unassigned requests are listed too: the provider id is read off the row, not joined
+        assertThat(page.getTotalElements()).isEqualTo(ROWS);
+        assertThat(page.getContent()).extracting(ServiceRequestRepository.RequestListItem::getAssignedProviderId)
+                .containsExactly(provider.getId(), null, provider.getId());
+        assertThat(page.getContent()).allMatch(item -> item.getClientId().equals(client.getId()));
+
+        CursorPage<ServiceRequestRepository.RequestListItem> scrolled =
+                serviceRequestRepository.scroll(listed, ServiceRequestRepository.RequestListItem.class, null, 3, false);
+        assertStatements(1);
+        assertThat(scrolled.getItems()).hasSize(3);
+
+        CursorPage<ServiceRequestRepository.RequestListItem> next = serviceRequestRepository.scroll(
+                listed, ServiceRequestRepository.RequestListItem.class, scrolled.getNextCursor(), 3, false);
+        assertStatements(1);
+        assertThat(next.getItems()).extracting(ServiceRequestRepository.RequestListItem::getTitle)
+                .containsExactly("Request 1", "Request 0");
+    }
+
+    @Test
+    void notificationPages() {
+        Specification<Notification> mine = (root, query, cb) -> cb.equal(root.get("user"), client);
+
+        Page<NotificationRepository.NotificationListItem> page =
+                notificationRepository.findAll(mine, NotificationRepository.NotificationListItem.class, NEWEST_FIRST);
+        assertStatements(2);
+        assertThat(page.getContent()).hasSize(3);
+        assertThat(page.getContent().get(0).getParams()).containsEntry("requestTitle", "Request 4");
+
+        notificationRepository.scroll(mine, NotificationRepository.NotificationListItem.class, null, 3, true);
+        assertStatements(2);
+
+        List<NotificationRepository.NotificationListItem> feed =
+                notificationRepository.findUnreadByLatestEvent(client.getId(), BASE, PageRequest.of(0, 3));
+        assertStatements(1);
+        assertThat(feed).extracting(NotificationRepository.NotificationListItem::getSeq).containsExactly(5L, 4L, 3L);
+
+        List<NotificationRepository.NotificationListItem> replay =
+                notificationRepository.findReplayRange(client.getId(), 2L, BASE, PageRequest.of(0, 10));
+        assertStatements(1);
+        assertThat(replay).extracting(NotificationRepository.NotificationListItem::getSeq).containsExactly(3L, 4L, 5L);
+    }
+
+    @Test
+    void userPages() {
+        Slice<UserRepository.UserListItem> slice = userRepository.findAllBy(PageRequest.of(0, 3));
+        assertStatements(1);
+        assertThat(slice.getContent()).hasSize(3);
+        assertThat(slice.hasNext()).isTrue();
+
+        userRepository.scroll(null, UserRepository.UserListItem.class, null, 3, false);
+        assertStatements(1);
+    }
+
+    @Test
+    void providerPages() {
+        Page<ServiceProviderRepository.ProviderListItem> page = serviceProviderRepository.findAll(null,
+                ServiceProviderRepository.ProviderListItem.class, PageRequest.of(0, 3));
+        assertStatements(2);
+        assertThat(page.getTotalElements()).isEqualTo(ROWS);
+
+        CursorPage<ServiceProviderRepository.ProviderListItem> scrolled = serviceProviderRepository.scroll(null,
+                ServiceProviderRepository.ProviderListItem.class, null, ROWS, false);
+        assertStatements(1);
+        assertThat(scrolled.getItems()).extracting(ServiceProviderRepository.ProviderListItem::getCompanyName)
+                .containsExactly("Company 4", "Company 3", "Company 2", "Company 1", "Company 0");
+        assertThat(scrolled.getItems().get(4).getUserId()).isEqualTo(provider.getId());
+    }
+
+    private void assertStatements(long expected) {
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(expected);
+        assertThat(statistics.getEntityLoadCount()).isZero();
+        statistics.clear();
+    }
+
+    private ServiceRequest request(int i, User assignedProvider) {
+        ServiceRequest request = new ServiceRequest();
+        request.setClient(client);
+        request.setAssignedProvider(assignedProvider);
+        request.setTitle("Request " + i);
+        request.setStatus(ServiceRequest.Status.OPEN);
+        request.setCreatedAt(BASE.plusMinutes(i));
+        return request;
+    }
+
+    private Notification notification(int i) {
+        Notification notification = new Notification();
+        notification.setUser(client);
+        notification.setType(Notification.Type.PITCH_RECEIVED);
+        notification.setParams(Map.of("requestTitle", "Request " + i));
+        notification.setSeq(i + 1L);
+        notification.setCreatedAt(BASE.plusMinutes(i));
+        notification.setLastEventAt(BASE.plusMinutes(i));
+        return notification;
+    }
+
+    private static User user(String email, User.Role role) {
+        User user = new User();
+        user.setFirstName("Test");
+        user.setEmail(email);
+        user.setPassword("secret");
+        user.setRole(role);
+        user.setAccountStatus(User.AccountStatus.ACTIVE);
+        return user;
+    }
+}
@@ -0,0 +1,116 @@
+package com.example.eventura.repository;
+
+import org.assertj.core.api.SoftAssertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.core.io.ClassPathResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * The composite indexes from V3 and V4 apply to the schema the entities map to, and the planner
+ * picks them for the finders and listings they were written for. H2 stands in for MySQL here, so
+ * this checks each index leads with the right columns rather than MySQL's exact plan.
+ */
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(properties = {
+        // request_daily_stats has a column named day, a keyword in H2
+        "spring.datasource.url=jdbc:h2:mem:indexes;NON_KEYWORDS=DAY",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false"
+})
+class QueryIndexMigrationTest {
+
+    private static final String[] MIGRATIONS = {"V3__query_indexes.sql", "V4__keyset_indexes.sql"};
+    private static final String SINCE = "TIMESTAMP '2024-01-01 00:00:00'";
+    // H2 names the index it scans in a comment after the table, e.g. /* PUBLIC.IDX_FOO: ... */
+    private static final Pattern SCANNED_INDEX = Pattern.compile("/\\* PUBLIC\\.(\\w+)");
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void applyIndexMigrations() throws IOException {
+        for (String migration : MIGRATIONS) {
+            for (String statement : statements(migration)) {
+                jdbcTemplate.execute(statement.replace("CREATE INDEX ", "CREATE INDEX IF NOT EXISTS "));
+            }
+        }
+    }
+
+    @Test
+    void everyMigratedIndexExists() throws IOException {
+        for (String migration : MIGRATIONS) {
+            for (String statement : statements(migration)) {
+                String index = statement.split("\\s+")[2];
+                Integer found = jdbcTemplate.queryForObject(
+                        "SELECT COUNT(*) FROM INFORMATION_SCHEMA.INDEXES WHERE INDEX_NAME = ?",
+                        Integer.class, index.toUpperCase());
+                assertThat(found).as(index).isPositive();
+            }
+        }
+    }
+
+    @Test
+    void findersUseTheCompositeIndexes() {
+        // Finders on a bare foreign key column are left out: on empty tables H2 ties the composite
+        // index with the one it creates for the constraint and takes the latter
+        Map<String, String> plans = new LinkedHashMap<>();
+        plans.put("SELECT * FROM service_requests WHERE service_type = 'DJ' ORDER BY created_at DESC",
+                "idx_service_requests_type_created");
+        plans.put("SELECT * FROM service_requests WHERE status = 'OPEN' ORDER BY created_at DESC",
+                "idx_service_requests_status_created");
+        plans.put("SELECT * FROM service_requests WHERE assigned_provider_id = 1 AND status = 'ASSIGNED'",
+                "idx_service_requests_provider_status");
+        plans.put("SELECT * FROM pitches WHERE request_id = 1 AND status = 'PENDING'",
+                "idx_pitches_request_status");
+        plans.put("SELECT * FROM payments WHERE request_id = 1 ORDER BY created_at DESC LIMIT 1",
+                "idx_payments_request_created");
+        plans.put("SELECT * FROM payments WHERE payment_status = 'RELEASED' ORDER BY created_at DESC",
+                "idx_payments_status_created");
+        plans.put("SELECT * FROM notifications WHERE user_id = 1 AND is_read = FALSE ORDER BY created_at DESC",
+                "idx_notifications_user_read_created");
+        plans.put("SELECT * FROM reports WHERE status = 'PENDING' ORDER BY created_at DESC",
+                "idx_reports_status_created");
+        plans.put("SELECT * FROM users WHERE mobile_number = '555'",
+                "idx_users_mobile_number");
+        // Keyset scrolling seeks below the cursor newest-first
+        for (String table : new String[]{"service_requests", "payments", "users", "service_providers"}) {
+            plans.put("SELECT * FROM " + table + " WHERE created_at <= " + SINCE + " ORDER BY created_at DESC, id DESC",
+                    "idx_" + table + "_created_id");
+        }
+
+        SoftAssertions softly = new SoftAssertions();
+        plans.forEach((query, index) -> softly.assertThat(scannedIndex(query)).as(query).isEqualToIgnoringCase(index));
+        softly.assertAll();
+    }
+
+    private String scannedIndex(String query) {
+        Matcher matcher = SCANNED_INDEX.matcher(jdbcTemplate.queryForObject("EXPLAIN " + query, String.class));
+        return matcher.find() ? matcher.group(1) : null;
+    }
+
+    private static String[] statements(String migration) throws IOException {
+        String sql = new ClassPathResource("db/migration/" + migration).getContentAsString(StandardCharsets.UTF_8);
+        return Arrays.stream(sql.replaceAll("(?m)^--.*$", "").split(";"))
+                .map(String::trim)
+                .filter(statement -> !statement.isEmpty())
+                .toArray(String[]::new);
+    }
+}
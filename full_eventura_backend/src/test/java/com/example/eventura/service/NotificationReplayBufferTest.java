@@ -0,0 +1,112 @@
+package com.example.eventura.service;
+
+import com.example.eventura.dto.response.NotificationResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationReplayBufferTest {
+
+    private static final Long USER_ID = 7L;
+
+    private final NotificationReplayBuffer buffer = new NotificationReplayBuffer();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(buffer, "capacity", 5);
+        ReflectionTestUtils.setField(buffer, "retentionMs", 600_000L);
+    }
+
+    @Test
+    void replaysAContiguousGapOldestFirst() {
+        for (long seq = 1; seq <= 4; seq++) {
+            buffer.record(notification(100 + seq, seq));
+        }
+
+        assertThat(seqs(buffer.since(USER_ID, 1, 4))).containsExactly(2L, 3L, 4L);
+    }
+
+    @Test
+    void nothingMissedIsAnEmptyReplay() {
+        buffer.record(notification(101, 1L));
+
+        assertThat(buffer.since(USER_ID, 1, 1)).isEmpty();
+        assertThat(buffer.since(99L, 5, 5)).isEmpty();
+    }
+
+    @Test
+    void aHoleInTheGapFallsBackToTheDatabase() {
+        buffer.record(notification(101, 1L));
+        buffer.record(notification(103, 3L));
+
+        assertThat(buffer.since(USER_ID, 0, 3)).isNull();
+    }
+
+    @Test
+    void seqsNotYetBufferedFallBackToTheDatabase() {
+        buffer.record(notification(101, 1L));
+        buffer.record(notification(102, 2L));
+
+        // Committed by another instance, or not recorded yet
+        assertThat(buffer.since(USER_ID, 0, 3)).isNull();
+        assertThat(buffer.since(99L, 0, 1)).isNull();
+    }
+
+    @Test
+    void evictedSeqsFallBackToTheDatabase() {
+        for (long seq = 1; seq <= 8; seq++) {
+            buffer.record(notification(100 + seq, seq));
+        }
+
+        assertThat(buffer.since(USER_ID, 1, 8)).isNull();
+        assertThat(seqs(buffer.since(USER_ID, 3, 8))).containsExactly(4L, 5L, 6L, 7L, 8L);
+    }
+
+    @Test
+    void collapsedThreadsAppearOnceAtTheirLatestSeq() {
+        buffer.record(notification(101, 1L));
+        buffer.record(notification(102, 2L));
+        buffer.record(notification(101, 3L));
+
+        List<NotificationResponse> replay = buffer.since(USER_ID, 0, 3);
+
+        assertThat(seqs(replay)).containsExactly(2L, 3L);
+        assertThat(replay).extracting(NotificationResponse::getId).containsExactly(102L, 101L);
+    }
+
+    @Test
+    void expiredEntriesAreDropped() throws InterruptedException {
+        ReflectionTestUtils.setField(buffer, "retentionMs", 1L);
+        buffer.record(notification(101, 1L));
+        Thread.sleep(10);
+
+        buffer.dropExpired();
+
+        assertThat(buffer.since(USER_ID, 0, 1)).isNull();
+    }
+
+    @Test
+    void unsequencedNotificationsAreNotRecorded() {
+        buffer.record(notification(101, null));
+
+        assertThat(buffer.since(USER_ID, 0, 0)).isEmpty();
+        assertThat(buffer.since(USER_ID, 0, 1)).isNull();
+    }
+
+    private static NotificationResponse notification(long id, Long seq) {
+        NotificationResponse response = new NotificationResponse();
+        response.setId(id);
+        response.setUserId(USER_ID);
+        response.setSeq(seq);
+        return response;
+    }
+
+    private static List<Long> seqs(List<NotificationResponse> replay) {
+        assertThat(replay).isNotNull();
+        return replay.stream().map(NotificationResponse::getSeq).toList();
+    }
+}
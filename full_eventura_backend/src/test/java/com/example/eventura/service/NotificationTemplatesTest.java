@@ -0,0 +1,58 @@
+package com.example.eventura.service;
+
+import com.example.eventura.entity.Notification;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Locale;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class NotificationTemplatesTest {
+
+    private final NotificationTemplates templates = new NotificationTemplates();
+
+    @Test
+    void fillsInParams() {
+        String text = templates.render(Notification.Type.PITCH_RECEIVED,
+                Map.of("providerName", "Acme", "requestTitle", "Wedding"), 1, Locale.ENGLISH);
+
+        assertThat(text).isEqualTo("New pitch from Acme for your service request: Wedding");
+    }
+
+    @Test
+    void collapsedNotificationsUseTheManyTemplate() {
+        String text = templates.render(Notification.Type.PITCH_RECEIVED,
+                Map.of("providerName", "Acme", "requestTitle", "Wedding"), 3, Locale.ENGLISH);
+
+        assertThat(text).isEqualTo("3 new pitches for your service request: Wedding, latest from Acme");
+    }
+
+    @Test
+    void typesWithoutAManyTemplateKeepTheSingleOne() {
+        String text = templates.render(Notification.Type.WORK_STARTED,
+                Map.of("providerName", "Acme", "requestTitle", "Wedding"), 2, Locale.ENGLISH);
+
+        assertThat(text).isEqualTo("Provider Acme has started working on your request: Wedding");
+    }
+
+    @Test
+    void missingParamsRenderEmpty() {
+        String text = templates.render(Notification.Type.PITCH_NOT_SELECTED, null, 1, Locale.ENGLISH);
+
+        assertThat(text).isEqualTo("Your pitch for request:  was not selected");
+    }
+
+    @Test
+    void requestedLocalesShareTheBundleTheyResolveTo() {
+        Map<String, String> params = Map.of("requestTitle", "Wedding");
+        for (String tag : new String[]{"en", "en-GB", "fr-CA", "x-unknown", "de-DE-u-co-phonebk"}) {
+            assertThat(templates.render(Notification.Type.PITCH_NOT_SELECTED, params, 1, Locale.forLanguageTag(tag)))
+                    .isEqualTo("Your pitch for request: Wedding was not selected");
+        }
+
+        Map<?, ?> compiled = (Map<?, ?>) ReflectionTestUtils.getField(templates, "compiled");
+        assertThat(compiled).hasSize(1);
+    }
+}
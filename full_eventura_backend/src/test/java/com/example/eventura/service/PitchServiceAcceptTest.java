@@ -0,0 +1,127 @@
+package com.example.eventura.service;
+
+import com.example.eventura.entity.Pitch;
+import com.example.eventura.entity.ServiceRequest;
+import com.example.eventura.entity.User;
+import com.example.eventura.repository.PitchRepository;
+import com.example.eventura.repository.ServiceRequestRepository;
+import com.example.eventura.repository.UserRepository;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Accepting a pitch rejects and notifies every other pending one; their providers have to come
+ * with the pitches rather than one select each.
+ */
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DataJpaTest(properties = {
+        // request_daily_stats has a column named day, a keyword in H2
+        "spring.datasource.url=jdbc:h2:mem:pitches;NON_KEYWORDS=DAY",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.flyway.enabled=false",
+        "spring.jpa.hibernate.ddl-auto=create-drop",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.properties.hibernate.cache.use_second_level_cache=false",
+        "spring.jpa.properties.hibernate.cache.use_query_cache=false",
+        "spring.jpa.properties.hibernate.generate_statistics=true"
+})
+class PitchServiceAcceptTest {
+
+    private static final int PENDING_PITCHES = 30;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private PitchRepository pitchRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private ServiceRequestRepository serviceRequestRepository;
+
+    private final NotificationService notificationService = mock(NotificationService.class);
+    private final List<String> notifiedProviders = new ArrayList<>();
+
+    private PitchService pitchService;
+    private User client;
+    private Pitch accepted;
+
+    @BeforeEach
+    void setUp() {
+        pitchService = new PitchService(pitchRepository, userRepository, serviceRequestRepository, notificationService,
+                mock(WebSocketEventService.class), mock(PaymentService.class), mock(RequestEventService.class));
+        // Reads what the real fan-out reads of each recipient
+        when(notificationService.createNotifications(any(), any(), anyLong(), any())).thenAnswer(invocation -> {
+            Collection<User> users = invocation.getArgument(0);
+            users.forEach(user -> notifiedProviders.add(user.getEmail()));
+            return List.of();
+        });
+
+        client = entityManager.persist(user("client@example.com", User.Role.CLIENT));
+        ServiceRequest request = new ServiceRequest();
+        request.setClient(client);
+        request.setTitle("Wedding");
+        request.setStatus(ServiceRequest.Status.OPEN);
+        entityManager.persist(request);
+        for (int i = 0; i < PENDING_PITCHES; i++) {
+            Pitch pitch = new Pitch();
+            pitch.setRequest(request);
+            pitch.setProvider(entityManager.persist(user("provider" + i + "@example.com", User.Role.PROVIDER)));
+            pitch.setProposedPrice(100.0 + i);
+            entityManager.persist(pitch);
+            if (i == 0) {
+                accepted = pitch;
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void rejectedProvidersAreLoadedWithTheirPitches() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+
+        pitchService.acceptPitch(accepted.getId(), client.getId());
+        entityManager.flush();
+
+        assertThat(notifiedProviders).hasSize(PENDING_PITCHES - 1);
+        assertThat(statistics.getEntityFetchCount()).isZero();
+        // Two selects (the accepted pitch, the pending ones) and the batched updates, not one per pitch
+        assertThat(statistics.getPrepareStatementCount()).isLessThan(10);
+        assertThat(pitchRepository.findByRequestAndStatus(accepted.getRequest(), Pitch.Status.REJECTED))
+                .hasSize(PENDING_PITCHES - 1);
+    }
+
+    private static User user(String email, User.Role role) {
+        User user = new User();
+        user.setFirstName("Test");
+        user.setEmail(email);
+        user.setPassword("secret");
+        user.setRole(role);
+        user.setAccountStatus(User.AccountStatus.ACTIVE);
+        return user;
+    }
+}
@@ -0,0 +1,47 @@
+package com.example.eventura.service;
+
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.atLeastOnce;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+class RequestArchiveServiceTest {
+
+    private final NamedParameterJdbcTemplate jdbcTemplate = mock(NamedParameterJdbcTemplate.class);
+    private final RequestArchiveService archiveService = new RequestArchiveService(jdbcTemplate,
+            mock(TransactionTemplate.class), mock(TotalCountCache.class), mock(AuditLogService.class));
+
+    @Test
+    void archiveNowMovesThePaymentsBeforeRemovingTheRequest() {
+        archiveService.archiveNow(10L);
+
+        ArgumentCaptor<String> statements = ArgumentCaptor.forClass(String.class);
+        ArgumentCaptor<MapSqlParameterSource> params = ArgumentCaptor.forClass(MapSqlParameterSource.class);
+        verify(jdbcTemplate, atLeastOnce()).update(statements.capture(), params.capture());
+
+        List<String> sql = statements.getAllValues();
+        int copied = indexOf(sql, "INSERT INTO payments_archive");
+        int deleted = indexOf(sql, "DELETE FROM payments ");
+        int removed = indexOf(sql, "DELETE FROM service_requests ");
+        assertThat(copied).isNotNegative().isLessThan(deleted);
+        assertThat(deleted).isLessThan(removed);
+        assertThat(params.getAllValues()).allSatisfy(p -> assertThat(p.getValue("ids")).isEqualTo(List.of(10L)));
+    }
+
+    private static int indexOf(List<String> statements, String prefix) {
+        for (int i = 0; i < statements.size(); i++) {
+            if (statements.get(i).startsWith(prefix)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
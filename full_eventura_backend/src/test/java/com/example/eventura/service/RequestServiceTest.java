@@ -0,0 +1,71 @@
+package com.example.eventura.service;
+
+import com.example.eventura.entity.ServiceRequest;
+import com.example.eventura.entity.User;
+import com.example.eventura.repository.ArchivedServiceRequestRepository;
+import com.example.eventura.repository.PaymentRepository;
+import com.example.eventura.repository.ServiceRequestRepository;
+import com.example.eventura.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+
+import java.util.Optional;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+class RequestServiceTest {
+
+    private final ServiceRequestRepository serviceRequestRepository = mock(ServiceRequestRepository.class);
+    private final UserRepository userRepository = mock(UserRepository.class);
+    private final RequestEventService requestEventService = mock(RequestEventService.class);
+    private final RequestArchiveService requestArchiveService = mock(RequestArchiveService.class);
+    private final RequestService requestService = new RequestService(serviceRequestRepository, userRepository,
+            mock(NotificationService.class), mock(WebSocketEventService.class), mock(PaymentRepository.class),
+            mock(PaymentService.class), mock(TotalCountCache.class), mock(ArchivedServiceRequestRepository.class),
+            requestEventService, requestArchiveService);
+
+    @Test
+    void adminDeleteArchivesTheRequestWithItsPayments() {
+        ServiceRequest request = request(10L, user(1L, User.Role.CLIENT));
+        when(serviceRequestRepository.findById(10L)).thenReturn(Optional.of(request));
+        when(userRepository.findById(2L)).thenReturn(Optional.of(user(2L, User.Role.ADMIN)));
+
+        requestService.deleteRequest(10L, 2L);
+
+        verify(requestEventService).requestRemoved(request, 2L);
+        verify(requestArchiveService).archiveNow(10L);
+        verify(serviceRequestRepository, never()).delete(any(ServiceRequest.class));
+    }
+
+    @Test
+    void clientDeleteOnlyMarksTheRequestDeleted() {
+        User client = user(1L, User.Role.CLIENT);
+        ServiceRequest request = request(10L, client);
+        when(serviceRequestRepository.findById(10L)).thenReturn(Optional.of(request));
+        when(userRepository.findById(1L)).thenReturn(Optional.of(client));
+
+        requestService.deleteRequest(10L, 1L);
+
+        verify(serviceRequestRepository).save(request);
+        verifyNoInteractions(requestArchiveService);
+    }
+
+    private static ServiceRequest request(Long id, User client) {
+        ServiceRequest request = new ServiceRequest();
+        request.setId(id);
+        request.setClient(client);
+        request.setStatus(ServiceRequest.Status.OPEN);
+        return request;
+    }
+
+    private static User user(Long id, User.Role role) {
+        User user = new User();
+        user.setId(id);
+        user.setRole(role);
+        return user;
+    }
+}
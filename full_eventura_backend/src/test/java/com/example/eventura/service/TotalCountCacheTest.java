@@ -0,0 +1,97 @@
+package com.example.eventura.service;
+
+import com.example.eventura.entity.Payment;
+import com.example.eventura.entity.User;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.LongSupplier;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class TotalCountCacheTest {
+
+    private final TotalCountCache cache = new TotalCountCache();
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void countsOnceAndThenServesTheCachedTotal() {
+        AtomicInteger queries = new AtomicInteger();
+        LongSupplier count = () -> {
+            queries.incrementAndGet();
+            return 10;
+        };
+
+        assertThat(cache.total(Payment.class, null, count)).isEqualTo(10);
+        assertThat(cache.total(Payment.class, null, count)).isEqualTo(10);
+        assertThat(queries).hasValue(1);
+    }
+
+    @Test
+    void writesAdjustTheUnfilteredAndStatusTotals() {
+        cache.total(Payment.class, null, () -> 10);
+        cache.total(Payment.class, Payment.PaymentStatus.ESCROWED, () -> 4);
+        cache.total(Payment.class, Payment.PaymentStatus.RELEASED, () -> 2);
+
+        cache.created(Payment.class, Payment.PaymentStatus.ESCROWED);
+        cache.statusChanged(Payment.class, Payment.PaymentStatus.ESCROWED, Payment.PaymentStatus.RELEASED);
+        cache.deleted(Payment.class, Payment.PaymentStatus.RELEASED);
+
+        assertThat(cache.total(Payment.class, null, () -> -1)).isEqualTo(10);
+        assertThat(cache.total(Payment.class, Payment.PaymentStatus.ESCROWED, () -> -1)).isEqualTo(4);
+        assertThat(cache.total(Payment.class, Payment.PaymentStatus.RELEASED, () -> -1)).isEqualTo(2);
+    }
+
+    @Test
+    void totalsNeverLoadedAreNotCreatedByWrites() {
+        cache.created(Payment.class, Payment.PaymentStatus.ESCROWED);
+
+        assertThat(cache.total(Payment.class, Payment.PaymentStatus.ESCROWED, () -> 7)).isEqualTo(7);
+    }
+
+    @Test
+    void invalidateDropsEveryTotalOfTheEntityOnly() {
+        cache.total(Payment.class, null, () -> 10);
+        cache.total(Payment.class, Payment.PaymentStatus.ESCROWED, () -> 4);
+        cache.total(User.class, null, () -> 3);
+
+        cache.invalidate(Payment.class);
+
+        assertThat(cache.total(Payment.class, null, () -> 8)).isEqualTo(8);
+        assertThat(cache.total(Payment.class, Payment.PaymentStatus.ESCROWED, () -> 1)).isEqualTo(1);
+        assertThat(cache.total(User.class, null, () -> -1)).isEqualTo(3);
+    }
+
+    @Test
+    void changesInsideATransactionApplyOnlyAfterCommit() {
+        cache.total(Payment.class, null, () -> 10);
+        TransactionSynchronizationManager.initSynchronization();
+
+        cache.created(Payment.class, null);
+        cache.invalidate(User.class);
+        assertThat(cache.total(Payment.class, null, () -> -1)).isEqualTo(10);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(cache.total(Payment.class, null, () -> -1)).isEqualTo(11);
+    }
+
+    @Test
+    void refreshRecountsLoadedTotals() {
+        AtomicInteger rows = new AtomicInteger(10);
+        cache.total(Payment.class, null, rows::get);
+        rows.set(12);
+
+        cache.refresh();
+
+        assertThat(cache.total(Payment.class, null, () -> -1)).isEqualTo(12);
+    }
+}
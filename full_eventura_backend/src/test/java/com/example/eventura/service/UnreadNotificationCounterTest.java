@@ -0,0 +1,148 @@
+package com.example.eventura.service;
+
+import com.example.eventura.dto.response.UnreadCountResponse;
+import com.example.eventura.entity.Announcement;
+import com.example.eventura.entity.User;
+import com.example.eventura.repository.NotificationRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+class UnreadNotificationCounterTest {
+
+    private static final LocalDateTime RETAINED_SINCE = LocalDateTime.of(2024, 1, 1, 0, 0);
+
+    private final NotificationRepository notificationRepository = mock(NotificationRepository.class);
+    private final PartitionMaintenanceService partitionMaintenanceService = mock(PartitionMaintenanceService.class);
+    private final WebSocketEventService webSocketEventService = mock(WebSocketEventService.class);
+    private final AnnouncementService announcementService = mock(AnnouncementService.class);
+    private final UnreadNotificationCounter counter = new UnreadNotificationCounter(notificationRepository,
+            partitionMaintenanceService, webSocketEventService, announcementService);
+
+    private final User alice = user(1L, "alice@example.com");
+    private final User bob = user(2L, "bob@example.com");
+
+    @BeforeEach
+    void setUp() {
+        when(partitionMaintenanceService.notificationsRetainedSince()).thenReturn(RETAINED_SINCE);
+        when(notificationRepository.countByUserIdAndIsReadAndCreatedAtGreaterThanEqual(anyLong(), anyBoolean(), any()))
+                .thenReturn(3L);
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void loadsOnceFromTheDatabase() {
+        assertThat(counter.get(alice)).isEqualTo(3);
+        assertThat(counter.get(alice)).isEqualTo(3);
+
+        verify(notificationRepository, times(1))
+                .countByUserIdAndIsReadAndCreatedAtGreaterThanEqual(1L, false, RETAINED_SINCE);
+    }
+
+    @Test
+    void seedsWithoutHoldingTheMap() {
+        // Another read seeding the same count while this one is still counting, as a concurrent
+        // request would; with the load inside computeIfAbsent this is a recursive update
+        AtomicBoolean first = new AtomicBoolean(true);
+        when(notificationRepository.countByUserIdAndIsReadAndCreatedAtGreaterThanEqual(anyLong(), anyBoolean(), any()))
+                .thenAnswer(invocation -> {
+                    if (first.getAndSet(false)) {
+                        counter.get(alice);
+                        counter.added(List.of(alice));
+                    }
+                    return 3L;
+                });
+
+        assertThat(counter.get(alice)).isEqualTo(4);
+    }
+
+    @Test
+    void writesAdjustLoadedCountsAndPushThem() {
+        counter.get(alice);
+
+        counter.added(List.of(alice, bob));
+        counter.read(alice, 2);
+
+        assertThat(counter.get(alice)).isEqualTo(2);
+        verify(webSocketEventService).sendUnreadCount("alice@example.com", new UnreadCountResponse(4));
+        verify(webSocketEventService).sendUnreadCount("alice@example.com", new UnreadCountResponse(2));
+        verify(webSocketEventService, never()).sendUnreadCount(eq("bob@example.com"), any());
+    }
+
+    @Test
+    void pushedBadgeMatchesTheReadOneIncludingAnnouncements() {
+        when(announcementService.getUnread(alice)).thenReturn(List.of(new Announcement(), new Announcement()));
+
+        assertThat(counter.badge(alice)).isEqualTo(new UnreadCountResponse(5));
+        counter.added(List.of(alice));
+        verify(webSocketEventService).sendUnreadCount("alice@example.com", new UnreadCountResponse(6));
+
+        when(announcementService.getUnread(alice)).thenReturn(List.of());
+        counter.announcementsRead(alice);
+        verify(webSocketEventService).sendUnreadCount("alice@example.com", new UnreadCountResponse(4));
+        assertThat(counter.badge(alice)).isEqualTo(new UnreadCountResponse(4));
+    }
+
+    @Test
+    void countsNeverGoNegative() {
+        counter.get(alice);
+
+        counter.read(alice, 10);
+
+        assertThat(counter.get(alice)).isZero();
+    }
+
+    @Test
+    void adjustmentsWaitForTheCommit() {
+        counter.get(alice);
+        TransactionSynchronizationManager.initSynchronization();
+
+        counter.added(List.of(alice));
+        assertThat(counter.get(alice)).isEqualTo(3);
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        assertThat(counter.get(alice)).isEqualTo(4);
+    }
+
+    @Test
+    void resetReloadsOnTheNextRead() {
+        counter.get(alice);
+        counter.added(List.of(alice));
+
+        counter.reset();
+
+        assertThat(counter.get(alice)).isEqualTo(3);
+        verify(notificationRepository, times(2))
+                .countByUserIdAndIsReadAndCreatedAtGreaterThanEqual(1L, false, RETAINED_SINCE);
+    }
+
+    private static User user(Long id, String email) {
+        User user = new User();
+        user.setId(id);
+        user.setEmail(email);
+        return user;
+    }
+}